@@ -2,9 +2,11 @@ package org.palladiosimulizar.aggregation.aggregators;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
@@ -14,6 +16,7 @@ import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.monitorrepository.MeasurementDrivenAggregation;
 import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
 import org.palladiosimulator.monitorrepository.statisticalcharacterization.StatisticalCharacterizationAggregator;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.simulizar.metrics.PRMRecorder;
@@ -32,6 +35,7 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
     private final StatisticalCharacterizationAggregator aggregator;
     private final NumericalBaseMetricDescription expectedMetric;
     private final int frequencyOfAggregation;
+    private final boolean aggregatesArithmeticMean;
 
     private int measurementsUntilNextAggregation = 0;
 
@@ -60,6 +64,8 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
         super(prmAccess, Objects.requireNonNull(measurementDrivenAggregation).getMeasurementSpecification());
         this.expectedMetric = Objects.requireNonNull(expectedMetric);
         this.aggregator = measurementDrivenAggregation.getStatisticalCharacterization().getAggregator(expectedMetric);
+        // subclasses of the aggregator might compute the mean differently
+        this.aggregatesArithmeticMean = this.aggregator.getClass() == ArithmeticMeanAggregator.class;
         this.frequencyOfAggregation = measurementDrivenAggregation.getFrequency();
         if (this.frequencyOfAggregation < 1) {
             throw new IllegalStateException(
@@ -205,6 +211,28 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
      */
     protected abstract Iterable<MeasuringValue> getDataToAggregate();
 
+    /**
+     * Gets the arithmetic mean of the measurements to be aggregated, provided that it is maintained
+     * incrementally by the subclass. It is only invoked if the statistical characterization of the
+     * associated {@link MeasurementDrivenAggregation} is the arithmetic mean. In this case, the
+     * result is forwarded instead of aggregating the data returned by {@link #getDataToAggregate()}.
+     * <br>
+     * The default implementation returns an empty {@link OptionalDouble}.
+     * 
+     * @param intervalStartTime
+     *            The left bound of the interval, in seconds.
+     * @param intervalEndTime
+     *            The right bound of the interval, in seconds.
+     * @return An {@link OptionalDouble} containing the arithmetic mean (expressed in the default
+     *         unit of the expected metric), or an empty one if it cannot be provided.
+     * @see #getIntervalStartTime()
+     * @see #getIntervalEndTime()
+     */
+    protected OptionalDouble getIncrementalArithmeticMean(final double intervalStartTime,
+            final double intervalEndTime) {
+        return OptionalDouble.empty();
+    }
+
     /**
      * This method has to be implemented by subclasses to collect a new measurement for aggregation.
      * 
@@ -256,7 +284,11 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
      * @param measurement
      *            A {@link MeasuringValue} representing the measurement.
      * @return The corresponding point in time, expressed in terms of an {@link Amount}.
+     * @deprecated The aggregators of this bundle keep the points in time of their measurements in
+     *             a {@link org.palladiosimulator.simulizar.utils.PrimitiveMeasurementBuffer} and do
+     *             not use this method anymore. It is only kept for compatibility.
      */
+    @Deprecated
     protected static Amount<Duration> getPointInTimeOfMeasurement(final MeasuringValue measurement) {
         assert measurement != null;
 
@@ -267,8 +299,18 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
     }
 
     private void aggregate() {
-        MeasuringValue aggregatedData = this.aggregator.aggregateData(getDataToAggregate(), getIntervalStartTime(),
-                getIntervalEndTime(), Optional.empty());
+        final Amount<Duration> intervalStartTime = getIntervalStartTime();
+        final Amount<Duration> intervalEndTime = getIntervalEndTime();
+        if (this.aggregatesArithmeticMean) {
+            final OptionalDouble mean = getIncrementalArithmeticMean(intervalStartTime.doubleValue(SI.SECOND),
+                    intervalEndTime.doubleValue(SI.SECOND));
+            if (mean.isPresent()) {
+                super.updateMeasurementValue(mean.getAsDouble());
+                return;
+            }
+        }
+        MeasuringValue aggregatedData = this.aggregator.aggregateData(getDataToAggregate(), intervalStartTime,
+                intervalEndTime, Optional.empty());
 
         // forward aggregated data (expressed as double in default unit of numerical base metric)
         super.updateMeasurementValue(aggregatedData.getMeasureForMetric(this.expectedMetric)
@@ -1,13 +1,10 @@
 package org.palladiosimulizar.aggregation.aggregators;
 
-import static org.apache.commons.collections15.IteratorUtils.arrayIterator;
-import static org.apache.commons.collections15.IteratorUtils.unmodifiableIterator;
-
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.Objects;
+import java.util.OptionalDouble;
 
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.measurementframework.MeasuringValue;
@@ -15,6 +12,7 @@ import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
 import org.palladiosimulator.monitorrepository.FixedSizeAggregation;
 import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.simulizar.utils.PrimitiveMeasurementBuffer;
 
 /**
  * Implementation of the {@link AbstractMeasurementAggregator} class dedicated to aggregate a fixed
@@ -26,7 +24,7 @@ import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
  */
 public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregator {
 
-    private final InternalBuffer buffer;
+    private final PrimitiveMeasurementBuffer buffer;
 
     /**
      * Initializes a new instance of the {@link FixedSizeMeasurementsAggregator} class with the
@@ -52,7 +50,8 @@ public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregat
         super(Objects.requireNonNull(expectedMetric), Objects.requireNonNull(runtimeMeasurementModel),
                 Objects.requireNonNull(fixedSizeAggregation));
 
-        this.buffer = new InternalBuffer(checkAndGetNumberOfMeasurementsAttribute(fixedSizeAggregation));
+        this.buffer = new PrimitiveMeasurementBuffer(expectedMetric,
+                checkAndGetNumberOfMeasurementsAttribute(fixedSizeAggregation), false);
     }
 
     private static int checkAndGetNumberOfMeasurementsAttribute(final FixedSizeAggregation fixedSizeAggregation) {
@@ -78,94 +77,31 @@ public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregat
 
     @Override
     protected Amount<Duration> getIntervalStartTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getEldestElement());
+        return Amount.valueOf(this.buffer.getEldestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Amount<Duration> getIntervalEndTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getNewestElement());
+        return Amount.valueOf(this.buffer.getNewestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Iterable<MeasuringValue> getDataToAggregate() {
-        return this.buffer;
+        return this.buffer.asMeasurements();
     }
 
     @Override
-    public void clear() {
-        this.buffer.clear();
-    }
-
-    private static final class InternalBuffer implements Iterable<MeasuringValue> {
-
-        // the data container will be used in a circular way
-        private final MeasuringValue[] data;
-        // pointer to the least recent element of the data
-        // that is the element which was added least recently
-        // this is used as base "address" for all data accesses
-        private int eldestElementPointer = 0;
-        private int currentElementCount = 0;
-
-        private InternalBuffer(final int capacity) {
-            assert capacity > 0;
-            this.data = new MeasuringValue[capacity];
-        }
-
-        public int size() {
-            return this.currentElementCount;
-        }
-
-        public int capacity() {
-            return this.data.length;
-        }
-
-        public boolean isFull() {
-            return size() == capacity();
-        }
-
-        public boolean add(final MeasuringValue measuringValue) {
-            if (isFull()) {
-                addFull(measuringValue);
-            } else {
-                addNotFull(measuringValue);
-            }
-            return true;
-        }
-
-        public MeasuringValue getEldestElement() {
-            return this.data[this.eldestElementPointer];
-        }
-
-        private void addFull(final MeasuringValue newElemement) {
-            assert isFull() && newElemement != null;
-
-            this.data[this.eldestElementPointer] = newElemement;
-            // adjust the pointer to the eldest/least recent element
-            this.eldestElementPointer++;
-            this.eldestElementPointer %= capacity();
-            assert this.eldestElementPointer >= 0 && this.eldestElementPointer < capacity();
-        }
-
-        private void addNotFull(final MeasuringValue elementToAdd) {
-            assert !isFull() && elementToAdd != null;
-
-            this.data[this.currentElementCount++] = elementToAdd;
-        }
-
-        public void clear() {
-            Arrays.fill(data, null);
-            this.eldestElementPointer = this.currentElementCount = 0;
-        }
-
-        public MeasuringValue getNewestElement() {
-            return this.data[(this.eldestElementPointer + size() - 1) % capacity()];
-        }
-
-        @Override
-        public Iterator<MeasuringValue> iterator() {
-            return unmodifiableIterator(arrayIterator(this.data));
+    protected OptionalDouble getIncrementalArithmeticMean(final double intervalStartTime,
+            final double intervalEndTime) {
+        if (this.buffer.canComputeArithmeticMean(intervalStartTime, intervalEndTime)) {
+            return OptionalDouble.of(this.buffer.getArithmeticMean(intervalStartTime, intervalEndTime));
         }
+        return OptionalDouble.empty();
+    }
 
+    @Override
+    public void clear() {
+        this.buffer.clear();
     }
 
 }
@@ -1,12 +1,11 @@
 package org.palladiosimulizar.aggregation.aggregators;
 
-import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Objects;
+import java.util.OptionalDouble;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.measurementframework.MeasuringValue;
@@ -14,6 +13,7 @@ import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
 import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
 import org.palladiosimulator.monitorrepository.VariableSizeAggregation;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.simulizar.utils.PrimitiveMeasurementBuffer;
 
 /**
  * Implementation of the {@link AbstractMeasurementAggregator} class dedicated to aggregate a
@@ -26,9 +26,12 @@ import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggregator {
 
     // assume that the consecutive measurements are chronologically ordered
-    private final Deque<MeasuringValue> buffer;
+    private final PrimitiveMeasurementBuffer buffer;
     private final VariableSizeAggregation variableSizeAggregation;
-    private final Amount<Duration> retrospectionLength;
+    // in seconds
+    private final double retrospectionLength;
+
+    private static final int INITIAL_BUFFER_CAPACITY = 16;
 
     private static final Amount<Duration> ZERO_DURATION = Amount.valueOf(0, Duration.UNIT);
 
@@ -57,7 +60,7 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
         super(Objects.requireNonNull(expectedMetric), Objects.requireNonNull(runtimeMeasurementModel),
                 Objects.requireNonNull(variableSizeAggregation));
 
-        this.buffer = new LinkedList<>();
+        this.buffer = new PrimitiveMeasurementBuffer(expectedMetric, INITIAL_BUFFER_CAPACITY, true);
         this.variableSizeAggregation = variableSizeAggregation;
         Measure<Double, Duration> retrospectionMeasure = this.variableSizeAggregation.getRetrospectionLengthAsMeasure();
         if (retrospectionMeasure.compareTo(ZERO_DURATION) <= 0) {
@@ -68,7 +71,7 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
                             + "' attribute of '" + variableSizeAggregation.eClass().getName() + "' with id "
                             + variableSizeAggregation.getId() + " must be positive!");
         }
-        this.retrospectionLength = Amount.valueOf(retrospectionMeasure.getValue(), retrospectionMeasure.getUnit());
+        this.retrospectionLength = retrospectionMeasure.doubleValue(SI.SECOND);
     }
 
     @Override
@@ -78,24 +81,32 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
 
     @Override
     protected boolean aggregationRequired() {
-        return !this.buffer.isEmpty() && !getPointInTimeOfMeasurement(this.buffer.getLast())
-                .minus(this.retrospectionLength).isLessThan(getPointInTimeOfMeasurement(this.buffer.getFirst()));
+        return !this.buffer.isEmpty() && !(this.buffer.getNewestPointInTime()
+                - this.retrospectionLength < this.buffer.getEldestPointInTime());
     }
 
     @Override
     protected Amount<Duration> getIntervalStartTime() {
-        Amount<Duration> result = getIntervalEndTime().minus(this.retrospectionLength);
-        return result.compareTo(ZERO_DURATION) < 0 ? ZERO_DURATION : result;
+        return Amount.valueOf(Math.max(0d, this.buffer.getNewestPointInTime() - this.retrospectionLength), SI.SECOND);
     }
 
     @Override
     protected Amount<Duration> getIntervalEndTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getLast());
+        return Amount.valueOf(this.buffer.getNewestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Iterable<MeasuringValue> getDataToAggregate() {
-        return Collections.unmodifiableCollection(this.buffer);
+        return this.buffer.asMeasurements();
+    }
+
+    @Override
+    protected OptionalDouble getIncrementalArithmeticMean(final double intervalStartTime,
+            final double intervalEndTime) {
+        if (this.buffer.canComputeArithmeticMean(intervalStartTime, intervalEndTime)) {
+            return OptionalDouble.of(this.buffer.getArithmeticMean(intervalStartTime, intervalEndTime));
+        }
+        return OptionalDouble.empty();
     }
 
     @Override
@@ -110,22 +121,15 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
         // in the case of a continuous scope
         // maintain the first measurement prior to the left interval bound
         case CONTINUOUS:
-            MeasuringValue first = this.buffer.peekFirst(); // null if buffer is empty
-            MeasuringValue lastPolled = null;
-            while (first != null && getPointInTimeOfMeasurement(this.buffer.getLast())
-                    .minus(getPointInTimeOfMeasurement(first)).isGreaterThan(this.retrospectionLength)) {
-                lastPolled = this.buffer.pollFirst();
-                first = this.buffer.peekFirst();
-            }
-            if (lastPolled != null) {
-                this.buffer.addFirst(lastPolled);
+            while (this.buffer.size() > 1 && this.buffer.getNewestPointInTime()
+                    - this.buffer.getPointInTime(1) > this.retrospectionLength) {
+                this.buffer.removeFirst();
             }
             break;
         case DISCRETE:
-            while (!this.buffer.isEmpty() && getPointInTimeOfMeasurement(this.buffer.getLast())
-                    .minus(getPointInTimeOfMeasurement(this.buffer.getFirst()))
-                    .isGreaterThan(this.retrospectionLength)) {
-                this.buffer.pollFirst();
+            while (!this.buffer.isEmpty()
+                    && this.buffer.getNewestPointInTime() - this.buffer.getEldestPointInTime() > this.retrospectionLength) {
+                this.buffer.removeFirst();
             }
             break;
         default:
@@ -2,7 +2,9 @@ package org.palladiosimulator.simulizar.elasticity.jobs;
 
 import static org.palladiosimulator.metricspec.constants.MetricDescriptionConstants.RECONFIGURATION_TIME_METRIC_TUPLE;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +30,7 @@ import org.palladiosimulator.simulizar.runtimestate.IRuntimeStateAccessor;
 import org.palladiosimulator.simulizar.runtimestate.AbstractSimuLizarRuntimeState;
 import org.palladiosimulator.simulizar.runtimestate.SimulationCancelationDelegate;
 
+import de.uka.ipd.sdq.simucomframework.SimuComConfig;
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
 import de.uka.ipd.sdq.simucomframework.resources.CalculatorHelper;
 import de.uka.ipd.sdq.statistics.StaticBatchAlgorithm;
@@ -45,15 +48,17 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 
 	private final SimuLizarWorkflowConfiguration configuration;
 
-	private static ReconfigurationTimeAggregatorWithConfidence aggregatorWithConfidence;
-	
-	public static ProbeFrameworkListenerForElasticity probeFrameworkListener;
+	private ReconfigurationTimeAggregatorWithConfidence aggregatorWithConfidence;
 
 	private static int NUMBER_OF_RUNS_LIMIT = 50;
 
 	private static final double ONE_HUNDERT_PERCENT = 100.0;
 
-	private LoadSimuLizarModelsIntoBlackboardJob loadSimuLizarModelsIntoBlackboardJob;
+	/**
+	 * Modulus of the first component of the seed of the random number
+	 * generator, see MRG32k3a.
+	 */
+	private static final long SEED_MODULUS = 4294967087L;
 
 	/**
 	 * Constructor
@@ -61,52 +66,103 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 	 * @param configuration
 	 *            the SimuCom workflow configuration.
 	 */
-	public RunElasticityAnalysisJob(final SimuLizarWorkflowConfiguration configuration,
-			LoadSimuLizarModelsIntoBlackboardJob loadSimuLizarModelsIntoBlackboardJob) {
+	public RunElasticityAnalysisJob(final SimuLizarWorkflowConfiguration configuration) {
 		super();
 		this.configuration = configuration;
-		this.loadSimuLizarModelsIntoBlackboardJob = loadSimuLizarModelsIntoBlackboardJob;
-		aggregatorWithConfidence = null;
 	}
 
 	/**
+	 * Simulates independent runs one after another until the requested
+	 * confidence of the reconfiguration time is reached or the limit of runs
+	 * is exceeded. Each run has its own blackboard, model access and
+	 * simulation configuration. The reconfiguration times of all runs are
+	 * merged into one aggregator.
+	 *
 	 * @see de.uka.ipd.sdq.workflow.IJob#execute(org.eclipse.core.runtime.IProgressMonitor)
 	 */
 	@Override
 	public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
-		int numberOfRuns = 0;
-		while ((aggregatorWithConfidence == null || !aggregatorWithConfidence.isConfidenceReached()) && numberOfRuns++ < NUMBER_OF_RUNS_LIMIT) {
-			LOGGER.info("Elasticity analysis, run No. " + numberOfRuns);
+		final SimuComConfig simuComConfig = this.configuration.getSimuComConfiguration();
+		this.aggregatorWithConfidence = new ReconfigurationTimeAggregatorWithConfidence(new StaticBatchAlgorithm(5, 5),
+				new SampleMeanEstimator(), simuComConfig.getConfidenceLevel() / ONE_HUNDERT_PERCENT,
+				simuComConfig.getConfidenceHalfWidth() / ONE_HUNDERT_PERCENT);
 
-			LOGGER.info("Start job: " + this);
-
-			LOGGER.info("Initialise Simulizar runtime state");
-
-			final List<IConfigurator> configurators = ExtensionHelper.getExecutableExtensions(
-					SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ID,
-					SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ATTRIBUTE);
-			this.setBlackboard(new MDSDBlackboard());
-			loadSimuLizarModelsIntoBlackboardJob.setBlackboard(this.blackboard);
-			loadSimuLizarModelsIntoBlackboardJob.execute(monitor);
-			for (final IConfigurator configurator : configurators) {
-				configurator.configure(this.configuration, this.blackboard);
-			}
+		int numberOfRuns = 0;
+		while (!monitor.isCanceled() && !this.aggregatorWithConfidence.isConfidenceReached()
+				&& numberOfRuns++ < NUMBER_OF_RUNS_LIMIT) {
+			this.executeRun(numberOfRuns, monitor);
+		}
+	}
 
-			this.configuration.setReconfigurationRulesFolder(this.configuration.getReconfigurationRulesFolder());
+	private void executeRun(final int runNumber, final IProgressMonitor monitor)
+			throws JobFailedException, UserCanceledException {
+		LOGGER.info("Elasticity analysis, run No. " + runNumber);
+
+		LOGGER.info("Start job: " + this);
+
+		LOGGER.info("Initialise Simulizar runtime state");
+
+		final SimuLizarWorkflowConfiguration runConfiguration = this.createRunConfiguration(runNumber);
+		final MDSDBlackboard runBlackboard = new MDSDBlackboard();
+		final List<IConfigurator> configurators = ExtensionHelper.getExecutableExtensions(
+				SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ID,
+				SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ATTRIBUTE);
+		final LoadSimuLizarModelsIntoBlackboardJob loadSimuLizarModelsIntoBlackboardJob = new LoadSimuLizarModelsIntoBlackboardJob(
+				runConfiguration);
+		loadSimuLizarModelsIntoBlackboardJob.setBlackboard(runBlackboard);
+		loadSimuLizarModelsIntoBlackboardJob.execute(monitor);
+		for (final IConfigurator configurator : configurators) {
+			configurator.configure(runConfiguration, runBlackboard);
+		}
 
-			// FIXME @Igor: Use ModelAccess instead of
-			// ModelAccessUseOriginalReferences.
-			// After we find a way to copy models so that their links do not
-			// point to intermediary, but
-			// to the models directly.
-			final AbstractSimuLizarRuntimeState runtimeState = new SimuLizarRuntimeStateElasticity(this.configuration,
-					new ModelAccessUseOriginalReferences(this.blackboard),
-					new SimulationCancelationDelegate(monitor::isCanceled));
+		// FIXME @Igor: Use ModelAccess instead of
+		// ModelAccessUseOriginalReferences.
+		// After we find a way to copy models so that their links do not
+		// point to intermediary, but
+		// to the models directly.
+		final AbstractSimuLizarRuntimeState runtimeState = new SimuLizarRuntimeStateElasticity(runConfiguration,
+				new ModelAccessUseOriginalReferences(runBlackboard),
+				new SimulationCancelationDelegate(monitor::isCanceled));
+		try {
 			this.initializeRuntimeStateAccessors(runtimeState);
 			runtimeState.runSimulation();
+		} finally {
 			runtimeState.cleanUp();
-			LOGGER.info("finished job: " + this);
 		}
+		LOGGER.info("finished job: " + this + ", run No. " + runNumber);
+	}
+
+	/**
+	 * Creates the configuration of a single run. Every run gets its own
+	 * SimuComConfig, so that runs do not share their experiment run and
+	 * recorders.
+	 * <p>
+	 * If a fixed seed is used, the first component of the seed is derived from
+	 * the run number: run {@code n} uses {@code (seed + n - 1) mod 4294967087}.
+	 * The first run thus keeps the configured seed, while the following runs
+	 * are independent of each other but still reproducible. Formerly, all runs
+	 * reused the configured seed and thus simulated the same sample path.
+	 * Hence, results of runs after the first one differ from those of earlier
+	 * versions.
+	 * </p>
+	 *
+	 * @param runNumber
+	 *            the number of the run, starting at 1.
+	 * @return the configuration of the run.
+	 */
+	private SimuLizarWorkflowConfiguration createRunConfiguration(final int runNumber) {
+		final Map<String, Object> attributes = new HashMap<String, Object>(this.configuration.getAttributes());
+		if (Boolean.TRUE.equals(attributes.get(SimuComConfig.USE_FIXED_SEED))) {
+			final String seedAttribute = SimuComConfig.FIXED_SEED_PREFIX + 0;
+			final Object seed = attributes.get(seedAttribute);
+			if (seed != null) {
+				attributes.put(seedAttribute,
+						Long.toString((Long.parseLong(seed.toString()) + runNumber - 1) % SEED_MODULUS));
+			}
+		}
+		final SimuLizarWorkflowConfiguration runConfiguration = this.configuration.getClone();
+		runConfiguration.setSimuComConfiguration(new SimuComConfig(attributes, this.configuration.isDebug()));
+		return runConfiguration;
 	}
 
 	private void initializeRuntimeStateAccessors(final AbstractSimuLizarRuntimeState runtimeState) {
@@ -151,8 +207,10 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 		@Override
 		protected void initializeInterpreterListeners(Reconfigurator reconfigurator) {
 			LOGGER.debug("Adding Debug and monitoring interpreter listeners");
-	        this.eventHelper.addObserver(new LogDebugListener());
-	        this.eventHelper.addObserver(new ProbeFrameworkListenerForElasticity(this.getModelAccess(),  this.getModel(), reconfigurator));
+			if (LogDebugListener.isDebugEnabled()) {
+				this.eventHelper.addObserver(new LogDebugListener());
+			}
+			this.eventHelper.addObserver(new ProbeFrameworkListenerForElasticity(this.getModelAccess(),  this.getModel(), reconfigurator));
 		}
 
 	}
@@ -176,12 +234,7 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 				try {
 					final Calculator calculator = this.getCalculatorFactory()
 							.buildReconfigurationTimeCalculator(measuringPoint, probe);
-					calculator.addObserver(RunElasticityAnalysisJob.aggregatorWithConfidence == null ? RunElasticityAnalysisJob.aggregatorWithConfidence = new ReconfigurationTimeAggregatorWithConfidence(
-																								new StaticBatchAlgorithm(5, 5),
-																								new SampleMeanEstimator(), 
-																								this.getSimuComModel().getConfiguration().getConfidenceLevel() / ONE_HUNDERT_PERCENT,
-																								this.getSimuComModel().getConfiguration().getConfidenceHalfWidth() / ONE_HUNDERT_PERCENT) 
-																			: RunElasticityAnalysisJob.aggregatorWithConfidence);
+					calculator.addObserver(RunElasticityAnalysisJob.this.aggregatorWithConfidence);
 				} catch (IllegalArgumentException iae) {
 					LOGGER.info("Tried to add a calculator that already exists");
 				}
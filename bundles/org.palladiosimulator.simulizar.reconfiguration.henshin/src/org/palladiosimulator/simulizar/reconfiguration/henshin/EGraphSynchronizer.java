@@ -0,0 +1,113 @@
+package org.palladiosimulator.simulizar.reconfiguration.henshin;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.henshin.interpreter.EGraph;
+import org.eclipse.emf.henshin.interpreter.impl.EGraphImpl;
+
+/**
+ * Keeps an {@link EGraph} over a model in sync with the model, so that the graph does not have to
+ * be built for each rule application. Like {@link EGraphImpl#EGraphImpl(EObject)}, the graph
+ * contains all objects reachable from the root of the model via containment and cross references.
+ * Objects added to a reference of the containment tree are added to the graph together with the
+ * objects reachable from them when the model notifies about the change. If objects are removed
+ * from a reference, they might still be reachable otherwise, so the graph is rebuilt on its next
+ * use.<br>
+ * Additionally, the synchronizer counts the changes of the model, which allows to detect whether
+ * results obtained on the graph are still valid.
+ */
+final class EGraphSynchronizer extends EContentAdapter {
+
+	private final EObject root;
+	private EGraph graph;
+	// whether objects have been removed from a reference since the graph was built
+	private boolean stale = false;
+	private long version = 0;
+
+	/**
+	 * Creates the graph for the given model and starts listening to its changes.
+	 *
+	 * @param root
+	 *            The root of the model.
+	 */
+	EGraphSynchronizer(final EObject root) {
+		this.root = root;
+		this.graph = new EGraphImpl(root);
+		root.eAdapters().add(this);
+	}
+
+	EObject getRoot() {
+		return this.root;
+	}
+
+	/**
+	 * @return The graph of the model, which is rebuilt if objects have been removed from the model
+	 *         since the last call.
+	 */
+	EGraph getGraph() {
+		if (this.stale) {
+			this.graph = new EGraphImpl(this.root);
+			this.stale = false;
+		}
+		return this.graph;
+	}
+
+	/**
+	 * @return The number of changes of the model since the graph was created.
+	 */
+	long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Stops listening to changes of the model. The graph is no longer kept in sync afterwards.
+	 */
+	void dispose() {
+		this.root.eAdapters().remove(this);
+	}
+
+	@Override
+	public void notifyChanged(final Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+			return;
+		}
+		this.version++;
+		if (!(notification.getFeature() instanceof EReference) || this.stale) {
+			return;
+		}
+		// the graph ignores objects that are already added, e.g., by a rule application; it is
+		// not rebuilt right away, as a rule application might still be in progress
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			this.addGraph(notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			for (final Object object : (Collection<?>) notification.getNewValue()) {
+				this.addGraph(object);
+			}
+			break;
+		case Notification.REMOVE:
+		case Notification.REMOVE_MANY:
+			this.stale = true;
+			break;
+		case Notification.SET:
+		case Notification.UNSET:
+			this.stale = notification.getOldValue() != null;
+			this.addGraph(notification.getNewValue());
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void addGraph(final Object object) {
+		if (object instanceof EObject) {
+			this.graph.addGraph((EObject) object);
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package org.palladiosimulator.simulizar.reconfiguration.henshin;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
@@ -9,20 +11,34 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.henshin.interpreter.EGraph;
 import org.eclipse.emf.henshin.interpreter.Engine;
 import org.eclipse.emf.henshin.interpreter.UnitApplication;
-import org.eclipse.emf.henshin.interpreter.impl.EGraphImpl;
 import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
 import org.eclipse.emf.henshin.interpreter.impl.UnitApplicationImpl;
 import org.eclipse.emf.henshin.model.Module;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.reconfiguration.henshin.modelaccess.HenshinModelAccess;
 import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
 import org.palladiosimulator.simulizar.reconfiguration.AbstractReconfigurator;
-import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
 
 public class HenshinReconfigurator extends AbstractReconfigurator {
 
 	private HenshinModelAccess modelAccess;
-	private SimuLizarWorkflowConfiguration configuration;
+
+	/**
+	 * The engine keeps its caches (e.g., of compiled rule patterns) across the reconfiguration
+	 * checks.
+	 */
+	private final Engine engine = new EngineImpl();
+	private EGraphSynchronizer runtimeMeasurementGraph;
+	private EGraphSynchronizer allocationGraph;
+
+	/**
+	 * Version of the runtime measurement graph at which the analysis of a module did not find a
+	 * match. As the analysis depends on the runtime measurement model only, it is not repeated
+	 * until the model changes. The versions refer to the current graph and are discarded when it is
+	 * rebuilt.
+	 */
+	private final Map<Module, Long> unmatchedAnalysisVersions = new HashMap<Module, Long>();
 
 	/**
 	 * This class' internal LOGGER.
@@ -35,9 +51,14 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 		this.modelAccess.getHenshinRules();
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * The rules analyze the runtime measurement model only, so measurements are
+	 * relevant if Henshin rules have been loaded.
+	 */
 	@Override
-	public void setConfiguration(final SimuLizarWorkflowConfiguration configuration) {
-		this.configuration = configuration;
+	public boolean dependsOn(final RuntimeMeasurement measurement) {
+		return !this.modelAccess.getHenshinRules().isEmpty();
 	}
 
 	/**
@@ -49,7 +70,9 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	private boolean executeReconfiguration(UnitApplication app, Module module) {
 		// Load the measurement model into an EGraph
 		LOGGER.info("Called Henshin reconfiguration engine.");
-		EGraph graph = new EGraphImpl(this.modelAccess.getGlobalPCMModel().getAllocation());
+		this.allocationGraph = getSynchronizedGraph(this.allocationGraph,
+				this.modelAccess.getGlobalPCMModel().getAllocation());
+		EGraph graph = this.allocationGraph.getGraph();
 
 		app.setEGraph(graph);
 
@@ -73,8 +96,19 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	 * @param module
 	 */
 	private boolean analyzeReconfiguration(UnitApplication app, Module module) {
-		// Load the example model into an EGraph:
-		EGraph graph = new EGraphImpl(this.modelAccess.getRuntimeMeasurementModel());
+		EGraphSynchronizer synchronizedGraph = getSynchronizedGraph(this.runtimeMeasurementGraph,
+				this.modelAccess.getRuntimeMeasurementModel());
+		if (synchronizedGraph != this.runtimeMeasurementGraph) {
+			// the version of a rebuilt graph starts at 0 again
+			this.unmatchedAnalysisVersions.clear();
+			this.runtimeMeasurementGraph = synchronizedGraph;
+		}
+		Long unmatchedVersion = this.unmatchedAnalysisVersions.get(module);
+		if (unmatchedVersion != null && unmatchedVersion == this.runtimeMeasurementGraph.getVersion()) {
+			LOGGER.debug("No matching Henshin rule found, runtime measurement model unchanged.");
+			return false;
+		}
+		EGraph graph = this.runtimeMeasurementGraph.getGraph();
 		app.setEGraph(graph);
 
 		// Execute analyze step of rule
@@ -82,13 +116,52 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 
 		if (app.execute(null)) {
 			LOGGER.debug("Found matching Henshin rule.");
+			this.unmatchedAnalysisVersions.remove(module);
 			return true;
 		} else {
 			LOGGER.debug("No matching Henshin rule found.");
+			// the analyze unit might have changed the model itself
+			this.unmatchedAnalysisVersions.put(module, this.runtimeMeasurementGraph.getVersion());
 			return false;
 		}
 	}
 
+	/**
+	 * Gets a graph for the given model that is kept in sync with the model. The graph is only
+	 * rebuilt if the model root has been replaced since the last call.
+	 *
+	 * @param current
+	 *            The synchronizer returned by the previous call, or {@code null}.
+	 * @param root
+	 *            The current root of the model.
+	 * @return A synchronizer for the graph of the model.
+	 */
+	private static EGraphSynchronizer getSynchronizedGraph(EGraphSynchronizer current, EObject root) {
+		if (current != null && current.getRoot() == root) {
+			return current;
+		}
+		if (current != null) {
+			current.dispose();
+		}
+		return new EGraphSynchronizer(root);
+	}
+
+	/**
+	 * Stops synchronizing the graphs with the global allocation and runtime measurement models.
+	 */
+	@Override
+	public void cleanUp() {
+		if (this.allocationGraph != null) {
+			this.allocationGraph.dispose();
+			this.allocationGraph = null;
+		}
+		if (this.runtimeMeasurementGraph != null) {
+			this.runtimeMeasurementGraph.dispose();
+			this.runtimeMeasurementGraph = null;
+		}
+		this.unmatchedAnalysisVersions.clear();
+	}
+
 	@Override
 	public boolean runCheck(EList<? extends ModelTransformation<? extends Object>> checks, EObject monitoredElement) {
 		// TODO Auto-generated method stub
@@ -115,8 +188,7 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	}
 
 	private boolean executeTransformations(List<HenshinModelTransformation> transformations) {
-		Engine engine = new EngineImpl();
-		UnitApplication app = new UnitApplicationImpl(engine);
+		UnitApplication app = new UnitApplicationImpl(this.engine);
 		boolean result = false;
 		for (final HenshinModelTransformation transformation : transformations) {
 			if (analyzeReconfiguration(app, transformation.getModelTransformation())) {
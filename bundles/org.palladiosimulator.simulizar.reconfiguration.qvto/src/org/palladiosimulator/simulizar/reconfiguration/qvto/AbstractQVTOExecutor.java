@@ -1,20 +1,14 @@
 package org.palladiosimulator.simulizar.reconfiguration.qvto;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collector;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.m2m.qvt.oml.BasicModelExtent;
 import org.eclipse.m2m.qvt.oml.ExecutionContext;
 import org.eclipse.m2m.qvt.oml.ExecutionContextImpl;
@@ -22,8 +16,6 @@ import org.eclipse.m2m.qvt.oml.ExecutionDiagnostic;
 import org.eclipse.m2m.qvt.oml.ModelExtent;
 import org.eclipse.m2m.qvt.oml.TransformationExecutor;
 import org.eclipse.m2m.qvt.oml.util.Log;
-import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
-import org.palladiosimulator.runtimemeasurement.util.RuntimeMeasurementSwitch;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.util.ModelTransformationCache;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.util.QVToModelCache;
 /**
@@ -44,35 +36,6 @@ public abstract class AbstractQVTOExecutor {
     private final QVToModelCache availableModels;
     private final ModelTransformationCache transformationCache;
 
- // this switch encapsulates the special treatment of the RuntimeMeasurementModel
-    // to incorporate other special cases, use nested switches within the 'defaultCase(EObject)'
-    // method
-    private static final RuntimeMeasurementSwitch<Collection<EObject>> CREATE_NON_EMPTY_MODEL_ELEMENTS_SWITCH = new RuntimeMeasurementSwitch<Collection<EObject>>() {
-
-        // special treatment for RuntimeMeasurementModel: directly pass contained measurements to
-        // model extent
-        @Override
-        public Collection<EObject> caseRuntimeMeasurementModel(RuntimeMeasurementModel runtimeMeasurementModel) {
-            return new ArrayList<EObject>(runtimeMeasurementModel.getMeasurements());
-        }
-
-        // default case to handle all other models
-        // to incorporate other special treatments, call nested switches inside this method
-        @Override
-        public Collection<EObject> defaultCase(EObject model) {
-            return Collections.singletonList(model);
-        }
-    };
-    
-    /**
-     * Accumulates the model elements and finally creates a basic model extent
-     */
-    private static final Collector<EObject, List<EObject>, ModelExtent> BASIC_MODEL_EXTENT_COLLECTOR = 
-            Collector.of(ArrayList<EObject>::new, 
-                         (List<EObject> acc, EObject t) -> acc.add(t), 
-                         (List<EObject> l, List<EObject> r) -> {l.addAll(r); return l;},
-                         BasicModelExtent::new);
-
     /**
      * Initializes a new instance of the {@link AbstractQVTOExecutor} class with the given
      * parameters.
@@ -251,21 +214,21 @@ public abstract class AbstractQVTOExecutor {
      * @see #doExecution(TransformationData, ExecutionContext, ModelExtent[])
      */
     protected ModelExtent[] setupModelExtents(QvtoModelTransformation transformation) {
-        assert transformation != null && transformation.getTransformationExecutor() != null;
+        // do not obtain an executor here, pooled executors are only returned by executing them
+        assert transformation != null;
 
         ModelExtent[] modelExtents = new ModelExtent[transformation.getParameterCount()];
         // prepare the in/inout params first
         for (TransformationParameterInformation inParams : transformation.getInParameters()) {
-            Collection<EObject> sourceModel = this.availableModels.getModelsByType(inParams.getParameterType());
-            if (sourceModel.isEmpty()) {
-                throw new IllegalStateException("No model in QVTo model cache for "
-                        + (inParams.getParameterIndex() + 1) + ". parameter of transformation '"
-                        + transformation.getTransformationName() + "'");
+            ModelExtent sourceModel = this.availableModels.getModelExtent(inParams.getParameterType())
+                    .orElseThrow(() -> new IllegalStateException("No model in QVTo model cache for "
+                            + (inParams.getParameterIndex() + 1) + ". parameter of transformation '"
+                            + transformation.getTransformationName() + "'"));
+            // the cached extents are reused, but each parameter requires its own extent
+            if (Arrays.asList(modelExtents).contains(sourceModel)) {
+                sourceModel = new BasicModelExtent(sourceModel.getContents());
             }
-            modelExtents[inParams.getParameterIndex()] = sourceModel.stream()
-                    .map(CREATE_NON_EMPTY_MODEL_ELEMENTS_SWITCH::doSwitch)
-                    .flatMap(Collection::stream)
-                    .collect(BASIC_MODEL_EXTENT_COLLECTOR);
+            modelExtents[inParams.getParameterIndex()] = sourceModel;
         }
         // now the pure out params, they need empty model extents
         transformation.getPureOutParameters().stream()
@@ -19,4 +19,13 @@ public class QVTOPoolingModelTransformation extends QvtoModelTransformation {
 	public QVTOTransformationExecutor getTransformationExecutor() {
 		return executorPool.getExecutor();
 	}
+
+	/**
+	 * Gets the pool of executors of this transformation, e.g., to warm it up.
+	 * 
+	 * @return The {@link QVTOTransformationExecutorPool} of this transformation.
+	 */
+	public QVTOTransformationExecutorPool getExecutorPool() {
+		return executorPool;
+	}
 }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.reconfiguration.AbstractReconfigurator;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.util.ModelTransformationCache;
@@ -33,6 +34,12 @@ public class QVTOReconfigurator extends AbstractReconfigurator {
 	 */
 	private QVTOExecutor qvtoExecutor;
 
+	/**
+	 * Whether there are QVTo transformations to check, or {@code null} as long
+	 * as no transformations have been checked.
+	 */
+	private Boolean hasTransformations;
+
     /**
      * QVTO Reconfigurator default constructor.
      * 
@@ -65,6 +72,20 @@ public class QVTOReconfigurator extends AbstractReconfigurator {
 		return this.qvtoExecutor;
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * Which measurements a QVTo transformation reads cannot be determined from
+	 * its parameters, and transformations which do not read the runtime
+	 * measurement model are checked upon measurement changes as well. Hence,
+	 * measurements are only irrelevant if there are no QVTo transformations. As
+	 * long as the transformations have not been checked, all measurements are
+	 * considered.
+	 */
+	@Override
+	public boolean dependsOn(final RuntimeMeasurement measurement) {
+		return this.hasTransformations == null || this.hasTransformations;
+	}
+
 	@Override
 	public boolean runCheck(EList<? extends ModelTransformation<? extends Object>> checks, EObject monitoredElement) {
 		return this.runExecute(checks, monitoredElement);
@@ -83,6 +104,8 @@ public class QVTOReconfigurator extends AbstractReconfigurator {
 				LOGGER.debug("Not a QVTO model transformation.");
 			}
 		}
+		// the transformations are the same for all checks
+		this.hasTransformations = !transformations.isEmpty();
 		boolean result = getQVTOExecutor().executeTransformations(transformations);
 		LOGGER.debug(result ? "Reconfigured system by a matching rule"
 				: "No reconfiguration rule was executed, all conditions were false");
@@ -2,6 +2,7 @@ package org.palladiosimulator.simulizar.reconfiguration.qvto;
 
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -14,6 +15,7 @@ import org.eclipse.m2m.qvt.oml.TransformationExecutor;
 
 public class QVTOTransformationExecutor {
 	private AtomicBoolean inUse = new AtomicBoolean(false);
+	private volatile Consumer<? super QVTOTransformationExecutor> releaseHandler = null;
 	
 	protected TransformationExecutor internalExecutor = null;
 
@@ -38,15 +40,33 @@ public class QVTOTransformationExecutor {
 		if (!this.inUse.compareAndSet(false, true)) {
 			throw new IllegalStateException("This QVTOTransformationExecutor instance is already in use");
 		}
-		ExecutionDiagnostic result = internalExecutor.execute(executionContext, modelParameters);
-		internalExecutor.cleanup();
-		this.inUse.set(false);
-		return result;
+		try {
+			return internalExecutor.execute(executionContext, modelParameters);
+		} finally {
+			internalExecutor.cleanup();
+			this.inUse.set(false);
+			Consumer<? super QVTOTransformationExecutor> handler = this.releaseHandler;
+			if (handler != null) {
+				handler.accept(this);
+			}
+		}
 	}
 	
 	public boolean isInUse() {
 		return this.inUse.get();
 	}
+
+	/**
+	 * Sets the handler that is informed each time an execution of this executor has finished,
+	 * e.g., to return the executor to a pool.
+	 * 
+	 * @param releaseHandler
+	 *            The handler, or {@code null} if none shall be informed.
+	 * @see org.palladiosimulator.simulizar.reconfiguration.qvto.util.QVTOTransformationExecutorPool
+	 */
+	public void setReleaseHandler(Consumer<? super QVTOTransformationExecutor> releaseHandler) {
+		this.releaseHandler = releaseHandler;
+	}
 	
 	protected void setUpInternalExecutor(URI uri, Optional<EPackage.Registry> registry) {
 		if (registry.isPresent()) {
@@ -15,6 +15,7 @@ public class QvtoReconfigurationLoader implements IReconfigurationLoader {
 
 	private SimuLizarWorkflowConfiguration configuration;
 	private List<ModelTransformation<? extends Object>> transformations;
+	private ModelTransformationCache transformationCache;
 
 	public QvtoReconfigurationLoader() {}
 
@@ -33,10 +34,17 @@ public class QvtoReconfigurationLoader implements IReconfigurationLoader {
 		if (transformations == null) {
 			this.transformations = new ArrayList<ModelTransformation<? extends Object>>();
 			URI[] qvtoFiles = FileUtil.getQvtoFiles(this.configuration.getReconfigurationRulesFolder());
-			ModelTransformationCache transformationCache = new ModelTransformationCache(qvtoFiles);
-			transformationCache.getAll().forEach(t -> this.transformations.add(t));
+			this.transformationCache = new ModelTransformationCache(qvtoFiles);
+			this.transformationCache.getAll().forEach(t -> this.transformations.add(t));
 		}
 		return this.transformations;
 	}
 
+	@Override
+	public void prepareTransformations() {
+		getTransformations();
+		// compile each rule once, so that the first check does not have to
+		this.transformationCache.warmUp(1);
+	}
+
 }
@@ -0,0 +1,58 @@
+package org.palladiosimulator.simulizar.reconfiguration.qvto.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.m2m.qvt.oml.ModelExtent;
+
+/**
+ * {@link ModelExtent} that is kept by the {@link QVToModelCache} across transformation executions.
+ * Its contents are an unmodifiable view of the model elements it was created for, so that no
+ * elements have to be copied to set up a transformation. If a transformation sets different
+ * contents (e.g., for an 'inout' parameter), the extent is considered modified and is no longer
+ * reused.
+ *
+ * @see QVToModelCache#getModelExtent(org.eclipse.emf.ecore.EPackage)
+ */
+final class CachedModelExtent implements ModelExtent {
+
+    private final List<EObject> modelElements;
+    private List<EObject> contents;
+
+    /**
+     * Initializes a new instance of the {@link CachedModelExtent} class.
+     *
+     * @param modelElements
+     *            The model elements that make up the extent. The list is not copied, so that
+     *            changes of the list are reflected by the extent.
+     */
+    CachedModelExtent(final List<EObject> modelElements) {
+        this.modelElements = Collections.unmodifiableList(Objects.requireNonNull(modelElements));
+        this.contents = this.modelElements;
+    }
+
+    @Override
+    public List<EObject> getContents() {
+        return this.contents;
+    }
+
+    @Override
+    public void setContents(final List<? extends EObject> newContents) {
+        if (!this.contents.equals(newContents)) {
+            this.contents = Collections.unmodifiableList(new ArrayList<EObject>(newContents));
+        }
+    }
+
+    /**
+     * Indicates whether the contents of this extent were changed by a transformation.
+     *
+     * @return {@code true} if the contents no longer correspond to the model elements the extent
+     *         was created for, {@code false} otherwise.
+     */
+    boolean isModified() {
+        return this.contents != this.modelElements;
+    }
+}
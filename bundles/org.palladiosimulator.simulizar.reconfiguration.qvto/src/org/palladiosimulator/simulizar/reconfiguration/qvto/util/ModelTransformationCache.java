@@ -1,20 +1,21 @@
 package org.palladiosimulator.simulizar.reconfiguration.qvto.util;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
+import org.palladiosimulator.simulizar.reconfiguration.qvto.QVTOPoolingModelTransformation;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.QvtoModelTransformation;
 
 /**
  * This cache implementation is used to store QVTo transformations (in terms of
  * {@link TransformationData} objects) that can be executed by QVTo executors
  * during reconfigurations. To store a transformation in the cache, its
- * corresponding {@link URI} is used as tag.
+ * corresponding {@link URI} is used as tag. The cache may be accessed concurrently.
  * 
  * @author Florian Rosenthal
  *
@@ -22,7 +23,7 @@ import org.palladiosimulator.simulizar.reconfiguration.qvto.QvtoModelTransformat
 public class ModelTransformationCache {
 
 	// cache is backed by map: use URI of transformation as key/tag
-	private final Map<URI, QvtoModelTransformation> cache;
+	private final ConcurrentMap<URI, QvtoModelTransformation> cache;
 	private final ModelTransformationFactory modelTransformationFactory;
 
 	private static final Logger LOGGER = Logger.getLogger(ModelTransformationCache.class);
@@ -36,7 +37,7 @@ public class ModelTransformationCache {
 	 */
 	@SafeVarargs
 	public ModelTransformationCache(URI... initialTransformations) {
-		this.cache = new HashMap<>();
+		this.cache = new ConcurrentHashMap<>();
 		this.modelTransformationFactory = new ModelTransformationFactory();
 		store(initialTransformations);
 	}
@@ -56,12 +57,10 @@ public class ModelTransformationCache {
 	public final void store(URI... transformationUris) {
 		URI[] uris = Objects.requireNonNull(transformationUris);
 		for (URI transformationUri : uris) {
-			if (contains(transformationUri)) {
+			if (contains(transformationUri) || this.cache.putIfAbsent(transformationUri,
+					createModelTransformation(transformationUri)) != null) {
 				throw new IllegalArgumentException("Transformation " + transformationUri + " already in store.");
 			}
-			LOGGER.debug("Cache reconfiguration rule \"" + transformationUri + "\"");
-			this.cache.put(transformationUri,
-					this.modelTransformationFactory.createModelTransformation(transformationUri));
 		}
 	}
 
@@ -78,13 +77,28 @@ public class ModelTransformationCache {
 	 * @see #contains(URI)
 	 */
 	public Optional<QvtoModelTransformation> get(URI transformationUri) {
-		if (!this.contains(transformationUri)){
-			this.store(transformationUri);
+		return Optional.ofNullable(
+				this.cache.computeIfAbsent(Objects.requireNonNull(transformationUri), this::createModelTransformation));
+	}
+
+	/**
+	 * Compiles each stored transformation for the given number of executors in advance, so that
+	 * the transformations are not compiled when they are executed for the first time.
+	 * 
+	 * @param numberOfExecutors
+	 *            The number of executors to prepare per transformation.
+	 * @see QVTOTransformationExecutorPool#warmUp(int)
+	 */
+	public void warmUp(int numberOfExecutors) {
+		for (QvtoModelTransformation transformation : this.cache.values()) {
+			if (transformation instanceof QVTOPoolingModelTransformation) {
+				((QVTOPoolingModelTransformation) transformation).getExecutorPool().warmUp(numberOfExecutors);
+			}
 		}
-		return Optional.ofNullable(this.cache.get(Objects.requireNonNull(transformationUri)));
 	}
     /**
      * Removes the QVTo transformations specified by the given URIs from this cache, if present.
+     * The executors pooled for them are evicted.
      * 
      * @param transformationUris
      *            A set of {@link URI URIs} that point to QVTo transformations.
@@ -94,7 +108,8 @@ public class ModelTransformationCache {
     @SafeVarargs
     public final void remove(URI... transformationUris) {
         URI[] uris = Objects.requireNonNull(transformationUris);
-        Arrays.stream(uris).map(Objects::requireNonNull).forEach(this.cache::remove);
+        Arrays.stream(uris).map(Objects::requireNonNull).map(this.cache::remove).filter(Objects::nonNull)
+                .forEach(ModelTransformationCache::evictExecutors);
     }
 
 	/**
@@ -124,9 +139,21 @@ public class ModelTransformationCache {
 	}
 
 	/**
-	 * Clears the cache, that is, all content is discarded.
+	 * Clears the cache, that is, all content is discarded and the pooled executors are evicted.
 	 */
 	public void clear() {
+		this.cache.values().forEach(ModelTransformationCache::evictExecutors);
 		this.cache.clear();
 	}
+
+	private static void evictExecutors(QvtoModelTransformation transformation) {
+		if (transformation instanceof QVTOPoolingModelTransformation) {
+			((QVTOPoolingModelTransformation) transformation).getExecutorPool().evict();
+		}
+	}
+
+	private QvtoModelTransformation createModelTransformation(URI transformationUri) {
+		LOGGER.debug("Cache reconfiguration rule \"" + transformationUri + "\"");
+		return this.modelTransformationFactory.createModelTransformation(transformationUri);
+	}
 }
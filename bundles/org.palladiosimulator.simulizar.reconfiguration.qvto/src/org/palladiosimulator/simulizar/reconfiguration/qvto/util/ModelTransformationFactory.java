@@ -56,7 +56,8 @@ public class ModelTransformationFactory {
 
     /**
      * Factory method the create {@link TransformationData} for the QVTo transformation specified by
-     * the given URI.
+     * the given URI. As the transformations are loaded into a shared resource set, calls are
+     * serialized.
      * 
      * @param transformationUri
      *            A {@link URI} that points to a QVTo transformation.
@@ -67,7 +68,7 @@ public class ModelTransformationFactory {
      * @throws NullPointerException
      *             In case the given {@code transformationURI} is {@code null}.
      */
-    public QvtoModelTransformation createModelTransformation(URI transformationUri) {
+    public synchronized QvtoModelTransformation createModelTransformation(URI transformationUri) {
         // the EObject transformation should be the first in in the content list
         Resource transformationResource = this.resourceSet.getResource(Objects.requireNonNull(transformationUri), true);
         OperationalTransformation transformation = null;
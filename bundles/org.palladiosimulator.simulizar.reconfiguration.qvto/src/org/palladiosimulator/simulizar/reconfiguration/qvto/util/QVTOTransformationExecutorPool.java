@@ -1,36 +1,188 @@
 package org.palladiosimulator.simulizar.reconfiguration.qvto.util;
 
-import java.lang.ref.Reference;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.Diagnostic;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.QVTOTransformationExecutor;
 
+/**
+ * Bounded pool of {@link QVTOTransformationExecutor}s for a single transformation. Executors handed
+ * out by {@link #getExecutor()} return to the pool as soon as their execution has finished, so
+ * that the compiled transformation is reused. The pool keeps at most {@link #getCapacity()}
+ * executors; if all of them are in use, additional executors are created which are discarded after
+ * their execution.<br>
+ * Executors are only removed from the pool by an explicit call to {@link #evict()}. Executors that
+ * are in use at that time are discarded as soon as their execution has finished.<br>
+ * The pool counts how many requests were served by an idle executor and how many required a new
+ * one, see {@link #getHitCount()} and {@link #getMissCount()}. The counts are logged on eviction.
+ * 
+ * @see #warmUp(int)
+ */
 public class QVTOTransformationExecutorPool {
-	private final Collection<SoftReference<QVTOTransformationExecutor>> availableExecutors;
-	private final ReferenceQueue<QVTOTransformationExecutor> collectedExecutors;
-	
+
+	/**
+	 * The default maximum number of executors kept by a pool, i.e., the number of available
+	 * processors.
+	 */
+	public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors();
+
+	private static final Logger LOGGER = Logger.getLogger(QVTOTransformationExecutorPool.class);
+
+	private final Queue<QVTOTransformationExecutor> idleExecutors;
+	// number of executors owned by the pool, whether idle or in use
+	private final AtomicInteger pooledExecutorCount;
+	private final int capacity;
+	// incremented on each eviction, executors of former generations are not returned to the pool
+	private final AtomicInteger generation;
+	private final LongAdder hits;
+	private final LongAdder misses;
+
 	protected final Supplier<QVTOTransformationExecutor> executorSupplier;
-	
+
 	public QVTOTransformationExecutorPool(Supplier<QVTOTransformationExecutor> executorSupplier) {
-		availableExecutors = new LinkedList<SoftReference<QVTOTransformationExecutor>>();
-		collectedExecutors = new ReferenceQueue<QVTOTransformationExecutor>();
+		this(executorSupplier, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Initializes a new instance of the {@link QVTOTransformationExecutorPool} class.
+	 * 
+	 * @param executorSupplier
+	 *            Creates the executors of the transformation.
+	 * @param capacity
+	 *            The maximum number of executors kept by the pool.
+	 * @throws IllegalArgumentException
+	 *             In case {@code capacity < 1}.
+	 */
+	public QVTOTransformationExecutorPool(Supplier<QVTOTransformationExecutor> executorSupplier, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity of executor pool must be positive.");
+		}
+		this.idleExecutors = new ConcurrentLinkedQueue<QVTOTransformationExecutor>();
+		this.pooledExecutorCount = new AtomicInteger();
+		this.capacity = capacity;
+		this.generation = new AtomicInteger();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
 		this.executorSupplier = executorSupplier;
 	}
-	
+
+	/**
+	 * Gets an executor that is not in use. If there is no idle executor in the pool, a new one is
+	 * created.
+	 * 
+	 * @return A {@link QVTOTransformationExecutor} which is ready to execute the transformation.
+	 */
 	public QVTOTransformationExecutor getExecutor() {
-		for (Reference<? extends QVTOTransformationExecutor> ref = collectedExecutors.poll(); ref != null; ref = collectedExecutors.poll()) {
-			availableExecutors.remove(ref);
+		QVTOTransformationExecutor executor = this.idleExecutors.poll();
+		if (executor != null) {
+			this.hits.increment();
+			return executor;
+		}
+		this.misses.increment();
+		return reserveSlot() ? createPooledExecutor() : this.executorSupplier.get();
+	}
+
+	/**
+	 * Creates executors and compiles the transformation for each of them, until the pool contains
+	 * the given number of executors (or has reached its capacity). This avoids compiling the
+	 * transformation when it is executed for the first time.
+	 * 
+	 * @param numberOfExecutors
+	 *            The number of executors the pool shall contain.
+	 */
+	public void warmUp(int numberOfExecutors) {
+		while (this.pooledExecutorCount.get() < numberOfExecutors && reserveSlot()) {
+			QVTOTransformationExecutor executor = createPooledExecutor();
+			Diagnostic diagnostic = executor.loadTransformation();
+			if (diagnostic.getSeverity() != Diagnostic.OK) {
+				LOGGER.warn("Transformation could not be compiled in advance: " + diagnostic.getMessage());
+			}
+			this.idleExecutors.offer(executor);
+		}
+	}
+
+	/**
+	 * Removes all executors from the pool. Idle executors are removed immediately, executors that
+	 * are currently in use are discarded when their execution has finished.
+	 */
+	public void evict() {
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Evicting " + this.pooledExecutorCount.get() + " executors, " + getHitCount()
+					+ " requests served by an idle executor, " + getMissCount() + " requests required a new one");
+		}
+		this.generation.incrementAndGet();
+		for (QVTOTransformationExecutor executor = this.idleExecutors.poll(); executor != null; executor = this.idleExecutors
+				.poll()) {
+			executor.setReleaseHandler(null);
+			this.pooledExecutorCount.decrementAndGet();
 		}
-		return availableExecutors.stream().map(ref -> ref.get()).filter(ref -> ref != null).filter(exec -> !exec.isInUse()).findFirst()
-			.orElseGet(() -> {
-				QVTOTransformationExecutor exec = executorSupplier.get();
-				availableExecutors.add(new SoftReference<QVTOTransformationExecutor>(exec, collectedExecutors));
-				return exec;
-			});
 	}
 
+	/**
+	 * @return The maximum number of executors kept by this pool.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * @return The number of executors currently owned by this pool, whether idle or in use.
+	 */
+	public int getSize() {
+		return this.pooledExecutorCount.get();
+	}
+
+	/**
+	 * @return The number of calls of {@link #getExecutor()} that were served by an idle executor.
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return The number of calls of {@link #getExecutor()} that required a new executor.
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	private boolean reserveSlot() {
+		int count;
+		do {
+			count = this.pooledExecutorCount.get();
+			if (count >= this.capacity) {
+				return false;
+			}
+		} while (!this.pooledExecutorCount.compareAndSet(count, count + 1));
+		return true;
+	}
+
+	private QVTOTransformationExecutor createPooledExecutor() {
+		QVTOTransformationExecutor executor;
+		try {
+			executor = this.executorSupplier.get();
+		} catch (RuntimeException e) {
+			// release the reserved slot
+			this.pooledExecutorCount.decrementAndGet();
+			throw e;
+		}
+		final int executorGeneration = this.generation.get();
+		executor.setReleaseHandler(releasedExecutor -> release(releasedExecutor, executorGeneration));
+		return executor;
+	}
+
+	private void release(QVTOTransformationExecutor executor, int executorGeneration) {
+		if (executorGeneration == this.generation.get()) {
+			this.idleExecutors.offer(executor);
+		} else {
+			// the executor has been evicted while it was in use
+			executor.setReleaseHandler(null);
+			this.pooledExecutorCount.decrementAndGet();
+		}
+	}
 }
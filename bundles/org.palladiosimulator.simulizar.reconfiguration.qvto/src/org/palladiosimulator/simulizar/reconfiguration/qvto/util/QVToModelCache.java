@@ -1,7 +1,9 @@
 package org.palladiosimulator.simulizar.reconfiguration.qvto.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -9,17 +11,19 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreSwitch;
+import org.eclipse.m2m.qvt.oml.ModelExtent;
 import org.palladiosimulator.analyzer.workflow.jobs.PreparePCMBlackboardPartitionJob;
 import org.palladiosimulator.commons.eclipseutils.ExtensionHelper;
 import org.palladiosimulator.metricspec.MetricSpecPackage;
 import org.palladiosimulator.pcm.resourcetype.ResourcetypePackage;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.runtimemeasurement.util.RuntimeMeasurementSwitch;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
 
@@ -38,6 +42,10 @@ public class QVToModelCache {
 
     // use a map: EPackage, i.e, meta-model serves as key/tag
     private final Map<EPackage, Set<EObject>> cache;
+    // index of the stored models by the namespace URI of their meta-model
+    private final Map<String, Set<EObject>> namespaceIndex;
+    // model extents that are reused across transformation executions, by namespace URI
+    private final Map<String, CachedModelExtent> modelExtents;
     
     private final IModelAccess modelAccess;
 
@@ -67,6 +75,26 @@ public class QVToModelCache {
         }
     };
 
+    // this switch encapsulates the special treatment of the RuntimeMeasurementModel
+    // to incorporate other special cases, use nested switches within the 'defaultCase(EObject)'
+    // method
+    private static final RuntimeMeasurementSwitch<List<EObject>> MODEL_EXTENT_ELEMENTS_SWITCH = new RuntimeMeasurementSwitch<List<EObject>>() {
+
+        // special treatment for RuntimeMeasurementModel: directly pass contained measurements to
+        // model extent, the list reflects measurements that are added or removed later on
+        @Override
+        public List<EObject> caseRuntimeMeasurementModel(RuntimeMeasurementModel runtimeMeasurementModel) {
+            return Collections.<EObject> unmodifiableList(runtimeMeasurementModel.getMeasurements());
+        }
+
+        // default case to handle all other models
+        // to incorporate other special treatments, call nested switches inside this method
+        @Override
+        public List<EObject> defaultCase(EObject model) {
+            return Collections.singletonList(model);
+        }
+    };
+
     /**
      * Initializes a new instance of the {@link QVToModelCache} class.
      * 
@@ -80,6 +108,8 @@ public class QVToModelCache {
      */
     public QVToModelCache(IModelAccess modelAccess) {
         this.cache = new HashMap<>();
+        this.namespaceIndex = new HashMap<>();
+        this.modelExtents = new HashMap<>();
         this.modelAccess = Objects.requireNonNull(modelAccess, "modelAccess must not be null.");
         storeBlackboardModels();
     }
@@ -93,6 +123,8 @@ public class QVToModelCache {
      */
     private QVToModelCache(QVToModelCache from) {
         this.cache = new HashMap<>();
+        this.namespaceIndex = new HashMap<>();
+        this.modelExtents = new HashMap<>();
         this.modelAccess = from.modelAccess;
         Objects.requireNonNull(from);
         from.cache.values().stream().flatMap(Collection::stream).forEach(this::storeModel);
@@ -119,13 +151,11 @@ public class QVToModelCache {
             if (modelInstance.equals(metaModel))
                 return;
             
-            //Optional.ofNullable(this.namespaceIndex.get(metaModel.getNsURI())
-            Optional.ofNullable(this.cache.get(metaModel))
-                .orElseGet(() -> 
-                {
-                    this.cache.put(metaModel, new HashSet<>());
-                    return this.cache.get(metaModel);
-                }).add(modelInstance);
+            this.cache.computeIfAbsent(metaModel, key -> new HashSet<>()).add(modelInstance);
+            if (this.namespaceIndex.computeIfAbsent(metaModel.getNsURI(), key -> new HashSet<>())
+                    .add(modelInstance)) {
+                this.modelExtents.remove(metaModel.getNsURI());
+            }
         }
     }
 
@@ -168,7 +198,7 @@ public class QVToModelCache {
      */
     public void removeModelOfType(EPackage metaModel) {
         if (metaModel != null) {
-            this.cache.remove(metaModel);
+            Optional.ofNullable(this.cache.remove(metaModel)).ifPresent(this::removeFromNamespaceIndex);
         }
     }
 
@@ -181,7 +211,10 @@ public class QVToModelCache {
      */
     public void removeModel(EObject model) {
         if (model != null) {
-            this.cache.get(MODELTYPE_RETRIEVER.doSwitch(model)).remove(model);
+            Set<EObject> models = this.cache.get(MODELTYPE_RETRIEVER.doSwitch(model));
+            if (models != null && models.remove(model)) {
+                removeFromNamespaceIndex(Collections.singleton(model));
+            }
         }
     }
 
@@ -190,6 +223,8 @@ public class QVToModelCache {
      */
     public void clear() {
         this.cache.clear();
+        this.namespaceIndex.clear();
+        this.modelExtents.clear();
     }
 
     /**
@@ -216,13 +251,43 @@ public class QVToModelCache {
      */
     public Collection<EObject> getModelsByType(EPackage ePackage) {
         String namespace = Objects.requireNonNull(ePackage.getNsURI());
-        Collection<EPackage> res =  this.cache.keySet().stream()
-                .filter(key -> key.getNsURI().equals(namespace)).collect(Collectors.toList());
-        Collection<Set<EObject>> result = res.stream()
-                .map(this.cache::get).collect(Collectors.toList());
-        return result.stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        return new ArrayList<>(this.namespaceIndex.getOrDefault(namespace, Collections.emptySet()));
+    }
+
+    /**
+     * Gets a model extent that contains the currently stored models which are instances of the
+     * meta-model represented by the given ePackage. In case of a {@link RuntimeMeasurementModel},
+     * the extent contains its measurements.<br>
+     * The extent is kept across calls and reflects the elements added to or removed from the
+     * stored models. It is replaced only if models of the given type are stored or removed, or if
+     * a transformation set different contents.
+     * 
+     * @param ePackage
+     *            An {@link EPackage} that describes a meta-model.
+     * @return A {@link ModelExtent} for the models of the given type, or an empty {@link Optional}
+     *         if none could be found.
+     * @throws NullPointerException
+     *             In case {@code ePackage == null}.
+     * @see #getModelsByType(EPackage)
+     */
+    public Optional<ModelExtent> getModelExtent(EPackage ePackage) {
+        String namespace = Objects.requireNonNull(ePackage.getNsURI());
+        CachedModelExtent modelExtent = this.modelExtents.get(namespace);
+        if (modelExtent == null || modelExtent.isModified()) {
+            Set<EObject> models = this.namespaceIndex.get(namespace);
+            if (models == null || models.isEmpty()) {
+                return Optional.empty();
+            }
+            if (models.size() == 1) {
+                modelExtent = new CachedModelExtent(MODEL_EXTENT_ELEMENTS_SWITCH.doSwitch(models.iterator().next()));
+            } else {
+                List<EObject> modelElements = new ArrayList<>();
+                models.stream().map(MODEL_EXTENT_ELEMENTS_SWITCH::doSwitch).forEach(modelElements::addAll);
+                modelExtent = new CachedModelExtent(modelElements);
+            }
+            this.modelExtents.put(namespace, modelExtent);
+        }
+        return Optional.of(modelExtent);
     }
 
     /**
@@ -238,7 +303,18 @@ public class QVToModelCache {
      * @see #getModelsByType(EPackage)
      */
     public boolean containsModelOfType(EPackage ePackage) {
-        return this.cache.containsKey(Objects.requireNonNull(ePackage));
+        Set<EObject> models = this.namespaceIndex.get(Objects.requireNonNull(ePackage).getNsURI());
+        return models != null && !models.isEmpty();
+    }
+
+    private void removeFromNamespaceIndex(Collection<EObject> models) {
+        for (EObject model : models) {
+            String namespace = MODELTYPE_RETRIEVER.doSwitch(model).getNsURI();
+            Set<EObject> modelsOfNamespace = this.namespaceIndex.get(namespace);
+            if (modelsOfNamespace != null && modelsOfNamespace.remove(model)) {
+                this.modelExtents.remove(namespace);
+            }
+        }
     }
 
     private void storeBlackboardModels() {
@@ -85,23 +85,11 @@ public class SDExecutor {
         super();
         this.globalPcmResourceSetPartition = modelAccessFactory.getGlobalPCMModel();
         this.runtimeMeasurementModel = modelAccessFactory.getRuntimeMeasurementModel();
-        try {
-            this.sdmInterpreter = new StoryDrivenEclipseInterpreter(this.getClass().getClassLoader());
-        } catch (final SDMException e) {
-            throw new RuntimeException("Unable to inialise SD interpreter engine", e);
-        }
+        this.sdmInterpreter = createInterpreter();
         this.sdNotificationReceiver = new SDReconfigurationNotificationReceiver<Activity, ActivityNode, ActivityEdge, StoryPattern, AbstractVariable, AbstractLinkVariable, EClassifier, EStructuralFeature, Expression>(
                 this.sdmInterpreter.getFacadeFactory());
         this.sdmInterpreter.getNotificationEmitter().addNotificationReceiver(this.sdNotificationReceiver);
 
-        if (LOGGER.isDebugEnabled()) {
-            this.sdmInterpreter
-                    .getNotificationEmitter()
-                    .addNotificationReceiver(
-                            new OutputStreamNotificationReceiver<Activity, ActivityNode, ActivityEdge, StoryPattern, AbstractVariable, AbstractLinkVariable, EClassifier, EStructuralFeature, Expression>(
-                                    this.sdmInterpreter.getFacadeFactory()));
-        }
-
         this.staticParameters = this.createParameter();
     }
     
@@ -116,24 +104,34 @@ public class SDExecutor {
         super();
         this.globalPcmResourceSetPartition = modelAccess.getGlobalPCMModel();
         this.runtimeMeasurementModel = modelAccess.getRuntimeMeasurementModel();
-        try {
-            this.sdmInterpreter = new StoryDrivenEclipseInterpreter(this.getClass().getClassLoader());
-        } catch (final SDMException e) {
-            throw new RuntimeException("Unable to inialise SD interpreter engine", e);
-        }
+        this.sdmInterpreter = createInterpreter();
         this.sdNotificationReceiver = new SDReconfigurationNotificationReceiver<Activity, ActivityNode, ActivityEdge, StoryPattern, AbstractVariable, AbstractLinkVariable, EClassifier, EStructuralFeature, Expression>(
                 this.sdmInterpreter.getFacadeFactory());
         this.sdmInterpreter.getNotificationEmitter().addNotificationReceiver(this.sdNotificationReceiver);
 
+        this.staticParameters = this.createParameter();
+    }
+
+    /**
+     * Creates the interpreter, which is used for all activity executions of this executor.
+     * 
+     * @return the interpreter.
+     */
+    private static StoryDrivenEclipseInterpreter createInterpreter() {
+        final StoryDrivenEclipseInterpreter interpreter;
+        try {
+            interpreter = new StoryDrivenEclipseInterpreter(SDExecutor.class.getClassLoader());
+        } catch (final SDMException e) {
+            throw new RuntimeException("Unable to inialise SD interpreter engine", e);
+        }
         if (LOGGER.isDebugEnabled()) {
-            this.sdmInterpreter
+            interpreter
                     .getNotificationEmitter()
                     .addNotificationReceiver(
                             new OutputStreamNotificationReceiver<Activity, ActivityNode, ActivityEdge, StoryPattern, AbstractVariable, AbstractLinkVariable, EClassifier, EStructuralFeature, Expression>(
-                                    this.sdmInterpreter.getFacadeFactory()));
+                                    interpreter.getFacadeFactory()));
         }
-
-        this.staticParameters = this.createParameter();
+        return interpreter;
     }
 
     /**
@@ -197,6 +195,24 @@ public class SDExecutor {
      *         model.
      */
     public boolean executeTransformations(List<SDModelTransformation> transformations, final EObject monitoredElement) {
+        return this.executeTransformations(transformations, monitoredElement, false);
+    }
+
+    /**
+     * Executes the activities for the given monitored element, in the given order.
+     * 
+     * @param transformations
+     *            the activities to execute.
+     * @param monitoredElement
+     *            the pcm model element to be monitored.
+     * @param stopAfterReconfiguration
+     *            if true, the remaining activities are skipped as soon as an activity reconfigured
+     *            the model.
+     * @return true if at least one reconfiguration's check was positive and it reconfigured the
+     *         model.
+     */
+    public boolean executeTransformations(List<SDModelTransformation> transformations, final EObject monitoredElement,
+            final boolean stopAfterReconfiguration) {
         final EObject returnvalue = EcoreFactory.eINSTANCE.create(BOOLEAN_ECLASS);
         final Variable<EClassifier> monitoredElementParameter = new Variable<EClassifier>(MONITORED_ELEMENT,
                 EOBJECT_ECLASS, monitoredElement);
@@ -211,7 +227,10 @@ public class SDExecutor {
             try {
                 LOGGER.debug("Trying to execute Story Diagram " + transformation.getModelTransformation().getName() + ".");
                 result |= this.executeActivity(transformation.getModelTransformation(), paramterList);
-
+                if (result && stopAfterReconfiguration) {
+                    LOGGER.debug("Skipping remaining Story Diagrams, the model has already been reconfigured.");
+                    break;
+                }
             } catch (final SDMException e) {
                 LOGGER.error("SD failed", e);
                 throw new RuntimeException("SD interpretation failed", e);
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.reconfiguration.AbstractReconfigurator;
 import org.palladiosimulator.simulizar.reconfiguration.storydiagram.modelaccess.StoryDiagramModelAccess;
@@ -66,7 +67,10 @@ public class SDReconfigurator extends AbstractReconfigurator {
 			}
 		}
 
-		return executeTransformations(monitoredElement, transformations);
+		// optionally, a single reconfiguration answers the check and the remaining rules are
+		// checked next time
+		return executeTransformations(monitoredElement, transformations,
+				this.configuration != null && this.configuration.isStopCheckAfterReconfiguration());
 	}
 
 	@Override
@@ -85,18 +89,29 @@ public class SDReconfigurator extends AbstractReconfigurator {
 			}
 		}
 
-		return executeTransformations(monitoredElement, activities);
+		return executeTransformations(monitoredElement, activities, false);
 	}
 	
 	@Override
 	public void setModelAccess(IModelAccess modelAccess) {
 		this.modelAccessFactory = new StoryDiagramModelAccess(modelAccess, this.configuration);
 	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Measurements are only relevant if story diagrams have been loaded.
+	 */
+	@Override
+	public boolean dependsOn(final RuntimeMeasurement measurement) {
+		return !((StoryDiagramModelAccess) this.modelAccessFactory).getStoryDiagrams().isEmpty();
+	}
 	
-	private boolean executeTransformations(final EObject monitoredElement, ArrayList<SDModelTransformation> transformations) {
+	private boolean executeTransformations(final EObject monitoredElement, ArrayList<SDModelTransformation> transformations,
+			final boolean stopAfterReconfiguration) {
 		if (!transformations.isEmpty()) {
 			LOGGER.info("Checking reconfiguration rules due to RuntimeMeasurement change");
-			final boolean result = this.getSDExecutor().executeTransformations(transformations, monitoredElement);
+			final boolean result = this.getSDExecutor().executeTransformations(transformations, monitoredElement,
+					stopAfterReconfiguration);
 			LOGGER.info(result ? "Reconfigured system by a matching rule"
 					: "No reconfiguration rule was executed, all conditions were false");
 			return result;
@@ -2,6 +2,7 @@ package org.palladiosimulator.simulizar.reconfiguration.storydiagrams.exploratio
 
 import java.io.IOException;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,12 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 		this.configuration = configuration;
 	}
 
+	/**
+	 * Simulates the states of the reachability graph one after another. The
+	 * models of a state are only copied right before it is simulated. If the
+	 * simulation of a state shows no SLO violations, the remaining states are
+	 * not simulated anymore.
+	 */
 	@Override
 	public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
 		final ResourceSetPartition resourceSetPartition = this.blackboard
@@ -90,9 +97,13 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 		Map<String, Object> attributes = new TreeMap<String, Object>(configuration.getAttributes());
 		attributes.put("variationId", Calendar.getInstance().getTime().toString());
 
+		final long[] durationsMillis = new long[reachabilityGraph.size()];
+		int simulatedStates = 0;
+		boolean withoutSloViolations = false;
 		// List<PCMStartInterpretationJob> simuLizarJobs;
 		int j = 0;
 		for (final EObject stepGraph : reachabilityGraph) {
+			final long start = System.currentTimeMillis();
 			final StepGraph models = ((StepGraph) stepGraph);
 			final PCMResourceSetPartition pcmPartition = new PCMResourceSetPartition();
 			pcmPartition.initialiseResourceSetEPackages(AbstractPCMWorkflowRunConfiguration.PCM_EPACKAGES);
@@ -101,8 +112,10 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 			String modelsDirectory = temporaryDataLocation + "/model/PCM_partition_state_" + j++;
 			URI modelURI = URI.createFileURI(modelsDirectory);
 
-			for (int i = 0; i < models.getContainedNodes().size(); i++) {
-				final EObject model = EcoreUtil.copy(models.getContainedNodes().get(i));
+			// copy all models at once, so that references between them point
+			// to the copies
+			final Collection<? extends EObject> stateModels = EcoreUtil.copyAll(models.getContainedNodes());
+			for (final EObject model : stateModels) {
 				final Resource resource = pcmPartition.getResourceSet()
 						.createResource(URI.createFileURI(modelsDirectory + model.hashCode()));
 				Diagnostic diagnostic = Diagnostician.INSTANCE.validate(model);
@@ -163,10 +176,32 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 			// executed. The state has reached, where no SLOs are violated.
 			NullProgressMonitor simulizarJobMonitor = new NullProgressMonitor();
 			super.execute(simulizarJobMonitor);
+			durationsMillis[simulatedStates++] = System.currentTimeMillis() - start;
 			if (simulizarJobMonitor.isCanceled()) {
+				withoutSloViolations = true;
 				break;
 			}
 		}
+
+		logScalabilityReport(durationsMillis, simulatedStates, withoutSloViolations, attributes.get("variationId"));
+	}
+
+	/**
+	 * Logs the duration of all simulated states as one report.
+	 */
+	private static void logScalabilityReport(final long[] durationsMillis, final int simulatedStates,
+			final boolean withoutSloViolations, final Object variationId) {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("Scalability analysis ").append(variationId).append(":");
+		for (int j = 0; j < simulatedStates; j++) {
+			sb.append("\n\tState ").append(j).append(":\t").append(durationsMillis[j]).append(" ms");
+		}
+		sb.append("\n\t").append(simulatedStates).append(" of ").append(durationsMillis.length)
+				.append(" states simulated");
+		if (withoutSloViolations) {
+			sb.append(", state ").append(simulatedStates - 1).append(" shows no SLO violations");
+		}
+		LOGGER.info(sb.toString());
 	}
 
 	/**
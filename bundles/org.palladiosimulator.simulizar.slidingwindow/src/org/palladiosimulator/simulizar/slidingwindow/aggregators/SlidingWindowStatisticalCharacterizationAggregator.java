@@ -1,32 +1,58 @@
 package org.palladiosimulator.simulizar.slidingwindow.aggregators;
 
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
 import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.measurementframework.listener.IMeasurementSourceListener;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
 import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.monitorrepository.StatisticalCharacterization;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
 import org.palladiosimulator.monitorrepository.statisticalcharacterization.StatisticalCharacterizationAggregator;
 import org.palladiosimulator.recorderframework.IRecorder;
+import org.palladiosimulator.simulizar.utils.PrimitiveMeasurementBuffer;
 
 /**
  * Specialization of the {@link SlidingWindowAggregator} which is devoted to aggregate the
  * measurements collected by a sliding window (usually at simulation-time) in a statistical manner.
+ * <br>
+ * Arithmetic means are maintained incrementally: if this aggregator is registered as observer of
+ * the measurement source of the window, it receives the measurements as they are added to the
+ * window in a {@link PrimitiveMeasurementBuffer} which updates the mean on arrival and on
+ * eviction, instead of iterating over the complete window data whenever the window is full. If
+ * the buffer does not correspond to the window data, e.g., because this aggregator is not
+ * registered, it is refilled from the window data. The mean is maintained by compensated
+ * summation, so it agrees with the one computed over the complete window data up to a few units in
+ * the last place, see {@link PrimitiveMeasurementBuffer}. The
+ * {@link StatisticalCharacterizationAggregator} is used whenever the incrementally maintained mean
+ * is not applicable.
  * 
  * @see StatisticalCharacterization
  * 
  * @author Florian Rosenthal
  *
  */
-public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingWindowAggregator {
+public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingWindowAggregator
+        implements IMeasurementSourceListener {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 16;
 
     private final StatisticalCharacterizationAggregator aggregator;
+    private final PrimitiveMeasurementBuffer windowBuffer;
 
     /**
      * Initializes a new instance of the {@link SlidingWindowStatisticalCharacterizationAggregator}
@@ -40,6 +66,7 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
      */
     public SlidingWindowStatisticalCharacterizationAggregator(final StatisticalCharacterizationAggregator aggregator) {
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.windowBuffer = createWindowBuffer(aggregator);
     }
 
     /**
@@ -59,6 +86,7 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
         super(recorderToWriteInto);
 
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.windowBuffer = createWindowBuffer(aggregator);
     }
 
     /**
@@ -80,6 +108,7 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
             final StatisticalCharacterizationAggregator aggregator) {
         super(recordersToWriteInto);
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.windowBuffer = createWindowBuffer(aggregator);
     }
 
     /**
@@ -92,14 +121,130 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
         return this.aggregator.getDataMetric();
     }
 
+    /**
+     * {@inheritDoc}<br>
+     * This implementation collects the measurement if the arithmetic mean is maintained
+     * incrementally.
+     */
+    @Override
+    public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+        if (this.windowBuffer != null) {
+            this.windowBuffer.add(newMeasurement);
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation does nothing.
+     */
+    @Override
+    public void preUnregister() {
+    }
+
     @Override
     protected final MeasuringValue processWindowData(final Iterable<MeasuringValue> windowData,
             final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
 
+        if (this.windowBuffer != null) {
+            double lowerBoundValue = windowLeftBound.doubleValue(SI.SECOND);
+            double upperBoundValue = lowerBoundValue + windowLength.doubleValue(SI.SECOND);
+            this.windowBuffer.evictPriorTo(lowerBoundValue);
+            if (this.synchronizeWindowBuffer(windowData)
+                    && this.windowBuffer.canComputeArithmeticMean(lowerBoundValue, upperBoundValue)) {
+                MeasuringValue meanMeasurement = createMeasurement(windowData.iterator().next().getMetricDesciption(),
+                        windowLeftBound, this.windowBuffer.getArithmeticMean(lowerBoundValue, upperBoundValue));
+                if (meanMeasurement != null) {
+                    return meanMeasurement;
+                }
+            }
+        }
+
         Amount<Duration> leftBound = Amount.valueOf(windowLeftBound.getValue(), windowLeftBound.getUnit());
         Amount<Duration> length = Amount.valueOf(windowLength.getValue(), windowLength.getUnit());
         Amount<Duration> rightBound = leftBound.plus(length);
 
         return this.aggregator.aggregateData(windowData, leftBound, rightBound, Optional.of(length));
     }
+
+    private static PrimitiveMeasurementBuffer createWindowBuffer(
+            final StatisticalCharacterizationAggregator aggregator) {
+        // subclasses might aggregate differently
+        if (aggregator.getClass() == ArithmeticMeanAggregator.class) {
+            return new PrimitiveMeasurementBuffer(aggregator.getDataMetric(), INITIAL_BUFFER_CAPACITY, true);
+        }
+        return null;
+    }
+
+    /**
+     * Checks in constant time whether the buffered measurements correspond to the given window
+     * data, by comparing the number of measurements as well as the points in time of the eldest and
+     * the newest one. If they do not, the buffer is refilled from the window data.
+     * 
+     * @return {@code false} if the window data does not provide its size and its newest
+     *         measurement in constant time, i.e., it is neither a {@link List} nor a {@link Deque}.
+     *         In this case, the buffer is left as it is and must not be used.
+     */
+    private boolean synchronizeWindowBuffer(final Iterable<MeasuringValue> windowData) {
+        final int windowDataSize;
+        final MeasuringValue newestMeasurement;
+        if (windowData instanceof List) {
+            final List<MeasuringValue> windowDataList = (List<MeasuringValue>) windowData;
+            windowDataSize = windowDataList.size();
+            newestMeasurement = windowDataSize > 0 ? windowDataList.get(windowDataSize - 1) : null;
+        } else if (windowData instanceof Deque) {
+            final Deque<MeasuringValue> windowDataDeque = (Deque<MeasuringValue>) windowData;
+            windowDataSize = windowDataDeque.size();
+            newestMeasurement = windowDataDeque.peekLast();
+        } else {
+            return false;
+        }
+        boolean synchronous = windowDataSize == this.windowBuffer.size();
+        if (synchronous && windowDataSize > 0) {
+            synchronous = Double.compare(getPointInTime(windowData.iterator().next()),
+                    this.windowBuffer.getEldestPointInTime()) == 0
+                    && Double.compare(getPointInTime(newestMeasurement),
+                            this.windowBuffer.getNewestPointInTime()) == 0;
+        }
+        if (!synchronous) {
+            this.windowBuffer.clear();
+            for (final MeasuringValue measurement : windowData) {
+                this.windowBuffer.add(measurement);
+            }
+        }
+        return true;
+    }
+
+    private static double getPointInTime(final MeasuringValue measurement) {
+        final Measure<Double, Duration> pointInTime = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.doubleValue(SI.SECOND);
+    }
+
+    /**
+     * Creates the aggregation result directly, as a measurement with the same metric as the window
+     * data which is taken at the left bound of the window.
+     * 
+     * @return The measurement, or {@code null} if the metric of the window data does not consist
+     *         of the point in time and the data metric only.
+     */
+    private MeasuringValue createMeasurement(final MetricDescription windowDataMetric,
+            final Measure<Double, Duration> pointInTime, final double value) {
+        if (!(windowDataMetric instanceof MetricSetDescription)) {
+            return null;
+        }
+        List<MetricDescription> subsumedMetrics = ((MetricSetDescription) windowDataMetric).getSubsumedMetrics();
+        Measure<?, ?>[] measures = new Measure<?, ?>[subsumedMetrics.size()];
+        for (int i = 0; i < measures.length; i++) {
+            if (MetricDescriptionUtility.metricDescriptionIdsEqual(subsumedMetrics.get(i),
+                    MetricDescriptionConstants.POINT_IN_TIME_METRIC)) {
+                measures[i] = pointInTime;
+            } else if (MetricDescriptionUtility.metricDescriptionIdsEqual(subsumedMetrics.get(i),
+                    this.aggregator.getDataMetric())) {
+                measures[i] = Measure.valueOf(value, this.aggregator.getDataMetric().getDefaultUnit());
+            } else {
+                return null;
+            }
+        }
+        return new TupleMeasurement((MetricSetDescription) windowDataMetric, measures);
+    }
 }
@@ -131,5 +131,7 @@ public class SlidingWindowProbeFrameWorkListenerDecorator extends AbstractRecord
         }
 
         super.registerMeasurementsRecorder(calculator, new SlidingWindowRecorder(window, windowAggregator));
+        // lets the aggregator maintain its statistics incrementally
+        calculator.addObserver(windowAggregator);
     }
 }
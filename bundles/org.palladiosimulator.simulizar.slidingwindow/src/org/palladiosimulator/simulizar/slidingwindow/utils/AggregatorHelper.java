@@ -82,6 +82,8 @@ public final class AggregatorHelper {
                     .addObserver(new SlidingWindowRecorder(new SimulizarSlidingWindow(
                             aggregation.getWindowLengthAsMeasure(), aggregation.getWindowIncrementAsMeasure(),
                             expectedMetric, moveOnStrategy, Objects.requireNonNull(model)), windowAggregator));
+            // lets the aggregator maintain its statistics incrementally
+            calculator.addObserver(windowAggregator);
 
             // forward to PRM (i.e., RuntimeMeasurementModel)
             windowAggregator.addRecorder(
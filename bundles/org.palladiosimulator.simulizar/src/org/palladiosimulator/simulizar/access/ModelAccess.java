@@ -5,17 +5,14 @@ import java.util.List;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EcorePackage;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
 import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
-import org.palladiosimulator.commons.emfutils.EMFCopyHelper;
 import org.palladiosimulator.monitorrepository.MonitorRepository;
 import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
 import org.palladiosimulator.pcm.PcmPackage;
@@ -46,9 +43,8 @@ public class ModelAccess implements IModelAccess {
     private boolean isObservingPcmChanges = false;
     private PCMResourceSetPartition currentPCMCopy;
     private boolean modelsDirty = false;
+    private final PCMModelSnapshotEngine snapshotEngine;
 
-
-    
     /**
      * A log listener which logs all changes in the global PCM model.
      */
@@ -65,6 +61,7 @@ public class ModelAccess implements IModelAccess {
                     LOGGER.debug("Detected change in global PCM model. Changed object: " + notification.getNotifier());
                     LOGGER.debug(notification.toString());
                 }
+                ModelAccess.this.snapshotEngine.recordChange(notification.getNotifier());
                 ModelAccess.this.modelsDirty = true;
             }
         }
@@ -96,6 +93,7 @@ public class ModelAccess implements IModelAccess {
         this.runtimeMeasurementModel = RuntimeMeasurementFactory.eINSTANCE.createRuntimeMeasurementModel();
         this.pcmPartition = this.getResourceSetPartition(blackboard,
                 LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID);
+        this.snapshotEngine = new PCMModelSnapshotEngine(this.pcmPartition);
         this.currentPCMCopy = this.copyPCMPartition();
     }
 
@@ -103,6 +101,7 @@ public class ModelAccess implements IModelAccess {
         this.blackboard = copy.blackboard;
         this.runtimeMeasurementModel = copy.runtimeMeasurementModel;
         this.pcmPartition = copy.pcmPartition;
+        this.snapshotEngine = copy.snapshotEngine;
         // make sure that model is consistent before creating copy.
         copy.checkAndHandleDeferredChanges();
         this.currentPCMCopy = copy.currentPCMCopy;
@@ -158,18 +157,15 @@ public class ModelAccess implements IModelAccess {
     }
 
     /**
-     * @return a copy of the global PCM modelling partition
+     * @return a copy of the global PCM modelling partition. Only resources which changed since the
+     *         last copy (or which reference changed resources) are copied, all other resources are
+     *         shared with the previous copy.
+     * @see PCMModelSnapshotEngine
      */
     // FIXME @Igor: Return the access level back to private when ModelAccessUseOriginalReferences is not needed anymore.
     protected PCMResourceSetPartition copyPCMPartition() {
         LOGGER.debug("Take a new copy of the global PCM for new simulation threads");
-        final PCMResourceSetPartition newPartition = new PCMResourceSetPartition();
-        final List<EObject> modelCopy = EMFCopyHelper.deepCopyToEObjectList(this.pcmPartition.getResourceSet());
-        for (int i = 0; i < modelCopy.size(); i++) {
-            final Resource resource = newPartition.getResourceSet().createResource(URI.createFileURI("/temp" + i));
-            resource.getContents().add(modelCopy.get(i));
-        }
-        return newPartition;
+        return this.snapshotEngine.takeSnapshot();
     }
 
     @Override
@@ -0,0 +1,42 @@
+package org.palladiosimulator.simulizar.access;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+
+/**
+ * Read-only copy of the global PCM models as produced by the {@link PCMModelSnapshotEngine}.
+ * Snapshots of successive versions share the copies of all resources which did not change in
+ * between. A shared resource remains contained in the resource set of the snapshot it was created
+ * for, but is listed in the resource sets of all later snapshots sharing it as well. Thus, the
+ * resource set of every snapshot lists all of its resources, regardless of newer snapshots.
+ */
+public class PCMModelSnapshot extends PCMResourceSetPartition {
+
+    private final long version;
+
+    PCMModelSnapshot(final long version) {
+        super();
+        this.version = version;
+    }
+
+    /**
+     * @return the version of this snapshot. Versions increase strictly monotonically with every
+     *         snapshot taken of the global model.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Lists a resource of a previous snapshot in the resource set of this snapshot. Unlike adding
+     * it to the resources of the resource set, this does not move the resource out of the resource
+     * set of the previous snapshot.
+     *
+     * @param sharedResource
+     *            the resource to share.
+     */
+    void addSharedResource(final Resource sharedResource) {
+        ((InternalEList<Resource>) this.getResourceSet().getResources()).basicAdd(sharedResource, null);
+    }
+}
@@ -0,0 +1,213 @@
+package org.palladiosimulator.simulizar.access;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+
+/**
+ * Creates versioned {@link PCMModelSnapshot}s of the global PCM partition. Instead of deep copying
+ * the whole resource set for every snapshot, the engine keeps track of the resources which changed
+ * since the last snapshot and copies only these. The copies of all other resources are shared with
+ * the previous snapshot.
+ *
+ * A resource has to be copied again if it changed itself, or if it references (directly or
+ * transitively) a resource which has been copied again, as its copy would otherwise point to
+ * outdated copies. The required reference information is collected while copying.
+ *
+ * The engine is not thread-safe. It is meant to be driven by the model change listener of
+ * {@link ModelAccess} and the simulation thread requesting local model copies.
+ */
+class PCMModelSnapshotEngine {
+
+    private static final Logger LOGGER = Logger.getLogger(PCMModelSnapshotEngine.class);
+
+    private final PCMResourceSetPartition globalPartition;
+
+    /** Copiers of the latest snapshot, keyed by the original resource they copied. */
+    private final Map<Resource, ResourceCopier> copiers = new HashMap<Resource, ResourceCopier>();
+
+    /** Resources referenced by the copy of an original resource, keyed by the referencing resource. */
+    private final Map<Resource, Set<Resource>> dependencies = new HashMap<Resource, Set<Resource>>();
+
+    private final Set<Resource> changedResources = new HashSet<Resource>();
+    private boolean fullCopyRequired = true;
+    private long version = 0;
+    private long resourceCounter = 0;
+
+    PCMModelSnapshotEngine(final PCMResourceSetPartition globalPartition) {
+        this.globalPartition = globalPartition;
+    }
+
+    /**
+     * Records a change of the given notifier. The resource containing the notifier is copied again
+     * when the next snapshot is taken.
+     *
+     * @param notifier
+     *            the notifier of a change notification of the global PCM model.
+     */
+    void recordChange(final Object notifier) {
+        Resource resource = null;
+        if (notifier instanceof EObject) {
+            resource = ((EObject) notifier).eResource();
+        } else if (notifier instanceof Resource) {
+            resource = (Resource) notifier;
+        }
+        if (resource == null) {
+            this.fullCopyRequired = true;
+        } else {
+            this.changedResources.add(resource);
+        }
+    }
+
+    /**
+     * @return a new snapshot reflecting the current state of the global PCM partition.
+     */
+    PCMModelSnapshot takeSnapshot() {
+        final ResourceSet originalResourceSet = this.globalPartition.getResourceSet();
+        if (this.fullCopyRequired) {
+            EcoreUtil.resolveAll(originalResourceSet);
+        }
+        final List<Resource> resources = new ArrayList<Resource>(originalResourceSet.getResources());
+        final Set<Resource> staleResources = this.determineStaleResources(resources);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Taking PCM snapshot " + (this.version + 1) + ", copying " + staleResources.size() + " of "
+                    + resources.size() + " resources");
+        }
+
+        // first copy all contents, afterwards wire references across resources
+        final List<ResourceCopier> newCopiers = new ArrayList<ResourceCopier>(staleResources.size());
+        for (final Resource resource : resources) {
+            if (staleResources.contains(resource)) {
+                if (!this.fullCopyRequired) {
+                    EcoreUtil.resolveAll(resource);
+                }
+                final ResourceCopier copier = new ResourceCopier(resource);
+                copier.copyContents();
+                this.dependencies.remove(resource);
+                this.copiers.put(resource, copier);
+                newCopiers.add(copier);
+            }
+        }
+        for (final ResourceCopier copier : newCopiers) {
+            copier.copyReferences();
+        }
+
+        final PCMModelSnapshot snapshot = new PCMModelSnapshot(++this.version);
+        for (final Resource resource : resources) {
+            final ResourceCopier copier = this.copiers.get(resource);
+            if (copier.copyResource == null) {
+                copier.copyResource = snapshot.getResourceSet()
+                        .createResource(URI.createFileURI("/temp" + this.resourceCounter++));
+                copier.copyResource.getContents().addAll(copier.copyRoots);
+            } else {
+                snapshot.addSharedResource(copier.copyResource);
+            }
+        }
+
+        this.changedResources.clear();
+        this.fullCopyRequired = false;
+        return snapshot;
+    }
+
+    private Set<Resource> determineStaleResources(final List<Resource> resources) {
+        this.copiers.keySet().retainAll(resources);
+        this.dependencies.keySet().retainAll(resources);
+
+        final Set<Resource> staleResources = new HashSet<Resource>(this.changedResources);
+        for (final Resource resource : resources) {
+            if (this.fullCopyRequired || !this.copiers.containsKey(resource)) {
+                staleResources.add(resource);
+            }
+        }
+
+        final Deque<Resource> worklist = new ArrayDeque<Resource>(staleResources);
+        while (!worklist.isEmpty()) {
+            final Resource stale = worklist.pop();
+            for (final Map.Entry<Resource, Set<Resource>> dependency : this.dependencies.entrySet()) {
+                if (dependency.getValue().contains(stale) && staleResources.add(dependency.getKey())) {
+                    worklist.push(dependency.getKey());
+                }
+            }
+        }
+        staleResources.retainAll(resources);
+        return staleResources;
+    }
+
+    private void addDependency(final Resource source, final Resource target) {
+        Set<Resource> targets = this.dependencies.get(source);
+        if (targets == null) {
+            targets = new HashSet<Resource>();
+            this.dependencies.put(source, targets);
+        }
+        targets.add(target);
+    }
+
+    /**
+     * Copier for the contents of a single resource. References to elements of other resources are
+     * resolved against the copiers of the current snapshot.
+     */
+    private final class ResourceCopier extends Copier {
+
+        private static final long serialVersionUID = 4437207545364387316L;
+
+        private final transient Resource original;
+        private transient List<EObject> copyRoots;
+        private transient Resource copyResource;
+        private transient EReference currentReference;
+
+        private ResourceCopier(final Resource original) {
+            super(true, false);
+            this.original = original;
+        }
+
+        private void copyContents() {
+            this.copyRoots = new ArrayList<EObject>(this.copyAll(this.original.getContents()));
+        }
+
+        private EObject getLocal(final Object key) {
+            return super.get(key);
+        }
+
+        @Override
+        protected void copyReference(final EReference eReference, final EObject eObject,
+                final EObject copyEObject) {
+            this.currentReference = eReference;
+            super.copyReference(eReference, eObject, copyEObject);
+        }
+
+        @Override
+        public EObject get(final Object key) {
+            final EObject copy = super.get(key);
+            if (copy != null || !(key instanceof EObject)) {
+                return copy;
+            }
+            final Resource target = ((EObject) key).eResource();
+            if (target == null || target == this.original) {
+                return null;
+            }
+            addDependency(this.original, target);
+            if (this.currentReference != null && this.currentReference.getEOpposite() != null) {
+                // setting the reference also modifies the opposite end in the target copy
+                addDependency(target, this.original);
+            }
+            final ResourceCopier targetCopier = PCMModelSnapshotEngine.this.copiers.get(target);
+            return targetCopier == null ? null : targetCopier.getLocal(key);
+        }
+    }
+}
@@ -6,7 +6,13 @@ import org.palladiosimulator.simulizar.runtimestate.SimulatedBasicComponentInsta
 
 /**
  * Abstract Factory used by the extensible behaviour switches extension point.
- * 
+ *
+ * Factory instances are resolved once and the same instances are used for all SEFF invocations of
+ * all simulation runs, which may run concurrently in different threads. Implementations therefore
+ * must be stateless: {@link #createRDSeffSwitch} may be called concurrently and must not keep any
+ * state between calls. State of a simulation run belongs to the created switch or to the passed
+ * context.
+ *
  * @author mrombach
  *
  */
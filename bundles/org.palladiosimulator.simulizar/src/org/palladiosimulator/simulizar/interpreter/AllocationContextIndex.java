@@ -0,0 +1,146 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.allocation.AllocationPackage;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.simulizar.utils.AdapterUtil;
+
+/**
+ * Index of the allocation contexts of an {@link Allocation} by the ids of their assembly contexts.
+ *
+ * The index is attached to the allocation as an adapter. It additionally observes the target
+ * resource environment of the allocation. Every change of the allocation or the resource
+ * environment drops the index and increments its {@link #getVersion() version}, so callers caching
+ * resolved resource containers can detect that their cache is outdated.
+ */
+final class AllocationContextIndex extends EContentAdapter {
+
+    private final Allocation allocation;
+    private final EContentAdapter resourceEnvironmentObserver = new EContentAdapter() {
+
+        @Override
+        public void notifyChanged(final Notification notification) {
+            super.notifyChanged(notification);
+            if (!notification.isTouch()) {
+                AllocationContextIndex.this.invalidate();
+            }
+        }
+    };
+
+    private ResourceEnvironment observedResourceEnvironment;
+    private volatile Map<String, Integer> positions;
+    private volatile int version;
+
+    private AllocationContextIndex(final Allocation allocation) {
+        super();
+        this.allocation = allocation;
+        this.observeResourceEnvironment();
+    }
+
+    /**
+     * Returns the index of the given allocation, creating it if necessary.
+     *
+     * @param allocation
+     *            the allocation containing the allocation contexts.
+     * @return the allocation context index of the allocation.
+     */
+    static AllocationContextIndex of(final Allocation allocation) {
+        return AdapterUtil.getOrAttach(allocation, AllocationContextIndex.class,
+                () -> new AllocationContextIndex(allocation));
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == AllocationContextIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            if (notification.getFeature() == AllocationPackage.eINSTANCE
+                    .getAllocation_TargetResourceEnvironment_Allocation()) {
+                this.observeResourceEnvironment();
+            }
+            this.invalidate();
+        }
+    }
+
+    /**
+     * @return the version of the index. The version changes whenever the allocation or its
+     *         resource environment change.
+     */
+    int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the allocation context for the given assembly context stack. Like a linear search over
+     * the allocation contexts, the first allocation context of the allocation whose assembly
+     * context is contained in the stack is returned. Thus, the effort only depends on the depth of
+     * the stack, but not on the number of allocation contexts.
+     *
+     * @param assemblyContextStack
+     *            the assembly context stack, the top element being the last one.
+     * @return the allocation context, or null if none of the assembly contexts is allocated.
+     */
+    AllocationContext getAllocationContext(final List<AssemblyContext> assemblyContextStack) {
+        final Map<String, Integer> currentPositions = this.getPositions();
+        int position = Integer.MAX_VALUE;
+        for (final ListIterator<AssemblyContext> iterator = assemblyContextStack
+                .listIterator(assemblyContextStack.size()); iterator.hasPrevious();) {
+            final Integer candidate = currentPositions.get(iterator.previous().getId());
+            if (candidate != null && candidate < position) {
+                position = candidate;
+            }
+        }
+        if (position == Integer.MAX_VALUE) {
+            return null;
+        }
+        return this.allocation.getAllocationContexts_Allocation().get(position);
+    }
+
+    private Map<String, Integer> getPositions() {
+        Map<String, Integer> result = this.positions;
+        if (result == null) {
+            result = new HashMap<String, Integer>();
+            final List<AllocationContext> allocationContexts = this.allocation.getAllocationContexts_Allocation();
+            for (int i = 0; i < allocationContexts.size(); i++) {
+                final AssemblyContext assemblyContext = allocationContexts.get(i)
+                        .getAssemblyContext_AllocationContext();
+                if (assemblyContext != null && !result.containsKey(assemblyContext.getId())) {
+                    result.put(assemblyContext.getId(), i);
+                }
+            }
+            this.positions = result;
+        }
+        return result;
+    }
+
+    private synchronized void invalidate() {
+        this.positions = null;
+        this.version++;
+    }
+
+    private synchronized void observeResourceEnvironment() {
+        final ResourceEnvironment resourceEnvironment = this.allocation.getTargetResourceEnvironment_Allocation();
+        if (resourceEnvironment != this.observedResourceEnvironment) {
+            if (this.observedResourceEnvironment != null) {
+                this.observedResourceEnvironment.eAdapters().remove(this.resourceEnvironmentObserver);
+            }
+            if (resourceEnvironment != null) {
+                resourceEnvironment.eAdapters().add(this.resourceEnvironmentObserver);
+            }
+            this.observedResourceEnvironment = resourceEnvironment;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.AssemblyInfrastructureConnector;
+import org.palladiosimulator.pcm.core.composition.ComposedStructure;
+import org.palladiosimulator.pcm.core.composition.CompositionPackage;
+import org.palladiosimulator.pcm.core.composition.Connector;
+import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.RequiredDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.RequiredInfrastructureDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.util.CompositionSwitch;
+import org.palladiosimulator.pcm.repository.ProvidedRole;
+import org.palladiosimulator.pcm.repository.RequiredRole;
+import org.palladiosimulator.simulizar.utils.AdapterUtil;
+
+/**
+ * Index of the connectors of a {@link ComposedStructure}. It maps the required roles of the inner
+ * assembly contexts to the connectors bound to them, and the outer provided roles to their
+ * provided delegation connectors.
+ *
+ * The index is attached to the composed structure as an adapter. It is built on first use and
+ * dropped whenever a connector of the structure is added, removed or modified, so topology
+ * changes caused by reconfigurations are reflected by the next lookup.
+ */
+final class ComposedStructureConnectorIndex extends EContentAdapter {
+
+    private volatile Index index;
+
+    private ComposedStructureConnectorIndex() {
+        super();
+    }
+
+    /**
+     * Returns the index of the given composed structure, creating it if necessary.
+     *
+     * @param composedStructure
+     *            the composed structure containing the connectors.
+     * @return the connector index of the structure.
+     */
+    static ComposedStructureConnectorIndex of(final ComposedStructure composedStructure) {
+        return AdapterUtil.getOrAttach(composedStructure, ComposedStructureConnectorIndex.class,
+                ComposedStructureConnectorIndex::new);
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == ComposedStructureConnectorIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && (notification.getNotifier() instanceof Connector
+                || notification.getFeature() == CompositionPackage.eINSTANCE
+                        .getComposedStructure_Connectors__ComposedStructure())) {
+            this.index = null;
+        }
+    }
+
+    /**
+     * Determines the connector which is connected with the required role of the assembly context.
+     *
+     * @param assemblyContext
+     *            the requiring assembly context.
+     * @param requiredRole
+     *            the required role.
+     * @return the connected connector, or null if the role is unbound.
+     */
+    Connector getConnectedConnector(final AssemblyContext assemblyContext, final RequiredRole requiredRole) {
+        final Map<RequiredRole, Connector> connectors = this.getIndex().requiredConnectors.get(assemblyContext);
+        return connectors == null ? null : connectors.get(requiredRole);
+    }
+
+    /**
+     * Determines the provided delegation connector of an outer provided role.
+     *
+     * @param providedRole
+     *            the outer provided role.
+     * @return the delegation connector, or null if the role is unbound.
+     */
+    ProvidedDelegationConnector getProvidedDelegationConnector(final ProvidedRole providedRole) {
+        return this.getIndex().providedDelegationConnectors.get(providedRole);
+    }
+
+    private Index getIndex() {
+        Index result = this.index;
+        if (result == null) {
+            result = new Index((ComposedStructure) this.getTarget());
+            this.index = result;
+        }
+        return result;
+    }
+
+    /**
+     * Immutable lookup tables built from the connectors of a composed structure. If several
+     * connectors are bound to the same role, the first one in the connector list wins.
+     */
+    private static final class Index {
+
+        private final Map<AssemblyContext, Map<RequiredRole, Connector>> requiredConnectors = new HashMap<AssemblyContext, Map<RequiredRole, Connector>>();
+        private final Map<ProvidedRole, ProvidedDelegationConnector> providedDelegationConnectors = new HashMap<ProvidedRole, ProvidedDelegationConnector>();
+
+        private Index(final ComposedStructure composedStructure) {
+            final CompositionSwitch<Object> connectorIndexer = new CompositionSwitch<Object>() {
+
+                @Override
+                public Object caseRequiredDelegationConnector(final RequiredDelegationConnector delegationConnector) {
+                    return addRequiredConnector(delegationConnector.getAssemblyContext_RequiredDelegationConnector(),
+                            delegationConnector.getInnerRequiredRole_RequiredDelegationConnector(),
+                            delegationConnector);
+                }
+
+                @Override
+                public Object caseAssemblyConnector(final AssemblyConnector assemblyConnector) {
+                    return addRequiredConnector(assemblyConnector.getRequiringAssemblyContext_AssemblyConnector(),
+                            assemblyConnector.getRequiredRole_AssemblyConnector(), assemblyConnector);
+                }
+
+                @Override
+                public Object caseAssemblyInfrastructureConnector(
+                        final AssemblyInfrastructureConnector assemblyInfrastructureConnector) {
+                    return addRequiredConnector(
+                            assemblyInfrastructureConnector.getRequiringAssemblyContext__AssemblyInfrastructureConnector(),
+                            assemblyInfrastructureConnector.getRequiredRole__AssemblyInfrastructureConnector(),
+                            assemblyInfrastructureConnector);
+                }
+
+                @Override
+                public Object caseRequiredInfrastructureDelegationConnector(
+                        final RequiredInfrastructureDelegationConnector requiredInfrastructureDelegationConnector) {
+                    return addRequiredConnector(
+                            requiredInfrastructureDelegationConnector
+                                    .getAssemblyContext__RequiredInfrastructureDelegationConnector(),
+                            requiredInfrastructureDelegationConnector
+                                    .getInnerRequiredRole__RequiredInfrastructureDelegationConnector(),
+                            requiredInfrastructureDelegationConnector);
+                }
+
+                @Override
+                public Object caseProvidedDelegationConnector(final ProvidedDelegationConnector delegationConnector) {
+                    final ProvidedRole outerRole = delegationConnector.getOuterProvidedRole_ProvidedDelegationConnector();
+                    if (outerRole != null && !providedDelegationConnectors.containsKey(outerRole)) {
+                        providedDelegationConnectors.put(outerRole, delegationConnector);
+                    }
+                    return delegationConnector;
+                }
+            };
+            for (final Connector connector : composedStructure.getConnectors__ComposedStructure()) {
+                connectorIndexer.doSwitch(connector);
+            }
+        }
+
+        private Connector addRequiredConnector(final AssemblyContext assemblyContext, final RequiredRole requiredRole,
+                final Connector connector) {
+            Map<RequiredRole, Connector> connectors = this.requiredConnectors.get(assemblyContext);
+            if (connectors == null) {
+                connectors = new HashMap<RequiredRole, Connector>();
+                this.requiredConnectors.put(assemblyContext, connectors);
+            }
+            if (!connectors.containsKey(requiredRole)) {
+                connectors.put(requiredRole, connector);
+            }
+            return connector;
+        }
+    }
+}
@@ -116,63 +116,10 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
         if (requiredRole == null) {
             throw new IllegalArgumentException("Required role must not be null");
         }
-        final CompositionSwitch<Connector> connectorSelector = new CompositionSwitch<Connector>() {
-
-            @Override
-            public Connector caseRequiredDelegationConnector(final RequiredDelegationConnector delegationConnector) {
-                if (delegationConnector.getAssemblyContext_RequiredDelegationConnector() == myContext
-                        && delegationConnector.getInnerRequiredRole_RequiredDelegationConnector() == requiredRole) {
-                    return delegationConnector;
-                }
-                return null;
-            }
-
-            @Override
-            public Connector caseAssemblyConnector(final AssemblyConnector assemblyConnector) {
-                if (assemblyConnector.getRequiringAssemblyContext_AssemblyConnector() == myContext
-                        && assemblyConnector.getRequiredRole_AssemblyConnector() == requiredRole) {
-                    return assemblyConnector;
-                }
-                return null;
-            }
-
-            /*
-             * (non-Javadoc)
-             *
-             * @see org.palladiosimulator.pcm.core.composition.util.CompositionSwitch#
-             * caseAssemblyInfrastructureConnector
-             * (org.palladiosimulator.pcm.core.composition.AssemblyInfrastructureConnector)
-             */
-            @Override
-            public Connector caseAssemblyInfrastructureConnector(
-                    final AssemblyInfrastructureConnector assemblyInfrastructureConnector) {
-                if (assemblyInfrastructureConnector
-                        .getRequiringAssemblyContext__AssemblyInfrastructureConnector() == myContext
-                        && assemblyInfrastructureConnector
-                                .getRequiredRole__AssemblyInfrastructureConnector() == requiredRole) {
-                    return assemblyInfrastructureConnector;
-                }
-                return null;
-            }
-
-            @Override
-            public Connector caseRequiredInfrastructureDelegationConnector(
-                    final RequiredInfrastructureDelegationConnector requiredInfrastructureDelegationConnector) {
-                if (requiredInfrastructureDelegationConnector
-                        .getAssemblyContext__RequiredInfrastructureDelegationConnector() == myContext
-                        && requiredInfrastructureDelegationConnector
-                                .getInnerRequiredRole__RequiredInfrastructureDelegationConnector() == requiredRole) {
-                    return requiredInfrastructureDelegationConnector;
-                }
-                return null;
-            }
-        };
-        for (final Connector connector : myContext.getParentStructure__AssemblyContext()
-                .getConnectors__ComposedStructure()) {
-            final Connector result = connectorSelector.doSwitch(connector);
-            if (result != null) {
-                return result;
-            }
+        final Connector connector = ComposedStructureConnectorIndex
+                .of(myContext.getParentStructure__AssemblyContext()).getConnectedConnector(myContext, requiredRole);
+        if (connector != null) {
+            return connector;
         }
         throw new PCMModelInterpreterException("Found unbound provided role. PCM model is invalid.");
     }
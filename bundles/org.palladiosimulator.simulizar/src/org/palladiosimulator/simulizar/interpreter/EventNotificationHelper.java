@@ -4,132 +4,260 @@
 package org.palladiosimulator.simulizar.interpreter;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.function.BinaryOperator;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.commons.designpatterns.AbstractObservable;
 import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
-import org.palladiosimulator.pcm.repository.util.RepositorySwitch;
+import org.palladiosimulator.pcm.repository.RepositoryPackage;
 import org.palladiosimulator.pcm.seff.ExternalCallAction;
-import org.palladiosimulator.pcm.seff.util.SeffSwitch;
+import org.palladiosimulator.pcm.seff.SeffPackage;
 import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
 import org.palladiosimulator.pcm.usagemodel.UsageScenario;
-import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
 import org.palladiosimulator.simulizar.interpreter.listener.AssemblyProvidedOperationPassedEvent;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.IInterpreterListener;
+import org.palladiosimulator.simulizar.interpreter.listener.InterpretedElementKind;
 import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEvent;
 import org.palladiosimulator.simulizar.interpreter.listener.RDSEFFElementPassedEvent;
 
 /**
+ * Dispatches passed events to the registered {@link IInterpreterListener}s.
+ *
+ * The listener method responsible for a model element is determined once per {@link EClass} and
+ * kept in a dispatch table. Listeners declare the events they are interested in through
+ * {@link IInterpreterListener#isInterestedIn(InterpretedElementKind, EventType)}. Whenever
+ * observers are added or removed, the helper determines the interested listeners per listener
+ * method and event type, so that each event is only delivered to the listeners interested in it.
+ * Events without interested listeners are dropped, and interpreters can use
+ * {@link #isObserved(EObject, EventType)} to avoid creating such events at all.
+ *
  * @author snowball, Sebastian Krach
  *
  */
 public class EventNotificationHelper extends AbstractObservable<IInterpreterListener> {
-    
-    
-    private static BinaryOperator<Consumer<ModelElementPassedEvent<? extends EObject>>> BEGIN_END_SWITCH = (beginFunc, endFunc) -> 
-    	((ModelElementPassedEvent<? extends EObject> event) -> {
-    	    if (event.getEventType() == EventType.BEGIN) 
-    	    	beginFunc.accept(event);
-    	    else
-    	    	endFunc.accept(event);
-    	    
-    	});
-    
-    @SuppressWarnings("unchecked")
-    private UsagemodelSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> USAGE_MODEL_NOTIFICATOR_SELECTOR = new UsagemodelSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>() {
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseEntryLevelSystemCall(EntryLevelSystemCall object) {
-			return Optional.of(
-		    	BEGIN_END_SWITCH.apply(
-	    			(ev -> getEventDispatcher().beginEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) ev)),
-	    			(ev -> getEventDispatcher().endEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) ev))
-				)
-		    );
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseUsageScenario(UsageScenario object) {
-		    return Optional.of(
-				BEGIN_END_SWITCH.apply(
-	    			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) ev)),
-	    			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) ev))
-	    		)
-		    );
-			    		
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
-    @SuppressWarnings("unchecked")
-    private RepositorySwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> REPOSITORY_NOTIFICATOR_SELECTOR = new RepositorySwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>() {
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseOperationSignature(OperationSignature object) {
-    		return Optional.of(    
-	    		BEGIN_END_SWITCH.apply(
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) ev)),
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) ev))
-			    )
-    		);		
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseOperationProvidedRole(OperationProvidedRole object) {
-    		return Optional.of(    
-	    		BEGIN_END_SWITCH.apply(
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginAssemblyProvidedOperationCallInterpretation((AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) ev)),
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endAssemblyProvidedOperationCallInterpretation((AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) ev))
-			    )
-    		);	
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
-    @SuppressWarnings("unchecked")
-    private SeffSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> SEFF_NOTIFICATOR_SELECTOR = new SeffSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> () {
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseExternalCallAction(ExternalCallAction object) {
-    		return Optional.of(
-		    		BEGIN_END_SWITCH.apply(
-	    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) ev)),
-	    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) ev))
-				    )
-        		);		
-    		};
-    	
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
-    private Consumer<ModelElementPassedEvent<? extends EObject>> UNKNOWN_ELEMENT_NOTIFICATOR_SELECTOR =
-		BEGIN_END_SWITCH.apply(
-			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginUnknownElementInterpretation(ev)),
-			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endUnknownElementInterpretation(ev))
-	    );
-    
-
-    private final List<Function<EObject, Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>> NOTIFICATOR_SELECTOR_SWITCHES = Arrays.asList(
-		USAGE_MODEL_NOTIFICATOR_SELECTOR::doSwitch,
-		REPOSITORY_NOTIFICATOR_SELECTOR::doSwitch,
-		SEFF_NOTIFICATOR_SELECTOR::doSwitch);
-    
+
+    /**
+     * Listener methods an event can be dispatched to.
+     */
+    private enum DispatchTarget {
+        USAGE_SCENARIO(InterpretedElementKind.USAGE_SCENARIO) {
+            @SuppressWarnings("unchecked")
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) event);
+                } else {
+                    dispatcher.endUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) event);
+                }
+            }
+        },
+        ENTRY_LEVEL_SYSTEM_CALL(InterpretedElementKind.ENTRY_LEVEL_SYSTEM_CALL) {
+            @SuppressWarnings("unchecked")
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginEntryLevelSystemCallInterpretation(
+                            (ModelElementPassedEvent<EntryLevelSystemCall>) event);
+                } else {
+                    dispatcher.endEntryLevelSystemCallInterpretation(
+                            (ModelElementPassedEvent<EntryLevelSystemCall>) event);
+                }
+            }
+        },
+        SYSTEM_OPERATION_CALL(InterpretedElementKind.SYSTEM_OPERATION_CALL) {
+            @SuppressWarnings("unchecked")
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginSystemOperationCallInterpretation(
+                            (ModelElementPassedEvent<OperationSignature>) event);
+                } else {
+                    dispatcher.endSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) event);
+                }
+            }
+        },
+        ASSEMBLY_PROVIDED_OPERATION_CALL(InterpretedElementKind.ASSEMBLY_PROVIDED_OPERATION_CALL) {
+            @SuppressWarnings("unchecked")
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginAssemblyProvidedOperationCallInterpretation(
+                            (AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) event);
+                } else {
+                    dispatcher.endAssemblyProvidedOperationCallInterpretation(
+                            (AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) event);
+                }
+            }
+        },
+        EXTERNAL_CALL(InterpretedElementKind.EXTERNAL_CALL) {
+            @SuppressWarnings("unchecked")
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) event);
+                } else {
+                    dispatcher.endExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) event);
+                }
+            }
+        },
+        UNKNOWN_ELEMENT(InterpretedElementKind.UNKNOWN_ELEMENT) {
+            @Override
+            void dispatch(final IInterpreterListener dispatcher, final ModelElementPassedEvent<? extends EObject> event) {
+                if (event.getEventType() == EventType.BEGIN) {
+                    dispatcher.beginUnknownElementInterpretation(event);
+                } else {
+                    dispatcher.endUnknownElementInterpretation(event);
+                }
+            }
+        };
+
+        private final InterpretedElementKind elementKind;
+
+        private DispatchTarget(final InterpretedElementKind elementKind) {
+            this.elementKind = elementKind;
+        }
+
+        abstract void dispatch(IInterpreterListener dispatcher, ModelElementPassedEvent<? extends EObject> event);
+
+        boolean isObservedBy(final IInterpreterListener listener, final EventType eventType) {
+            return listener.isInterestedIn(this.elementKind, eventType);
+        }
+
+        static DispatchTarget forEClass(final EClass eClass) {
+            if (UsagemodelPackage.eINSTANCE.getEntryLevelSystemCall().isSuperTypeOf(eClass)) {
+                return ENTRY_LEVEL_SYSTEM_CALL;
+            } else if (UsagemodelPackage.eINSTANCE.getUsageScenario().isSuperTypeOf(eClass)) {
+                return USAGE_SCENARIO;
+            } else if (RepositoryPackage.eINSTANCE.getOperationSignature().isSuperTypeOf(eClass)) {
+                return SYSTEM_OPERATION_CALL;
+            } else if (RepositoryPackage.eINSTANCE.getOperationProvidedRole().isSuperTypeOf(eClass)) {
+                return ASSEMBLY_PROVIDED_OPERATION_CALL;
+            } else if (SeffPackage.eINSTANCE.getExternalCallAction().isSuperTypeOf(eClass)) {
+                return EXTERNAL_CALL;
+            }
+            return UNKNOWN_ELEMENT;
+        }
+    }
+
+    private static final int EVENT_TYPE_COUNT = EventType.values().length;
+
+    private final ConcurrentMap<EClass, DispatchTarget> dispatchTable = new ConcurrentHashMap<EClass, DispatchTarget>();
+
+    private static final IInterpreterListener[] NO_SUBSCRIBERS = new IInterpreterListener[0];
+
+    /**
+     * Interested observers in the order of their registration, indexed by dispatch target and
+     * event type. Replaced as a whole whenever observers change, so that it is read without
+     * locking.
+     */
+    private volatile IInterpreterListener[][] subscribers = createSubscribers();
+
+    @Override
+    public void addObserver(final IInterpreterListener observer) {
+        super.addObserver(observer);
+        this.updateSubscriptions(observer, true);
+    }
+
+    @Override
+    public void removeObserver(final IInterpreterListener observer) {
+        super.removeObserver(observer);
+        this.updateSubscriptions(observer, false);
+    }
+
+    @Override
+    public void removeAllObserver() {
+        super.removeAllObserver();
+        synchronized (this) {
+            this.subscribers = createSubscribers();
+        }
+    }
+
+    /**
+     * Checks whether any registered listener is interested in passed events of the given model
+     * element. Callers can use this to skip creating events nobody is going to receive.
+     *
+     * @param modelElement
+     *            the model element which is passed.
+     * @param eventType
+     *            the type of the event.
+     * @return true if a passed event for the element would be delivered to at least one listener.
+     */
+    public boolean isObserved(final EObject modelElement, final EventType eventType) {
+        return this.getSubscribers(this.getDispatchTarget(modelElement.eClass()), eventType).length > 0;
+    }
+
+    /**
+     * Delivers the given event to the listeners interested in it.
+     *
+     * @param event
+     *            the passed event.
+     */
     public <T extends EObject> void firePassedEvent(final ModelElementPassedEvent<T> event) {
-		NOTIFICATOR_SELECTOR_SWITCHES.stream()
-			.map(sw -> sw.apply(event.getModelElement()))
-			.filter(Optional::isPresent).map(Optional::get).findFirst()
-			.orElse(UNKNOWN_ELEMENT_NOTIFICATOR_SELECTOR)
-			.accept(event);
+        final DispatchTarget target = this.getDispatchTarget(event.getModelElement().eClass());
+        for (final IInterpreterListener subscriber : this.getSubscribers(target, event.getEventType())) {
+            target.dispatch(subscriber, event);
+        }
     }
-    
+
     public void removeAllListener() {
         this.removeAllObserver();
     }
+
+    private DispatchTarget getDispatchTarget(final EClass eClass) {
+        DispatchTarget target = this.dispatchTable.get(eClass);
+        if (target == null) {
+            target = DispatchTarget.forEClass(eClass);
+            this.dispatchTable.put(eClass, target);
+        }
+        return target;
+    }
+
+    private IInterpreterListener[] getSubscribers(final DispatchTarget target, final EventType eventType) {
+        return this.subscribers[target.ordinal() * EVENT_TYPE_COUNT + eventType.ordinal()];
+    }
+
+    private synchronized void updateSubscriptions(final IInterpreterListener observer, final boolean add) {
+        final IInterpreterListener[][] newSubscribers = this.subscribers.clone();
+        for (final DispatchTarget target : DispatchTarget.values()) {
+            for (final EventType eventType : EventType.values()) {
+                if (target.isObservedBy(observer, eventType)) {
+                    final int index = target.ordinal() * EVENT_TYPE_COUNT + eventType.ordinal();
+                    newSubscribers[index] = add ? append(newSubscribers[index], observer)
+                            : remove(newSubscribers[index], observer);
+                }
+            }
+        }
+        this.subscribers = newSubscribers;
+    }
+
+    private static IInterpreterListener[] append(final IInterpreterListener[] listeners,
+            final IInterpreterListener listener) {
+        final IInterpreterListener[] result = Arrays.copyOf(listeners, listeners.length + 1);
+        result[listeners.length] = listener;
+        return result;
+    }
+
+    private static IInterpreterListener[] remove(final IInterpreterListener[] listeners,
+            final IInterpreterListener listener) {
+        final int index = Arrays.asList(listeners).indexOf(listener);
+        if (index < 0) {
+            return listeners;
+        }
+        final IInterpreterListener[] result = new IInterpreterListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, result, 0, index);
+        System.arraycopy(listeners, index + 1, result, index, result.length - index);
+        return result;
+    }
+
+    private static IInterpreterListener[][] createSubscribers() {
+        final IInterpreterListener[][] result = new IInterpreterListener[DispatchTarget.values().length
+                * EVENT_TYPE_COUNT][];
+        Arrays.fill(result, NO_SUBSCRIBERS);
+        return result;
+    }
 }
@@ -41,20 +41,42 @@ public class InterpreterDefaultContext extends Context {
         this.localPCMModelCopy = this.modelAccess.getLocalPCMModel();
     }
 
-    InterpreterDefaultContext(final Context context, final AbstractSimuLizarRuntimeState runtimeState,
-            final boolean copyStack, final PCMResourceSetPartition pcmLocalCopy) {
+    /**
+     * Create interpreter default context for a forked behaviour. The new context shares the model
+     * access and the local PCM model copy with the context which executes the fork action. Its
+     * stack starts with the current stack frame of the given fork context, which already is a
+     * private copy of the parent's frame, so that it is not copied another time.
+     *
+     * @param forkContext
+     *            the context of the forked behaviour process.
+     * @param parentContext
+     *            the context which executes the fork action.
+     */
+    InterpreterDefaultContext(final Context forkContext, final InterpreterDefaultContext parentContext) {
+        this(forkContext, parentContext.getRuntimeState(), parentContext.getModelAccess(),
+                parentContext.getLocalPCMModelAtContextCreation(),
+                forkContext.getStack().size() > 0 ? forkContext.getStack().currentStackFrame()
+                        : new SimulatedStackframe<Object>());
+    }
+
+    private InterpreterDefaultContext(final Context context, final AbstractSimuLizarRuntimeState runtimeState,
+            final IModelAccess modelAccess, final PCMResourceSetPartition pcmLocalCopy,
+            final SimulatedStackframe<Object> stackFrame) {
         super(context.getModel());
-        this.modelAccess = runtimeState.getModelAccess().clone();
+        this.modelAccess = modelAccess;
         this.localPCMModelCopy = pcmLocalCopy;
         this.setEvaluationMode(context.getEvaluationMode());
         this.setSimProcess(context.getThread());
         this.stack = new SimulatedStack<Object>();
         this.runtimeState = runtimeState;
-        if (copyStack && context.getStack().size() > 0) {
-            this.stack.pushStackFrame(context.getStack().currentStackFrame().copyFrame());
-        } else {
-            this.stack.pushStackFrame(new SimulatedStackframe<Object>());
+        this.stack.pushStackFrame(stackFrame);
+    }
+
+    private static SimulatedStackframe<Object> copyCurrentStackFrame(final Context context) {
+        if (context.getStack().size() > 0) {
+            return context.getStack().currentStackFrame().copyFrame();
         }
+        return new SimulatedStackframe<Object>();
     }
 
     /**
@@ -67,7 +89,30 @@ public class InterpreterDefaultContext extends Context {
      * @param thread
      */
     public InterpreterDefaultContext(final InterpreterDefaultContext context, final SimuComSimProcess thread) {
-        this(context, context.getRuntimeState(), true, context.getModelAccess().getLocalPCMModel());
+        this(context, context.getRuntimeState(), context.getRuntimeState().getModelAccess().clone(),
+                context.getModelAccess().getLocalPCMModel(), copyCurrentStackFrame(context));
+        this.setSimProcess(thread);
+    }
+
+    /**
+     * Create interpreter default context from the given default context, which uses the given
+     * model access instead of a clone of the runtime state's model access. This allows contexts
+     * started on the same local PCM model copy to share a single model access. The contents of the
+     * stack will be copied.
+     *
+     * @param context
+     *            the default context from which the new default context should be created.
+     * @param thread
+     *            the sim process of the new context.
+     * @param modelAccess
+     *            a model access whose local PCM model is {@code pcmLocalCopy}. It must not be
+     *            modified by the users of the context.
+     * @param pcmLocalCopy
+     *            the local PCM model copy of the new context.
+     */
+    public InterpreterDefaultContext(final InterpreterDefaultContext context, final SimuComSimProcess thread,
+            final IModelAccess modelAccess, final PCMResourceSetPartition pcmLocalCopy) {
+        this(context, context.getRuntimeState(), modelAccess, pcmLocalCopy, copyCurrentStackFrame(context));
         this.setSimProcess(thread);
     }
 
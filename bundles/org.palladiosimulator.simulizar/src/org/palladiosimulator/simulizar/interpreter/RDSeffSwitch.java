@@ -1,10 +1,7 @@
 package org.palladiosimulator.simulizar.interpreter;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Stack;
 
 import org.apache.log4j.Logger;
@@ -16,7 +13,6 @@ import org.palladiosimulator.pcm.allocation.Allocation;
 import org.palladiosimulator.pcm.allocation.AllocationContext;
 import org.palladiosimulator.pcm.core.PCMRandomVariable;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
-import org.palladiosimulator.pcm.core.entity.ResourceProvidedRole;
 import org.palladiosimulator.pcm.repository.Parameter;
 import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
 import org.palladiosimulator.pcm.resourcetype.ResourceInterface;
@@ -37,6 +33,7 @@ import org.palladiosimulator.pcm.seff.ReleaseAction;
 import org.palladiosimulator.pcm.seff.ResourceDemandingBehaviour;
 import org.palladiosimulator.pcm.seff.SeffPackage;
 import org.palladiosimulator.pcm.seff.SetVariableAction;
+import org.palladiosimulator.pcm.seff.SynchronisationPoint;
 import org.palladiosimulator.pcm.seff.seff_performance.InfrastructureCall;
 import org.palladiosimulator.pcm.seff.seff_performance.ParametricResourceDemand;
 import org.palladiosimulator.pcm.seff.seff_performance.ResourceCall;
@@ -47,14 +44,15 @@ import org.palladiosimulator.simulizar.exceptions.SimulatedStackAccessException;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.RDSEFFElementPassedEvent;
 import org.palladiosimulator.simulizar.runtimestate.SimulatedBasicComponentInstance;
+import org.palladiosimulator.simulizar.utils.CompiledRandomVariable;
 import org.palladiosimulator.simulizar.utils.SimulatedStackHelper;
 import org.palladiosimulator.simulizar.utils.TransitionDeterminer;
 
 import de.uka.ipd.sdq.simucomframework.ResourceRegistry;
 import de.uka.ipd.sdq.simucomframework.fork.ForkExecutor;
 import de.uka.ipd.sdq.simucomframework.fork.ForkedBehaviourProcess;
+import de.uka.ipd.sdq.simucomframework.resources.AbstractSimulatedResourceContainer;
 import de.uka.ipd.sdq.simucomframework.variables.StackContext;
-import de.uka.ipd.sdq.simucomframework.variables.converter.NumberConverter;
 import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
 
 /**
@@ -73,6 +71,12 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     private final InterpreterDefaultContext context;
     private final Allocation allocation;
 
+    /** Cached result of {@link #getSimulatedResourceContainer()} and the state it was resolved for. */
+    private AbstractSimulatedResourceContainer resolvedResourceContainer;
+    private AssemblyContext[] resolvedAssemblyContexts;
+    private int resolvedAllocationVersion;
+    private ResourceRegistry resolvedResourceRegistry;
+
     private final SimulatedStackframe<Object> resultStackFrame;
 
     private final SimulatedBasicComponentInstance basicComponentInstance;
@@ -192,14 +196,16 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     private void interpretInfrastructureCalls(final InternalAction internalAction) {
         for (final InfrastructureCall infrastructureCall : internalAction.getInfrastructureCall__Action()) {
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final int repetitions = StackContext.evaluateStatic(
-                    infrastructureCall.getNumberOfCalls__InfrastructureCall().getSpecification(), Integer.class,
-                    currentStackFrame);
+            final int repetitions = CompiledRandomVariable
+                    .of(infrastructureCall.getNumberOfCalls__InfrastructureCall()).evaluateInt(currentStackFrame);
+            if (repetitions <= 0) {
+                continue;
+            }
+            // the switch does not keep state between calls, so all repetitions share it
+            final ComposedStructureInnerSwitch composedStructureSwitch = new ComposedStructureInnerSwitch(this.context,
+                    infrastructureCall.getSignature__InfrastructureCall(),
+                    infrastructureCall.getRequiredRole__InfrastructureCall());
             for (int i = 0; i < repetitions; i++) {
-                final ComposedStructureInnerSwitch composedStructureSwitch = new ComposedStructureInnerSwitch(
-                        this.context, infrastructureCall.getSignature__InfrastructureCall(),
-                        infrastructureCall.getRequiredRole__InfrastructureCall());
-
                 // create new stack frame for input parameter
                 SimulatedStackHelper.createAndPushNewStackFrame(this.context.getStack(),
                         infrastructureCall.getInputVariableUsages__CallAction());
@@ -313,31 +319,43 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
         /*
          * Component developers can use a SynchronisationPoint to join synchronously
          * ForkedBehaviours and specify a result of the computations with its attached
-         * VariableUsages.
-         *
-         * For ForkedBehaviours attached to the SynchronizationPoint, it will be possible to return
-         * results of their computations to the initiating ForkAction in future versions of the PCM.
-         * Happe (2008) currently defines the necessary meta-model changes.
-         *
-         * THIS IS CURRENTLY NOT SUPPORTED BY THE INTERPRETER
+         * VariableUsages. These are evaluated once all synchronous ForkedBehaviours finished, with
+         * the results of the ForkedBehaviours available in the stack frame of the evaluation.
          */
+        final List<ForkedBehaviour> asyncBehaviours = object.getAsynchronousForkedBehaviours_ForkAction();
+        final SynchronisationPoint synchronisationPoint = object.getSynchronisingBehaviours_ForkAction();
+        final List<ForkedBehaviour> syncBehaviours = synchronisationPoint == null
+                ? Collections.<ForkedBehaviour> emptyList()
+                : synchronisationPoint.getSynchronousForkedBehaviours_SynchronisationPoint();
+
+        // all forked behaviours start with the assembly context stack of the fork action
+        @SuppressWarnings("unchecked")
+        final Stack<AssemblyContext> parentAssemblyContextStack = (Stack<AssemblyContext>) this.context
+                .getAssemblyContextStack().clone();
+        final ForkedBehaviourProcess[] processes = new ForkedBehaviourProcess[asyncBehaviours.size()
+                + syncBehaviours.size()];
+        final SimulatedStackframe<Object>[] syncResultFrames = this.newStackFrameArray(syncBehaviours.size());
+        int i = 0;
+        for (final ForkedBehaviour forkedBehaviour : asyncBehaviours) {
+            processes[i++] = this.createProcess(forkedBehaviour, parentAssemblyContextStack, true, null, 0);
+        }
+        for (int j = 0; j < syncBehaviours.size(); j++) {
+            processes[i++] = this.createProcess(syncBehaviours.get(j), parentAssemblyContextStack, false,
+                    syncResultFrames, j);
+        }
 
-        // get asynced processes
-        final List<ForkedBehaviourProcess> asyncProcesses = this
-                .getProcesses(object.getAsynchronousForkedBehaviours_ForkAction(), true);
-
-        // get synced processes
-        final List<ForkedBehaviourProcess> syncProcesses = this.determineSyncedProcesses(object);
-
-        // combine both
-        final List<ForkedBehaviourProcess> combinedProcesses = this.combineProcesses(asyncProcesses, syncProcesses);
-
-        // create and start fork executor
-        final ForkExecutor forkExecutor = new ForkExecutor(this.context.getThread(),
-                combinedProcesses.toArray(new ForkedBehaviourProcess[0]));
+        // create and start fork executor, which returns once all synchronous processes finished
+        final ForkExecutor forkExecutor = new ForkExecutor(this.context.getThread(), processes);
 
         forkExecutor.run();
 
+        if (synchronisationPoint != null
+                && !synchronisationPoint.getOutputParameterUsage_SynchronisationPoint().isEmpty()) {
+            SimulatedStackHelper.addForkResultsToStackFrame(syncResultFrames,
+                    synchronisationPoint.getOutputParameterUsage_SynchronisationPoint(),
+                    this.context.getStack().currentStackFrame());
+        }
+
         return SUCCESS;
     }
 
@@ -347,11 +365,10 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     @Override
     public Object caseLoopAction(final LoopAction object) {
         final PCMRandomVariable iterationCount = object.getIterationCount_LoopAction();
-        final String stoex = iterationCount.getSpecification();
 
         // we expect an int here
-        final int numberOfLoops = StackContext.evaluateStatic(stoex, Integer.class,
-                this.context.getStack().currentStackFrame());
+        final int numberOfLoops = CompiledRandomVariable.of(iterationCount)
+                .evaluateInt(this.context.getStack().currentStackFrame());
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Determined number of loops: " + numberOfLoops + " " + object);
@@ -426,92 +443,67 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * @param eventType
      */
     private <T extends AbstractAction> void firePassedEvent(final T abstractAction, final EventType eventType) {
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(new RDSEFFElementPassedEvent<T>(
-                abstractAction, eventType, this.context.getThread(), this.context.getAssemblyContextStack().peek()));
-    }
-
-    /**
-     * Combines synced and asynced processes in a combined list.
-     *
-     * @param asyncProcesses
-     *            list of asynced processes.
-     * @param syncProcesses
-     *            list of synced processes.
-     * @return combined list.
-     */
-    private List<ForkedBehaviourProcess> combineProcesses(final List<ForkedBehaviourProcess> asyncProcesses,
-            final List<ForkedBehaviourProcess> syncProcesses) {
-        final List<ForkedBehaviourProcess> combinedProcesses = new LinkedList<ForkedBehaviourProcess>();
-        combinedProcesses.addAll(asyncProcesses);
-        combinedProcesses.addAll(syncProcesses);
-        return Collections.synchronizedList(combinedProcesses);
-    }
-
-    /**
-     * Determines the synced processes in a fork action.
-     *
-     * @param object
-     *            the fork action.
-     * @return a list with synced processes.
-     */
-    private List<ForkedBehaviourProcess> determineSyncedProcesses(final ForkAction object) {
-        List<ForkedBehaviourProcess> syncProcesses = new ArrayList<ForkedBehaviourProcess>();
-
-        if (object.getSynchronisingBehaviours_ForkAction() != null) {
-            syncProcesses = this.getProcesses(object.getSynchronisingBehaviours_ForkAction()
-                    .getSynchronousForkedBehaviours_SynchronisationPoint(), false);
+        final EventNotificationHelper eventHelper = this.context.getRuntimeState().getEventNotificationHelper();
+        if (eventHelper.isObserved(abstractAction, eventType)) {
+            eventHelper.firePassedEvent(new RDSEFFElementPassedEvent<T>(abstractAction, eventType,
+                    this.context.getThread(), this.context.getAssemblyContextStack().peek()));
         }
-        return syncProcesses;
     }
 
     /**
-     * Creates a list of sync and async processes for given behaviors.
+     * Creates a process for the given forked behaviour.
      *
-     * @param forkedBehaviours
-     *            the forked behaviors, independent of their sync or async character.
+     * @param forkedBehaviour
+     *            the forked behaviour.
+     * @param parentAssemblyContextStack
+     *            the assembly context stack of the fork action, which is not modified.
      * @param isAsync
-     *            true if processes shall be async, otherwise false.
-     * @return a list of configured forked behavior processes.
+     *            true if the process shall be async, otherwise false.
+     * @param resultFrames
+     *            the array to store the result stack frame of the forked behaviour in, or null if
+     *            the result is not needed.
+     * @param resultIndex
+     *            the index of the result stack frame in the array.
+     * @return the configured forked behaviour process.
      */
-    private List<ForkedBehaviourProcess> getProcesses(final List<ForkedBehaviour> forkedBehaviours,
-            final boolean isAsync) {
-        final List<ForkedBehaviourProcess> processes = new LinkedList<ForkedBehaviourProcess>();
-
-        // for each create process, and add to array of processes
-
-        for (final ForkedBehaviour forkedBehaviour : forkedBehaviours) {
-            @SuppressWarnings("unchecked")
-            final Stack<AssemblyContext> parentAssemblyContextStack = (Stack<AssemblyContext>) this.context
-            .getAssemblyContextStack().clone();
-            processes.add(new ForkedBehaviourProcess(this.context,
-                    this.context.getAssemblyContextStack().peek().getId(), isAsync) {
-
-                @Override
-                protected void executeBehaviour() {
-
-                    /*
-                     * The forked behavior process has its own copied stack in its context, for type
-                     * reasons we need an InterpreterDefaultContext. Thus we have to copy the
-                     * context including its stack.
-                     */
-                    final InterpreterDefaultContext seffContext = new InterpreterDefaultContext(this.myContext,
-                            RDSeffSwitch.this.context.getRuntimeState(), true,
-                            RDSeffSwitch.this.context.getLocalPCMModelAtContextCreation());
-                    seffContext.getAssemblyContextStack().addAll(parentAssemblyContextStack);
-                    final RDSeffSwitch seffInterpreter = new RDSeffSwitch(seffContext,
-                            RDSeffSwitch.this.basicComponentInstance);
-
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("Created new RDSeff interpreter for " + ((this.isAsync()) ? "asynced" : "synced")
-                                + " forked baviour: " + this);
-                    }
-                    // no use of parentSwitch.doSwitch() because we want the inner switches
-                    seffInterpreter.doSwitch(forkedBehaviour);
+    private ForkedBehaviourProcess createProcess(final ForkedBehaviour forkedBehaviour,
+            final Stack<AssemblyContext> parentAssemblyContextStack, final boolean isAsync,
+            final SimulatedStackframe<Object>[] resultFrames, final int resultIndex) {
+        return new ForkedBehaviourProcess(this.context, parentAssemblyContextStack.peek().getId(), isAsync) {
+
+            @Override
+            protected void executeBehaviour() {
+
+                /*
+                 * The forked behavior process has its own copied stack in its context, for type
+                 * reasons we need an InterpreterDefaultContext. The new context takes over the
+                 * copied stack frame and shares the model access of the fork action's context.
+                 */
+                final InterpreterDefaultContext seffContext = new InterpreterDefaultContext(this.myContext,
+                        RDSeffSwitch.this.context);
+                seffContext.getAssemblyContextStack().addAll(parentAssemblyContextStack);
+                final RDSeffSwitch seffInterpreter = new RDSeffSwitch(seffContext,
+                        RDSeffSwitch.this.basicComponentInstance);
+
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Created new RDSeff interpreter for " + ((this.isAsync()) ? "asynced" : "synced")
+                            + " forked baviour: " + this);
                 }
+                // no use of parentSwitch.doSwitch() because we want the inner switches
+                final Object result = seffInterpreter.doSwitch(forkedBehaviour);
+                if (resultFrames != null) {
+                    @SuppressWarnings("unchecked")
+                    final SimulatedStackframe<Object> resultFrame = (SimulatedStackframe<Object>) result;
+                    resultFrames[resultIndex] = resultFrame;
+                }
+            }
 
-            });
-        }
-        return processes;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimulatedStackframe<Object>[] newStackFrameArray(final int size) {
+        return new SimulatedStackframe[size];
     }
 
     /**
@@ -609,21 +601,18 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * 				The internal action containing the resource demand
      */
     private void interpretResourceDemands(final InternalAction internalAction) {
-        final AllocationContext allocationContext = this.getAllocationContext(this.allocation);
-        final ResourceContainer resourceContainer = allocationContext.getResourceContainer_AllocationContext();
+        final AbstractSimulatedResourceContainer resourceContainer = this.getSimulatedResourceContainer();
 
         for (final ParametricResourceDemand parametricResourceDemand : internalAction.getResourceDemand_Action()) {
 
-            final ResourceRegistry resourceRegistry = this.context.getModel().getResourceRegistry();
             final String idRequiredResourceType = parametricResourceDemand
                     .getRequiredResource_ParametricResourceDemand().getId();
-            final String specification = parametricResourceDemand.getSpecification_ParametericResourceDemand()
-                    .getSpecification();
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final Double value = StackContext.evaluateStatic(specification, Double.class, currentStackFrame);
+            final double value = CompiledRandomVariable
+                    .of(parametricResourceDemand.getSpecification_ParametericResourceDemand())
+                    .evaluateDouble(currentStackFrame);
 
-            resourceRegistry.getResourceContainer(resourceContainer.getId())
-            .loadActiveResource(this.context.getThread(), idRequiredResourceType, value);
+            resourceContainer.loadActiveResource(this.context.getThread(), idRequiredResourceType, value);
 
         }
     }
@@ -633,8 +622,7 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * @param internalAction
      */
     private void interpretResourceCall(final InternalAction internalAction) {
-        final AllocationContext allocationContext = this.getAllocationContext(this.allocation);
-        final ResourceContainer resourceContainer = allocationContext.getResourceContainer_AllocationContext();
+        final AbstractSimulatedResourceContainer resourceContainer = this.getSimulatedResourceContainer();
 
         for (final ResourceCall resourceCall : internalAction.getResourceCall__Action()) {
 
@@ -642,64 +630,86 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
             final ResourceInterface resourceInterface = resourceCall.getSignature__ResourceCall()
                     .getResourceInterface__ResourceSignature();
             final ResourceRepository resourceRepository = resourceInterface.getResourceRepository__ResourceInterface();
-            ResourceType currentResourceType = null;
-
-            for (final ResourceType resourceType : resourceRepository.getAvailableResourceTypes_ResourceRepository()) {
-                for (final ResourceProvidedRole resourceProvidedRole : resourceType
-                        .getResourceProvidedRoles__ResourceInterfaceProvidingEntity()) {
-                    if (resourceProvidedRole.getProvidedResourceInterface__ResourceProvidedRole().getId()
-                            .equals(resourceInterface.getId())) {
-                        currentResourceType = resourceType;
-                        break;
-                    }
-                }
-            }
+            final ResourceType currentResourceType = ResourceTypeIndex.of(resourceRepository)
+                    .getProvidingResourceType(resourceInterface);
 
             final ResourceSignature resourceSignature = resourceCall.getSignature__ResourceCall();
             final int resourceServiceId = resourceSignature.getResourceServiceId();
 
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final Double evaluatedDemand = NumberConverter.toDouble(
-                    StackContext.evaluateStatic(resourceCall.getNumberOfCalls__ResourceCall().getSpecification(),
-                            Double.class, currentStackFrame));
+            final double evaluatedDemand = CompiledRandomVariable.of(resourceCall.getNumberOfCalls__ResourceCall())
+                    .evaluateDouble(currentStackFrame);
             final String idRequiredResourceType = currentResourceType.getId();
 
-            final ResourceRegistry resourceRegistry = this.context.getModel().getResourceRegistry();
-
-            resourceRegistry.getResourceContainer(resourceContainer.getId())
-            .loadActiveResource(this.context.getThread(), resourceServiceId, idRequiredResourceType,
+            resourceContainer.loadActiveResource(this.context.getThread(), resourceServiceId, idRequiredResourceType,
                     evaluatedDemand);
 
         }
     }
 
 
+    /**
+     * Gets the simulated resource container the current assembly context stack is allocated on.
+     * The container is resolved once and reused as long as the assembly context stack, the
+     * allocation, its resource environment, and the resource registry stay the same.
+     *
+     * @return The simulated resource container.
+     * @throws PCMModelAccessException
+     *             if no allocation context could be found.
+     */
+    private AbstractSimulatedResourceContainer getSimulatedResourceContainer() {
+        final Stack<AssemblyContext> assemblyContextStack = this.context.getAssemblyContextStack();
+        final AllocationContextIndex allocationIndex = AllocationContextIndex.of(this.allocation);
+        final ResourceRegistry resourceRegistry = this.context.getModel().getResourceRegistry();
+        final int allocationVersion = allocationIndex.getVersion();
+
+        if (this.resolvedResourceContainer == null || !this.isResolvedFor(assemblyContextStack)
+                || this.resolvedAllocationVersion != allocationVersion
+                || this.resolvedResourceRegistry != resourceRegistry) {
+            final AllocationContext allocationContext = this.getAllocationContext(allocationIndex,
+                    assemblyContextStack);
+            final ResourceContainer resourceContainer = allocationContext.getResourceContainer_AllocationContext();
+            this.resolvedResourceContainer = resourceRegistry.getResourceContainer(resourceContainer.getId());
+            this.resolvedAssemblyContexts = assemblyContextStack.toArray(new AssemblyContext[0]);
+            this.resolvedAllocationVersion = allocationVersion;
+            this.resolvedResourceRegistry = resourceRegistry;
+        }
+        return this.resolvedResourceContainer;
+    }
+
+    private boolean isResolvedFor(final Stack<AssemblyContext> assemblyContextStack) {
+        if (this.resolvedAssemblyContexts.length != assemblyContextStack.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.resolvedAssemblyContexts.length; i++) {
+            if (this.resolvedAssemblyContexts[i] != assemblyContextStack.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets the allocation context for the current assembly context stack. The stack is investigated
      * in a FIFO-manner, i.e., first upper elements are checked. This is needed for the case of sub
      * systems.
      *
-     * @param allocation
-     *            The allocation to find a suitable allocation context in.
+     * @param allocationIndex
+     *            The index of the allocation to find a suitable allocation context in.
+     * @param assemblyContextStack
+     *            The current assembly context stack.
      * @return The allocation context.
      * @throws PCMModelAccessException
      *             if no allocation context could be found.
      */
-    private AllocationContext getAllocationContext(final Allocation allocation) {
-        // For iterating top-down through a stack see:
-        // http://stackoverflow.com/questions/16992758/is-there-a-bug-in-java-util-stacks-iterator
-        for (final AllocationContext allocationContext : allocation.getAllocationContexts_Allocation()) {
-            for (final ListIterator<AssemblyContext> iterator = this.context.getAssemblyContextStack()
-                    .listIterator(this.context.getAssemblyContextStack().size()); iterator.hasPrevious();) {
-                if (allocationContext.getAssemblyContext_AllocationContext().getId()
-                        .equals(iterator.previous().getId())) {
-                    return allocationContext;
-                }
-            }
+    private AllocationContext getAllocationContext(final AllocationContextIndex allocationIndex,
+            final Stack<AssemblyContext> assemblyContextStack) {
+        final AllocationContext allocationContext = allocationIndex.getAllocationContext(assemblyContextStack);
+        if (allocationContext == null) {
+            throw new PCMModelAccessException("No AllocationContext in Allocation " + this.allocation
+                    + " for AssemblyContext " + assemblyContextStack.peek() + " or its parents.");
         }
-
-        throw new PCMModelAccessException("No AllocationContext in Allocation " + allocation + " for AssemblyContext "
-                + this.context.getAssemblyContextStack().peek() + " or its parents.");
+        return allocationContext;
     }
 
 
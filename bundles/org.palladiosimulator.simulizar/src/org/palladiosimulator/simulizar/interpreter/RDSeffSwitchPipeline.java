@@ -0,0 +1,120 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.core.runtime.Platform;
+import org.palladiosimulator.commons.eclipseutils.ExtensionHelper;
+import org.palladiosimulator.simulizar.runtimestate.SimulatedBasicComponentInstance;
+
+/**
+ * Composes the RDSEFF interpreter out of the switches contributed via the RDSEFF switch extension
+ * point and the default {@link RDSeffSwitch}. The contributed {@link AbstractRDSeffSwitchFactory}s
+ * are resolved once and kept until the plug-in registry reports a change of the extension point,
+ * so interpreting a SEFF does not need to access the extension registry.
+ *
+ * As the factories are shared by all simulation runs and threads, they have to be stateless, see
+ * {@link AbstractRDSeffSwitchFactory}.
+ */
+final class RDSeffSwitchPipeline implements IRegistryEventListener {
+
+    private static final Logger LOGGER = Logger.getLogger(RDSeffSwitchPipeline.class);
+    private static final RDSeffSwitchPipeline INSTANCE = new RDSeffSwitchPipeline();
+
+    private volatile List<AbstractRDSeffSwitchFactory> switchFactories;
+    private boolean isListening = false;
+
+    private RDSeffSwitchPipeline() {
+        super();
+    }
+
+    /**
+     * @return the pipeline for the RDSEFF switches registered at the running platform.
+     */
+    static RDSeffSwitchPipeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates the composed switch used to interpret the SEFFs of the given component instance.
+     *
+     * @param context
+     *            Default context for the pcm interpreter.
+     * @param basicComponentInstance
+     *            Simulated component
+     * @return the composed switch containing the contributed switches and the default switch.
+     */
+    ExplicitDispatchComposedSwitch<Object> createInterpreter(final InterpreterDefaultContext context,
+            final SimulatedBasicComponentInstance basicComponentInstance) {
+        final ExplicitDispatchComposedSwitch<Object> interpreter = new ExplicitDispatchComposedSwitch<Object>();
+        for (final AbstractRDSeffSwitchFactory switchFactory : this.getSwitchFactories()) {
+            interpreter.addSwitch(switchFactory.createRDSeffSwitch(context, basicComponentInstance, interpreter));
+        }
+        // add default RDSeffSwitch
+        interpreter.addSwitch(new RDSeffSwitch(context, basicComponentInstance, interpreter));
+        return interpreter;
+    }
+
+    private List<AbstractRDSeffSwitchFactory> getSwitchFactories() {
+        List<AbstractRDSeffSwitchFactory> result = this.switchFactories;
+        if (result == null) {
+            synchronized (this) {
+                result = this.switchFactories;
+                if (result == null) {
+                    // listen first so that no registry change can get lost while resolving
+                    this.startListening();
+                    final List<AbstractRDSeffSwitchFactory> factories = ExtensionHelper.getExecutableExtensions(
+                            RepositoryComponentSwitch.RDSEFFSWITCH_EXTENSION_POINT_ID,
+                            RepositoryComponentSwitch.RDSEFFSWITCH_EXTENSION_ATTRIBUTE);
+                    result = Collections.unmodifiableList(new ArrayList<AbstractRDSeffSwitchFactory>(factories));
+                    this.switchFactories = result;
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Resolved " + result.size() + " contributed RDSEFF switch factories");
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void startListening() {
+        if (!this.isListening) {
+            final IExtensionRegistry registry = Platform.getExtensionRegistry();
+            if (registry != null) {
+                registry.addListener(this, RepositoryComponentSwitch.RDSEFFSWITCH_EXTENSION_POINT_ID);
+                this.isListening = true;
+            }
+        }
+    }
+
+    private void invalidate() {
+        LOGGER.debug("RDSEFF switch extensions changed, switch factories will be resolved again");
+        this.switchFactories = null;
+    }
+
+    @Override
+    public void added(final IExtension[] extensions) {
+        this.invalidate();
+    }
+
+    @Override
+    public void removed(final IExtension[] extensions) {
+        this.invalidate();
+    }
+
+    @Override
+    public void added(final IExtensionPoint[] extensionPoints) {
+        this.invalidate();
+    }
+
+    @Override
+    public void removed(final IExtensionPoint[] extensionPoints) {
+        this.invalidate();
+    }
+}
@@ -11,12 +11,10 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.ComposedSwitch;
-import org.palladiosimulator.commons.eclipseutils.ExtensionHelper;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.core.composition.ComposedStructure;
 import org.palladiosimulator.pcm.core.composition.CompositionFactory;
 import org.palladiosimulator.pcm.core.composition.CompositionPackage;
-import org.palladiosimulator.pcm.core.composition.Connector;
 import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
 import org.palladiosimulator.pcm.core.entity.ComposedProvidingRequiringEntity;
 import org.palladiosimulator.pcm.core.entity.EntityPackage;
@@ -85,22 +83,23 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         SimulatedStackHelper.createAndPushNewStackFrame(stack,
                 this.instanceAssemblyContext.getConfigParameterUsages__AssemblyContext(), componentParameterStackFrame);
 
-        final FQComponentID fqID = this.computeFQComponentID();
-        if (!this.context.getRuntimeState().getComponentInstanceRegistry().hasComponentInstance(fqID)) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Found new basic component component instance, registering it: " + basicComponent);
-                LOGGER.debug("FQComponentID is " + fqID);
-            }
-            this.context.getRuntimeState().getComponentInstanceRegistry()
-                    .addComponentInstance(new SimulatedBasicComponentInstance(this.context, fqID,
-                            basicComponent.getPassiveResource_BasicComponent()));
-        }
+        final SimulatedBasicComponentInstance basicComponentInstance = (SimulatedBasicComponentInstance) this.context
+                .getRuntimeState().getComponentInstanceRegistry()
+                .getOrCreateComponentInstance(this.computeFQComponentID(), fqID -> {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(
+                                "Found new basic component component instance, registering it: " + basicComponent);
+                        LOGGER.debug("FQComponentID is " + fqID);
+                    }
+                    return new SimulatedBasicComponentInstance(this.context, fqID,
+                            basicComponent.getPassiveResource_BasicComponent());
+                });
 
         // get seffs for call
         final List<ServiceEffectSpecification> calledSeffs = this
                 .getSeffsForCall(basicComponent.getServiceEffectSpecifications__BasicComponent(), this.signature);
 
-        final SimulatedStackframe<Object> result = this.interpretSeffs(calledSeffs);
+        final SimulatedStackframe<Object> result = this.interpretSeffs(calledSeffs, basicComponentInstance);
 
         /*
          * Remove created stack frame (including stack frame created for the results of an external
@@ -118,15 +117,15 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Entering ComposedProvidingRequiringEntity: " + entity);
         }
-        final FQComponentID fqID = this.computeFQComponentID();
-        if (!this.context.getRuntimeState().getComponentInstanceRegistry().hasComponentInstance(fqID)) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Found new composed component instance, registering it: " + entity);
-                LOGGER.debug("FQComponentID is " + fqID);
-            }
-            this.context.getRuntimeState().getComponentInstanceRegistry().addComponentInstance(
-                    new SimulatedCompositeComponentInstance(this.context.getRuntimeState(), fqID.getFQIDString()));
-        }
+        this.context.getRuntimeState().getComponentInstanceRegistry()
+                .getOrCreateComponentInstance(this.computeFQComponentID(), fqID -> {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Found new composed component instance, registering it: " + entity);
+                        LOGGER.debug("FQComponentID is " + fqID);
+                    }
+                    return new SimulatedCompositeComponentInstance(this.context.getRuntimeState(),
+                            fqID.getFQIDString());
+                });
 
         if (entity != this.providedRole.getProvidingEntity_ProvidedRole()) {
             throw new PCMModelInterpreterException("Interpret entity of provided role only");
@@ -148,21 +147,25 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         this.context.getAssemblyContextStack().push(this.instanceAssemblyContext == SYSTEM_ASSEMBLY_CONTEXT
                 ? this.generateSystemAssemblyContext(providedRole) : this.instanceAssemblyContext);
         
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-        	new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole, 
-        			EventType.BEGIN, this.context.getThread(), this.signature, this.instanceAssemblyContext));
+        this.firePassedEvent(providedRole, EventType.BEGIN);
 
         final SimulatedStackframe<Object> result = this.doSwitch(providedRole.getProvidingEntity_ProvidedRole());
 
         this.context.getAssemblyContextStack().pop();
         
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-            	new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole, 
-            			EventType.END, this.context.getThread(), this.signature, this.instanceAssemblyContext));
+        this.firePassedEvent(providedRole, EventType.END);
         
         return result;
     }
 
+    private void firePassedEvent(final ProvidedRole providedRole, final EventType eventType) {
+        final EventNotificationHelper eventHelper = this.context.getRuntimeState().getEventNotificationHelper();
+        if (eventHelper.isObserved(providedRole, eventType)) {
+            eventHelper.firePassedEvent(new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole,
+                    eventType, this.context.getThread(), this.signature, this.instanceAssemblyContext));
+        }
+    }
+
     private AssemblyContext generateSystemAssemblyContext(final ProvidedRole providedRole2) {
         final AssemblyContext result = CompositionFactory.eINSTANCE.createAssemblyContext();
         result.setEntityName(this.providedRole.getProvidingEntity_ProvidedRole().getEntityName());
@@ -196,9 +199,12 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
      *
      * @param calledSeffs
      *            a list of seffs.
+     * @param basicComponentInstance
+     *            the component instance executing the seffs.
      */
     @SuppressWarnings("unchecked")
-    private SimulatedStackframe<Object> interpretSeffs(final List<ServiceEffectSpecification> calledSeffs) {
+    private SimulatedStackframe<Object> interpretSeffs(final List<ServiceEffectSpecification> calledSeffs,
+            final SimulatedBasicComponentInstance basicComponentInstance) {
         /*
          * we assume exactly one seff per call, the meta model also allows no seffs, but we omit
          * that in this interpreter
@@ -209,17 +215,8 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         if (!(calledSeffs.get(0) instanceof ResourceDemandingSEFF)) {
             throw new PCMModelInterpreterException("Only ResourceDemandingSEFFs are currently supported.");
         } else {
-            final FQComponentID componentID = this.computeFQComponentID();
-            final SimulatedBasicComponentInstance basicComponentInstance = (SimulatedBasicComponentInstance) this.context
-                    .getRuntimeState().getComponentInstanceRegistry().getComponentInstance(componentID);
-            
-            final List<AbstractRDSeffSwitchFactory> switchFactories = ExtensionHelper
-            		.getExecutableExtensions(RDSEFFSWITCH_EXTENSION_POINT_ID, RDSEFFSWITCH_EXTENSION_ATTRIBUTE);
-            final  ExplicitDispatchComposedSwitch<Object> interpreter = new ExplicitDispatchComposedSwitch<Object>();
-            switchFactories.stream().forEach(s -> interpreter.addSwitch(
-            		s.createRDSeffSwitch(this.context, basicComponentInstance, interpreter)));
-            // add default RDSeffSwitch
-            interpreter.addSwitch(new RDSeffSwitch(this.context, basicComponentInstance, interpreter));
+            final ExplicitDispatchComposedSwitch<Object> interpreter = RDSeffSwitchPipeline.getInstance()
+                    .createInterpreter(this.context, basicComponentInstance);
             // interpret called seff
             return (SimulatedStackframe<Object>) interpreter.doSwitch(calledSeffs.get(0));
         }
@@ -260,14 +257,10 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         if (!CompositionPackage.eINSTANCE.getComposedStructure().isSuperTypeOf(implementingEntity.eClass())) {
             throw new PCMModelInterpreterException("Structure used for connector search must be a composed structure");
         }
-        for (final Connector connector : ((ComposedStructure) implementingEntity).getConnectors__ComposedStructure()) {
-            if (connector.eClass() == CompositionPackage.eINSTANCE.getProvidedDelegationConnector()) {
-
-                if (((ProvidedDelegationConnector) connector).getOuterProvidedRole_ProvidedDelegationConnector()
-                        .equals(providedRole)) {
-                    return (ProvidedDelegationConnector) connector;
-                }
-            }
+        final ProvidedDelegationConnector connector = ComposedStructureConnectorIndex
+                .of((ComposedStructure) implementingEntity).getProvidedDelegationConnector(providedRole);
+        if (connector != null) {
+            return connector;
         }
         throw new PCMModelInterpreterException("Found unbound provided role. PCM model is invalid.");
     }
@@ -0,0 +1,85 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.pcm.core.entity.ResourceProvidedRole;
+import org.palladiosimulator.pcm.resourcetype.ResourceInterface;
+import org.palladiosimulator.pcm.resourcetype.ResourceRepository;
+import org.palladiosimulator.pcm.resourcetype.ResourceType;
+import org.palladiosimulator.simulizar.utils.AdapterUtil;
+
+/**
+ * Index of the resource types of a {@link ResourceRepository} by the ids of the resource
+ * interfaces they provide.
+ *
+ * Resource repositories are hardly ever changed during a simulation, so the index does not track
+ * which resource type or provided role has changed. Any change of the repository or its contents
+ * makes the next lookup rebuild the whole index.
+ */
+final class ResourceTypeIndex extends EContentAdapter {
+
+    private final ResourceRepository resourceRepository;
+    private volatile Map<String, ResourceType> resourceTypes;
+
+    private ResourceTypeIndex(final ResourceRepository resourceRepository) {
+        super();
+        this.resourceRepository = resourceRepository;
+    }
+
+    /**
+     * Returns the index of the given resource repository, creating it if necessary.
+     *
+     * @param resourceRepository
+     *            the resource repository containing the resource types.
+     * @return the resource type index of the resource repository.
+     */
+    static ResourceTypeIndex of(final ResourceRepository resourceRepository) {
+        return AdapterUtil.getOrAttach(resourceRepository, ResourceTypeIndex.class,
+                () -> new ResourceTypeIndex(resourceRepository));
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == ResourceTypeIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.resourceTypes = null;
+        }
+    }
+
+    /**
+     * Gets the resource type providing the given resource interface. Like a linear search over the
+     * resource types of the repository, the last resource type providing the interface is returned.
+     *
+     * @param resourceInterface
+     *            the resource interface.
+     * @return the resource type, or null if no resource type provides the interface.
+     */
+    ResourceType getProvidingResourceType(final ResourceInterface resourceInterface) {
+        return this.getResourceTypes().get(resourceInterface.getId());
+    }
+
+    private Map<String, ResourceType> getResourceTypes() {
+        Map<String, ResourceType> result = this.resourceTypes;
+        if (result == null) {
+            result = new HashMap<String, ResourceType>();
+            for (final ResourceType resourceType : this.resourceRepository
+                    .getAvailableResourceTypes_ResourceRepository()) {
+                for (final ResourceProvidedRole resourceProvidedRole : resourceType
+                        .getResourceProvidedRoles__ResourceInterfaceProvidingEntity()) {
+                    result.put(resourceProvidedRole.getProvidedResourceInterface__ResourceProvidedRole().getId(),
+                            resourceType);
+                }
+            }
+            this.resourceTypes = result;
+        }
+        return result;
+    }
+}
@@ -1,7 +1,7 @@
 package org.palladiosimulator.simulizar.interpreter;
 
 import org.apache.log4j.Logger;
-import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.pcm.usagemodel.AbstractUserAction;
 import org.palladiosimulator.pcm.usagemodel.Branch;
 import org.palladiosimulator.pcm.usagemodel.BranchTransition;
@@ -15,10 +15,10 @@ import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
 import org.palladiosimulator.simulizar.exceptions.PCMModelInterpreterException;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEvent;
+import org.palladiosimulator.simulizar.utils.CompiledRandomVariable;
 import org.palladiosimulator.simulizar.utils.SimulatedStackHelper;
 import org.palladiosimulator.simulizar.utils.TransitionDeterminer;
 
-import de.uka.ipd.sdq.simucomframework.variables.StackContext;
 
 /**
  * Switch for Usage Scenario in Usage Model
@@ -68,8 +68,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
     @Override
     public T caseDelay(final Delay object) {
         // determine delay
-        final double delay = StackContext.evaluateStatic(object.getTimeSpecification_Delay().getSpecification(),
-                Double.class);
+        final double delay = CompiledRandomVariable.of(object.getTimeSpecification_Delay()).evaluateDouble(null);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Start delay " + delay + " @ simulation time "
                     + this.context.getModel().getSimulationControl().getCurrentSimulationTime());
@@ -93,16 +92,11 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
                 entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(),
                 entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall());
 
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<EntryLevelSystemCall>(entryLevelSystemCall,
-                        EventType.BEGIN, this.context.getThread()));
+        this.firePassedEvent(entryLevelSystemCall, EventType.BEGIN);
 
         // FIXME We stick to single model elements here even though several would be needed to
         // uniquely identify the measuring point of interest (system + role + signature) [Lehrig]
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<OperationSignature>(
-                        entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.BEGIN,
-                        this.context.getThread()));
+        this.firePassedEvent(entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.BEGIN);
 
         // create new stack frame for input parameter
         SimulatedStackHelper.createAndPushNewStackFrame(this.context.getStack(),
@@ -110,16 +104,11 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
         providedDelegationSwitch.doSwitch(entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall());
         this.context.getStack().removeStackFrame();
 
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<EntryLevelSystemCall>(entryLevelSystemCall, EventType.END,
-                        this.context.getThread()));
+        this.firePassedEvent(entryLevelSystemCall, EventType.END);
 
         // FIXME We stick to single model elements here even though several would be needed to
         // uniquely identify the measuring point of interest (system + role + signature) [Lehrig]
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<OperationSignature>(
-                        entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.END,
-                        this.context.getThread()));
+        this.firePassedEvent(entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.END);
 
         return super.caseEntryLevelSystemCall(entryLevelSystemCall);
     }
@@ -130,8 +119,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
     @Override
     public T caseLoop(final Loop object) {
         // determine number of loops
-        final int numberOfLoops = StackContext.evaluateStatic(object.getLoopIteration_Loop().getSpecification(),
-                Integer.class);
+        final int numberOfLoops = CompiledRandomVariable.of(object.getLoopIteration_Loop()).evaluateInt(null);
         for (int i = 0; i < numberOfLoops; i++) {
             LOGGER.debug("Interpret loop number " + i);
             this.doSwitch(object.getBodyBehaviour_Loop());
@@ -201,15 +189,20 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
      */
     @Override
     public T caseUsageScenario(final UsageScenario usageScenario) {
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-                new ModelElementPassedEvent<UsageScenario>(usageScenario, EventType.BEGIN, this.context.getThread()));
+        this.firePassedEvent(usageScenario, EventType.BEGIN);
         final int stacksize = this.context.getStack().size();
         this.doSwitch(usageScenario.getScenarioBehaviour_UsageScenario());
         if (this.context.getStack().size() != stacksize) {
             throw new PCMModelInterpreterException("Interpreter did not pop all pushed stackframes");
         }
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-                new ModelElementPassedEvent<UsageScenario>(usageScenario, EventType.END, this.context.getThread()));
+        this.firePassedEvent(usageScenario, EventType.END);
         return super.caseUsageScenario(usageScenario);
     }
+
+    private <E extends EObject> void firePassedEvent(final E modelElement, final EventType eventType) {
+        final EventNotificationHelper eventHelper = this.context.getRuntimeState().getEventNotificationHelper();
+        if (eventHelper.isObserved(modelElement, eventType)) {
+            eventHelper.firePassedEvent(new ModelElementPassedEvent<E>(modelElement, eventType, this.context.getThread()));
+        }
+    }
 }
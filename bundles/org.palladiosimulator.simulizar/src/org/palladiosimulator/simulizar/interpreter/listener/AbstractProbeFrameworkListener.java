@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -14,7 +15,6 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.commons.eclipseutils.ExtensionHelper;
 import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
-import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
 import org.palladiosimulator.metricspec.MetricDescription;
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.monitorrepository.MeasurementSpecification;
@@ -33,6 +33,7 @@ import org.palladiosimulator.probeframework.probes.TriggeredProbe;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.reconfiguration.Reconfigurator;
+import org.palladiosimulator.simulizar.utils.MonitorRepositoryIndex;
 import org.palladiosimulator.simulizar.utils.MonitorRepositoryUtil;
 
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
@@ -48,13 +49,22 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
 
     private static final int START_PROBE_INDEX = 0;
     private static final int STOP_PROBE_INDEX = 1;
+    private static final TriggeredProbe[] NO_PROBES = new TriggeredProbe[0];
 
     protected final SimuComModel simuComModel;
     protected final ICalculatorFactory calculatorFactory;
     protected final Reconfigurator reconfigurator;
     private final IModelAccess modelAccess;
 
-    private final Map<String, List<TriggeredProbe>> currentTimeProbes = new HashMap<String, List<TriggeredProbe>>();
+    private final Map<String, TriggeredProbe[]> currentTimeProbes = new HashMap<String, TriggeredProbe[]>();
+
+    /**
+     * Start and stop probes of the model elements passed so far. The events refer to elements of
+     * the local PCM copies, so the probes are looked up by id once per element and are then reached
+     * directly. Unmonitored elements are mapped to {@link #NO_PROBES}. EObjects have identity
+     * semantics, the weak keys allow discarded copies to be collected.
+     */
+    private final Map<EObject, TriggeredProbe[]> currentTimeProbesByElement = new WeakHashMap<>();
 
     /**
      * @param modelAccessFactory
@@ -75,6 +85,17 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
         this.initExtensionMeasurements();
     }
 
+    /**
+     * Measurements are only taken for usage scenarios, entry level system calls, system operation
+     * calls and external calls. Subclasses handling further events have to extend this
+     * declaration.
+     */
+    @Override
+    public boolean isInterestedIn(final InterpretedElementKind elementKind, final EventType eventType) {
+        return elementKind != InterpretedElementKind.UNKNOWN_ELEMENT
+                && elementKind != InterpretedElementKind.ASSEMBLY_PROVIDED_OPERATION_CALL;
+    }
+
     private void initExtensionMeasurements() {
         Iterable<AbstractRecordingProbeFrameworkListenerDecorator> extensions = ExtensionHelper.getExecutableExtensions(
                 "org.palladiosimulator.simulizar.interpreter.listener.probeframework", "decorator");
@@ -156,14 +177,6 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
         this.endMeasurement(event);
     }
 
-    @Override
-    public <T extends EObject> void beginUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
-    }
-
-    @Override
-    public <T extends EObject> void endUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
-    }
-
     /**
      * Gets the {@link SimuComModel} which is related to this instance.
      *
@@ -214,8 +227,11 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
             final MetricDescription soughtFor) {
         Objects.requireNonNull(soughtFor, "Given MetricDescription must not be null.");
 
-        return filterMeasurementSpecifications(
-                m -> MetricDescriptionUtility.metricDescriptionIdsEqual(m.getMetricDescription(), soughtFor));
+        final MonitorRepository monitorRepositoryModel = this.modelAccess.getMonitorRepositoryModel();
+        if (monitorRepositoryModel != null) {
+            return MonitorRepositoryIndex.of(monitorRepositoryModel).getActiveMeasurementSpecifications(soughtFor);
+        }
+        return Collections.emptyList();
     }
 
     /**
@@ -291,7 +307,10 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
         probeList.add(new TakeCurrentSimulationTimeProbe(simuComModel.getSimulationControl()));
         probeList.add(new TakeCurrentSimulationTimeProbe(simuComModel.getSimulationControl()));
         final EObject modelElement = MonitorRepositoryUtil.getMonitoredElement(measuringPoint);
-        this.currentTimeProbes.put(((Entity) modelElement).getId(), Collections.unmodifiableList(probeList));
+        this.currentTimeProbes.put(((Entity) modelElement).getId(),
+                new TriggeredProbe[] { (TriggeredProbe) probeList.get(START_PROBE_INDEX),
+                        (TriggeredProbe) probeList.get(STOP_PROBE_INDEX) });
+        this.currentTimeProbesByElement.clear();
         return probeList;
     }
 
@@ -308,39 +327,47 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
      * @param event
      */
     private <T extends Entity> void startMeasurement(final ModelElementPassedEvent<T> event) {
-        if (this.currentTimeProbes.containsKey(((Entity) event.getModelElement()).getId())
-                && this.simulationIsRunning()) {
-            this.currentTimeProbes.get(((Entity) event.getModelElement()).getId()).get(START_PROBE_INDEX)
-                    .takeMeasurement(event.getThread().getRequestContext());
-        }
+        this.takeMeasurement(event, START_PROBE_INDEX);
     }
 
     /**
      * @param event
      */
     private <T extends Entity> void endMeasurement(final ModelElementPassedEvent<T> event) {
-        if (this.currentTimeProbes.containsKey(((Entity) event.getModelElement()).getId())
-                && this.simulationIsRunning()) {
-            this.currentTimeProbes.get(((Entity) event.getModelElement()).getId()).get(STOP_PROBE_INDEX)
-                    .takeMeasurement(event.getThread().getRequestContext());
-        }
+        this.takeMeasurement(event, STOP_PROBE_INDEX);
     }
 
     @Override
     public void beginSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
-        if (this.currentTimeProbes.containsKey(((Entity) event.getModelElement()).getId())
-                && this.simulationIsRunning()) {
-            this.currentTimeProbes.get(((Entity) event.getModelElement()).getId()).get(START_PROBE_INDEX)
-                    .takeMeasurement(event.getThread().getRequestContext());
-        }
+        this.takeMeasurement(event, START_PROBE_INDEX);
     }
 
     @Override
     public void endSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
-        if (this.currentTimeProbes.containsKey(((Entity) event.getModelElement()).getId())
-                && this.simulationIsRunning()) {
-            this.currentTimeProbes.get(((Entity) event.getModelElement()).getId()).get(STOP_PROBE_INDEX)
-                    .takeMeasurement(event.getThread().getRequestContext());
+        this.takeMeasurement(event, STOP_PROBE_INDEX);
+    }
+
+    /**
+     * Takes a measurement with the start or stop probe of the passed model element, if it is
+     * instrumented.
+     *
+     * @param event
+     *            the event of the passed model element.
+     * @param probeIndex
+     *            {@link #START_PROBE_INDEX} or {@link #STOP_PROBE_INDEX}.
+     */
+    private void takeMeasurement(final ModelElementPassedEvent<?> event, final int probeIndex) {
+        final EObject modelElement = event.getModelElement();
+        TriggeredProbe[] probes = this.currentTimeProbesByElement.get(modelElement);
+        if (probes == null) {
+            probes = this.currentTimeProbes.get(((Entity) modelElement).getId());
+            if (probes == null) {
+                probes = NO_PROBES;
+            }
+            this.currentTimeProbesByElement.put(modelElement, probes);
+        }
+        if (probes != NO_PROBES && this.simulationIsRunning()) {
+            probes[probeIndex].takeMeasurement(event.getThread().getRequestContext());
         }
     }
 
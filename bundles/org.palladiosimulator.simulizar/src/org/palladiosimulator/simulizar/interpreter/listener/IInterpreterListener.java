@@ -10,6 +10,23 @@ import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 
 public interface IInterpreterListener {
 
+    /**
+     * Declares whether the listener wants to be notified when elements of the given kind are
+     * interpreted. Events the listener is not interested in are not delivered to it, and the
+     * interpreters skip creating events no listener is interested in. The declaration must not
+     * change while the listener is registered.
+     *
+     * @param elementKind
+     *            the kind of the interpreted element.
+     * @param eventType
+     *            the type of the event.
+     * @return true if the corresponding listener method is to be called. Listeners are interested
+     *         in all events by default.
+     */
+    public default boolean isInterestedIn(final InterpretedElementKind elementKind, final EventType eventType) {
+        return true;
+    }
+
     public void beginUsageScenarioInterpretation(ModelElementPassedEvent<UsageScenario> event);
 
     public void endUsageScenarioInterpretation(ModelElementPassedEvent<UsageScenario> event);
@@ -0,0 +1,12 @@
+package org.palladiosimulator.simulizar.interpreter.listener;
+
+/**
+ * Kinds of interpreted model elements, one for each pair of begin/end methods of
+ * {@link IInterpreterListener}. Listeners use them to declare the events they are interested in.
+ *
+ * @see IInterpreterListener#isInterestedIn(InterpretedElementKind, EventType)
+ */
+public enum InterpretedElementKind {
+    USAGE_SCENARIO, ENTRY_LEVEL_SYSTEM_CALL, SYSTEM_OPERATION_CALL, ASSEMBLY_PROVIDED_OPERATION_CALL, EXTERNAL_CALL,
+    UNKNOWN_ELEMENT
+}
@@ -25,6 +25,14 @@ public class LogDebugListener extends AbstractInterpreterListener {
         super();
     }
 
+    /**
+     * @return true if the listener would log passed events. Registering the listener otherwise
+     *         only causes events to be created and dispatched for nothing.
+     */
+    public static boolean isDebugEnabled() {
+        return LOGGER.isDebugEnabled();
+    }
+
     /*
      * (non-Javadoc)
      *
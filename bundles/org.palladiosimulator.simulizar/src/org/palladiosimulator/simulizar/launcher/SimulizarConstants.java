@@ -20,6 +20,10 @@ public class SimulizarConstants {
     public static final String USAGEEVOLUTION_FILE = "usageEvolutionFile";
     public static final String SERVICELEVELOBJECTIVEREPOSITORY_FILE = "serviceLevelObjectiveRepositoryFile";
 
+    // Reconfiguration configuration identifiers
+    public static final String RECONFIGURATION_CHECK_INTERVAL = "reconfigurationCheckInterval";
+    public static final String STOP_CHECK_AFTER_RECONFIGURATION = "stopCheckAfterReconfiguration";
+
     /**
      * Id of the extension point used for reconfiguration engines
      */
@@ -56,5 +60,9 @@ public class SimulizarConstants {
     public static final String DEFAULT_USAGEEVOLUTION_FILE = "";
     public static final String DEFAULT_INFRASTRUCTURE_MODEL_FILE = "";
     public static final String DEFAULT_SERVICELEVELOBJECTIVE_FILE = "";
+    /** Default minimum simulation time between two checks of a reconfiguration engine. */
+    public static final double DEFAULT_RECONFIGURATION_CHECK_INTERVAL = 0d;
+    /** By default, all reconfiguration rules are checked, even if one of them reconfigured the system. */
+    public static final boolean DEFAULT_STOP_CHECK_AFTER_RECONFIGURATION = false;
 
 }
@@ -18,6 +18,7 @@ public abstract class PRMRecorder {
 
     private final RuntimeMeasurement measurement;
     private final RuntimeMeasurementModel prmAccess;
+    private PRMUpdateBatcher updateBatcher;
 
     /**
      * Constructor
@@ -69,16 +70,31 @@ public abstract class PRMRecorder {
     }
 
     /**
-     * Add measurement for measurement specification and PCMModelElementMeasurement to prm model.
+     * Add measurement for measurement specification and PCMModelElementMeasurement to prm model. If
+     * a {@link PRMUpdateBatcher} is attached to the prm model, the update is deferred until the
+     * batcher is flushed.
      *
      * @param value
      *            the measurement value.
      */
     protected void updateMeasurementValue(final double value) {
-        // this has the corresponding PRM instance trigger a notification
-        // all attached adapters (such as the Reconfigurator class) are informed
-        // event type of notification: Notification.SET
-        this.measurement.setMeasuringValue(value);
+        final PRMUpdateBatcher batcher = getUpdateBatcher();
+        if (batcher != null) {
+            batcher.update(this.measurement, value);
+        } else {
+            // this has the corresponding PRM instance trigger a notification
+            // all attached adapters (such as the Reconfigurator class) are informed
+            // event type of notification: Notification.SET
+            this.measurement.setMeasuringValue(value);
+        }
+    }
+
+    private PRMUpdateBatcher getUpdateBatcher() {
+        // a batcher attached by a subsequent simulation run replaces the cached one
+        if (this.updateBatcher == null || !this.updateBatcher.isAttachedTo(this.prmAccess)) {
+            this.updateBatcher = PRMUpdateBatcher.of(this.prmAccess);
+        }
+        return this.updateBatcher;
     }
 
     /**
@@ -0,0 +1,232 @@
+package org.palladiosimulator.simulizar.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+
+import de.uka.ipd.sdq.simucomframework.entities.SimuComEntity;
+import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
+import de.uka.ipd.sdq.simulation.abstractsimengine.AbstractSimEventDelegator;
+
+/**
+ * Buffers the updates of the measuring values of a {@link RuntimeMeasurementModel} that occur at
+ * the same simulation time instant and applies them at once. Each {@link RuntimeMeasurement} is
+ * set at most once per flush, to the most recent value, so that the adapters of the model (e.g.,
+ * the {@code Reconfigurator}) receive a single notification per measurement instead of one per
+ * update.<br>
+ * During a simulation, the updates are flushed by an event scheduled at the simulation time of the
+ * first buffered update, i.e., the simulation clock does not advance before the measuring values
+ * are up to date. {@link PRMRecorder}s use the batcher that is attached to their runtime
+ * measurement model; if none is attached, the measuring values are set directly.<br>
+ * The buffered updates are guarded by the batcher's monitor, but the measuring values are set
+ * without holding it, as the adapters of the model are notified meanwhile.
+ *
+ * @see #attach(RuntimeMeasurementModel, SimuComModel)
+ * @see #attach(RuntimeMeasurementModel, FlushScheduler)
+ * @see #flush()
+ */
+public final class PRMUpdateBatcher extends AdapterImpl {
+
+    private final RuntimeMeasurementModel runtimeMeasurementModel;
+    private final FlushScheduler flushScheduler;
+    // keeps the order of the first update per measurement, in order to notify deterministically
+    private final Map<RuntimeMeasurement, Double> pendingUpdates = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    private PRMUpdateBatcher(final RuntimeMeasurementModel runtimeMeasurementModel,
+            final FlushScheduler flushScheduler) {
+        this.runtimeMeasurementModel = runtimeMeasurementModel;
+        this.flushScheduler = flushScheduler;
+    }
+
+    /**
+     * Schedules the flushes of a {@link PRMUpdateBatcher}.
+     */
+    public interface FlushScheduler {
+
+        /**
+         * Requests the given batcher to be flushed once the current time instant is over, i.e.,
+         * after all updates of this time instant have been buffered. Invoked at most once until
+         * the batcher has been flushed.
+         *
+         * @param batcher
+         *            The {@link PRMUpdateBatcher} to flush.
+         */
+        void scheduleFlush(PRMUpdateBatcher batcher);
+
+        /**
+         * Withdraws the pending flush request, if any.
+         */
+        void cancelFlush();
+    }
+
+    /**
+     * Creates a batcher for the given runtime measurement model which is flushed by the simulation
+     * and attaches it to the model.
+     *
+     * @param runtimeMeasurementModel
+     *            The {@link RuntimeMeasurementModel} whose updates are to be batched.
+     * @param model
+     *            The {@link SimuComModel} whose simulation clock determines when the updates are
+     *            flushed.
+     * @return The attached {@link PRMUpdateBatcher}.
+     * @throws NullPointerException
+     *             In case any of the parameters is {@code null}.
+     * @see #attach(RuntimeMeasurementModel, FlushScheduler)
+     */
+    public static PRMUpdateBatcher attach(final RuntimeMeasurementModel runtimeMeasurementModel,
+            final SimuComModel model) {
+        return attach(runtimeMeasurementModel, new SimulationFlushScheduler(Objects.requireNonNull(model)));
+    }
+
+    /**
+     * Creates a batcher for the given runtime measurement model and attaches it to the model. A
+     * batcher that is still attached to the model (e.g., by a previous simulation run which has not
+     * been cleaned up) is detached beforehand.
+     *
+     * @param runtimeMeasurementModel
+     *            The {@link RuntimeMeasurementModel} whose updates are to be batched.
+     * @param flushScheduler
+     *            The {@link FlushScheduler} which determines when the updates are flushed.
+     * @return The attached {@link PRMUpdateBatcher}.
+     * @throws NullPointerException
+     *             In case any of the parameters is {@code null}.
+     */
+    public static PRMUpdateBatcher attach(final RuntimeMeasurementModel runtimeMeasurementModel,
+            final FlushScheduler flushScheduler) {
+        Objects.requireNonNull(flushScheduler);
+        synchronized (Objects.requireNonNull(runtimeMeasurementModel)) {
+            final PRMUpdateBatcher previousBatcher = of(runtimeMeasurementModel);
+            if (previousBatcher != null) {
+                previousBatcher.detach();
+            }
+            final PRMUpdateBatcher batcher = new PRMUpdateBatcher(runtimeMeasurementModel, flushScheduler);
+            runtimeMeasurementModel.eAdapters().add(batcher);
+            return batcher;
+        }
+    }
+
+    /**
+     * @param runtimeMeasurementModel
+     *            A {@link RuntimeMeasurementModel}.
+     * @return The {@link PRMUpdateBatcher} attached to the model, or {@code null} if there is none.
+     */
+    static PRMUpdateBatcher of(final RuntimeMeasurementModel runtimeMeasurementModel) {
+        return (PRMUpdateBatcher) EcoreUtil.getExistingAdapter(runtimeMeasurementModel, PRMUpdateBatcher.class);
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == PRMUpdateBatcher.class;
+    }
+
+    /**
+     * @param runtimeMeasurementModel
+     *            A {@link RuntimeMeasurementModel}.
+     * @return {@code true} if this batcher is (still) attached to the given model.
+     */
+    boolean isAttachedTo(final RuntimeMeasurementModel runtimeMeasurementModel) {
+        return getTarget() == runtimeMeasurementModel;
+    }
+
+    /**
+     * Buffers the new measuring value of the given measurement until the next flush.
+     *
+     * @param measurement
+     *            The {@link RuntimeMeasurement} to update.
+     * @param value
+     *            The new measuring value.
+     */
+    synchronized void update(final RuntimeMeasurement measurement, final double value) {
+        this.pendingUpdates.put(measurement, value);
+        if (!this.flushScheduled) {
+            this.flushScheduled = true;
+            this.flushScheduler.scheduleFlush(this);
+        }
+    }
+
+    /**
+     * Applies all buffered updates. This method is invoked by the {@link FlushScheduler} at the end
+     * of the time instant of the buffered updates, but may also be called explicitly, e.g., when
+     * the simulation has stopped.
+     */
+    public void flush() {
+        final List<Map.Entry<RuntimeMeasurement, Double>> updates;
+        synchronized (this) {
+            this.flushScheduled = false;
+            if (this.pendingUpdates.isEmpty()) {
+                return;
+            }
+            // adapters might trigger further updates while being notified
+            updates = new ArrayList<>(this.pendingUpdates.entrySet());
+            this.pendingUpdates.clear();
+        }
+        for (final Map.Entry<RuntimeMeasurement, Double> update : updates) {
+            // measurements might have been detached in the meantime
+            if (update.getKey().eContainer() == this.runtimeMeasurementModel) {
+                update.getKey().setMeasuringValue(update.getValue());
+            }
+        }
+    }
+
+    /**
+     * Applies all buffered updates and detaches this batcher from its runtime measurement model,
+     * so that subsequent updates are applied directly.
+     */
+    public void detach() {
+        this.runtimeMeasurementModel.eAdapters().remove(this);
+        synchronized (this) {
+            if (this.flushScheduled) {
+                this.flushScheduler.cancelFlush();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Flushes the batcher by an event scheduled at the current simulation time.
+     */
+    private static final class SimulationFlushScheduler implements FlushScheduler {
+
+        private final SimuComEntity flushEntity;
+        private final FlushEvent flushEvent;
+
+        private SimulationFlushScheduler(final SimuComModel model) {
+            this.flushEntity = new SimuComEntity(model, "PRMUpdateBatcher") {
+            };
+            this.flushEvent = new FlushEvent(model);
+        }
+
+        @Override
+        public void scheduleFlush(final PRMUpdateBatcher batcher) {
+            this.flushEvent.batcher = batcher;
+            this.flushEvent.schedule(this.flushEntity, 0);
+        }
+
+        @Override
+        public void cancelFlush() {
+            this.flushEvent.removeEvent();
+        }
+    }
+
+    private static final class FlushEvent extends AbstractSimEventDelegator<SimuComEntity> {
+
+        private PRMUpdateBatcher batcher;
+
+        private FlushEvent(final SimuComModel model) {
+            super(model, "PRMUpdateFlushEvent");
+        }
+
+        @Override
+        public void eventRoutine(final SimuComEntity who) {
+            this.batcher.flush();
+        }
+    }
+}
@@ -19,5 +19,16 @@ public abstract class AbstractReconfigurator implements IReconfigurationEngine {
 	public void setConfiguration(SimuLizarWorkflowConfiguration configuration) {
 		this.configuration = configuration;	
 	}
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation returns the interval of the simulation configuration.
+     *
+     * @see SimuLizarWorkflowConfiguration#getReconfigurationCheckInterval()
+     */
+    @Override
+    public double getMinimumCheckInterval() {
+        return this.configuration != null ? this.configuration.getReconfigurationCheckInterval() : 0d;
+    }
     
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.palladiosimulator.simulizar.reconfiguration;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
 import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
@@ -50,4 +51,42 @@ public interface IReconfigurationEngine {
 	
 	public void setConfiguration(final SimuLizarWorkflowConfiguration configuration);
 
+	/**
+	 * Indicates whether the checks of this engine depend on the given runtime
+	 * measurement, e.g., on its measuring point or the metric of its
+	 * measurement specification. Checks are only triggered by changes of
+	 * measurements the engine depends on.<br>
+	 * The default implementation returns <code>true</code>, i.e., the engine
+	 * depends on all measurements.
+	 * 
+	 * @param measurement
+	 *            The {@link RuntimeMeasurement} that changed.
+	 * @return <code>true</code> if a change of the measurement shall trigger a
+	 *         check by this engine, <code>false</code> otherwise.
+	 */
+	public default boolean dependsOn(final RuntimeMeasurement measurement) {
+		return true;
+	}
+
+	/**
+	 * Gets the minimum simulation time that has to pass between two checks of
+	 * this engine. Changes that occur before the interval has passed are
+	 * checked as soon as it has passed.<br>
+	 * The default implementation returns <code>0</code>, i.e., the engine may
+	 * be checked once per simulation time step.
+	 * 
+	 * @return The non-negative minimum check interval.
+	 */
+	public default double getMinimumCheckInterval() {
+		return 0d;
+	}
+
+	/**
+	 * Releases the resources of this engine, e.g., listeners attached to the
+	 * models, once the simulation run has finished. The default implementation
+	 * does nothing.
+	 */
+	public default void cleanUp() {
+	}
+
 }
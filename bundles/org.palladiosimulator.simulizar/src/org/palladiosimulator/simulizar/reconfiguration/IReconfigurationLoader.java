@@ -10,4 +10,12 @@ public interface IReconfigurationLoader {
 	public void setConfiguration(SimuLizarWorkflowConfiguration configuration);
 	public void setModelAccess(IModelAccess modelAccess);
 	public List<ModelTransformation<? extends Object>> getTransformations();
+
+	/**
+	 * Prepares the transformations before the simulation starts, e.g., by
+	 * loading and compiling them. The default implementation does nothing, so
+	 * that the transformations are prepared upon their first use.
+	 */
+	public default void prepareTransformations() {
+	}
 }
@@ -188,8 +188,10 @@ public class ReconfigurationProcess extends SimuComSimProcess {
 		while (!this.isTerminationRequested()) {
 			final EObject monitoredElement = this.getMonitoredElement();
 			if (monitoredElement != null) {
-				this.reconfigurators
-						.forEach(this.doReconfiguration(this.simControl.getCurrentSimulationTime(), monitoredElement));
+				final double currentSimulationTime = this.simControl.getCurrentSimulationTime();
+				// only the reconfigurators whose inputs changed are checked
+				this.reconfigurator.pollEnginesToCheck(this.reconfigurators, currentSimulationTime)
+						.forEach(this.doReconfiguration(currentSimulationTime, monitoredElement));
 				// all reconfigurators did their job, so we can go to sleep
 				this.passivate();
 			}
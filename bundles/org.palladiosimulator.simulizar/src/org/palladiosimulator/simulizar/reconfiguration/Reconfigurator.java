@@ -1,6 +1,11 @@
 package org.palladiosimulator.simulizar.reconfiguration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Adapter;
@@ -20,7 +25,9 @@ import org.palladiosimulator.simulizar.interpreter.listener.ReconfigurationExecu
 import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
 
+import de.uka.ipd.sdq.simucomframework.entities.SimuComEntity;
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
+import de.uka.ipd.sdq.simulation.abstractsimengine.AbstractSimEventDelegator;
 import de.uka.ipd.sdq.simulation.abstractsimengine.ISimulationControl;
 
 /**
@@ -75,6 +82,17 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 
 	private double lastReconfigurationTime = 0;
 
+	// engines whose inputs changed since their last check
+	private final Set<IReconfigurationEngine> enginesWithPendingChanges = new HashSet<>();
+	// earliest simulation time of the next check of each engine checked so far
+	private final Map<IReconfigurationEngine, Double> nextCheckTimes = new HashMap<>();
+	// simulation time of the last check of each engine checked so far
+	private final Map<IReconfigurationEngine, Double> lastCheckTimes = new HashMap<>();
+
+	// will be initialized lazily, once the first check is deferred
+	private DeferredCheckEvent deferredCheckEvent;
+	private double deferredCheckTime = Double.NaN;
+
 	private SimuLizarWorkflowConfiguration configuration;
 
 	/**
@@ -110,15 +128,21 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 	 * Setup all listeners to listen for their respective model changes.
 	 */
 	public void startListening() {
+		this.reconfigurationLoaders.forEach(IReconfigurationLoader::prepareTransformations);
 		this.runtimeMeasurementModel.eAdapters().add(this.runtimeMeasurementListener);
 	}
 
 	/**
-	 * Detach all model listeners and request termination of reconfiguration
-	 * process.
+	 * Detach all model listeners, clean up the reconfiguration engines and
+	 * request termination of reconfiguration process.
 	 */
 	public void cleanUp() {
 		this.runtimeMeasurementModel.eAdapters().remove(this.runtimeMeasurementListener);
+		this.reconfiguratorEngines.forEach(IReconfigurationEngine::cleanUp);
+		if (!Double.isNaN(this.deferredCheckTime)) {
+			this.deferredCheckEvent.removeEvent();
+			this.deferredCheckTime = Double.NaN;
+		}
 		// this also requires that the reconfiguration process be terminated
 		if (this.reconfigurationProcess != null) {
 			this.reconfigurationProcess.requestTermination();
@@ -127,31 +151,170 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 	}
 
 	/**
-	 * Method which is called on a change in the RuntimeMeasurement. All
-	 * reconfigurators are informed and can check for potential
-	 * reconfigurations.
+	 * Method which is called on a change in the RuntimeMeasurement. The
+	 * reconfigurators depending on the changed measurement are marked and can
+	 * check for potential reconfigurations, which happens at most once per
+	 * simulation time step and respects their minimum check intervals. Checks
+	 * that are deferred due to the intervals are triggered as soon as the
+	 * intervals have passed.
 	 *
 	 * @param notification
 	 *            The notification event, which describes a change in the
 	 *            RuntimeMeasurement model.
+	 * @see IReconfigurationEngine#dependsOn(RuntimeMeasurement)
+	 * @see IReconfigurationEngine#getMinimumCheckInterval()
 	 */
 	protected void checkAndExecuteReconfigurations(final Notification notification) {
 		final EObject monitoredElement = this.getMonitoredElement(notification);
+		if (!this.isNotificationNewMeasurement(monitoredElement)) {
+			return;
+		}
+		final RuntimeMeasurement changedMeasurement = this.getChangedMeasurement(notification);
+		for (final IReconfigurationEngine engine : this.reconfiguratorEngines) {
+			if (changedMeasurement == null || engine.dependsOn(changedMeasurement)) {
+				this.enginesWithPendingChanges.add(engine);
+			}
+		}
+		this.triggerReconfigurations(false);
+	}
 
+	/**
+	 * Triggers the check of the engines whose check is due. Otherwise, a check
+	 * is scheduled for the engines whose check is deferred.
+	 *
+	 * @param deferred
+	 *            Whether the trigger is a deferred check. Deferred checks are
+	 *            not restricted to one reconfiguration per simulation time step,
+	 *            as they only concern engines which have not been checked at
+	 *            the current simulation time, see
+	 *            {@link #isCheckDue(IReconfigurationEngine, double)}. Otherwise,
+	 *            a deferred check would be lost if a reconfiguration already
+	 *            took place at the time the check was deferred to.
+	 */
+	private void triggerReconfigurations(final boolean deferred) {
 		// Value changed, reconfiguration is triggered. Reconfiguration only
 		// executes if the
 		// previous reconfiguration is finished. This could be done on a
 		// more fine-granular
 		// level (one thread per executor).
-		if (this.isNotificationNewMeasurement(monitoredElement)
-				&& this.model.getSimulationControl().getCurrentSimulationTime() > this.lastReconfigurationTime
-				&& (this.reconfigurationProcess == null || !this.reconfigurationProcess.isScheduled())) {
+		// If the reconfiguration process is still scheduled, it checks all
+		// engines whose check is due once it runs at the current time.
+		final double currentSimulationTime = this.model.getSimulationControl().getCurrentSimulationTime();
+		if ((deferred || currentSimulationTime > this.lastReconfigurationTime)
+				&& (this.reconfigurationProcess == null || !this.reconfigurationProcess.isScheduled())
+				&& this.reconfiguratorEngines.stream()
+						.anyMatch(engine -> this.isCheckDue(engine, currentSimulationTime))) {
 			if (this.reconfigurationProcess == null) {
 				this.reconfigurationProcess = new ReconfigurationProcess(this.model, this.reconfiguratorEngines, this);
 			}
 			this.reconfigurationProcess.executeReconfigurations(this.runtimeMeasurementModel);
 			this.lastReconfigurationTime = this.model.getSimulationControl().getCurrentSimulationTime();
+		} else {
+			this.scheduleDeferredCheck(currentSimulationTime);
+		}
+	}
+
+	/**
+	 * Schedules a check at the earliest time at which an engine with pending
+	 * changes, whose check is deferred, may be checked again.
+	 */
+	private void scheduleDeferredCheck(final double currentSimulationTime) {
+		double earliestCheckTime = Double.POSITIVE_INFINITY;
+		for (final IReconfigurationEngine engine : this.enginesWithPendingChanges) {
+			final Double nextCheckTime = this.nextCheckTimes.get(engine);
+			if (nextCheckTime != null && nextCheckTime > currentSimulationTime) {
+				earliestCheckTime = Math.min(earliestCheckTime, nextCheckTime);
+			}
+		}
+		if (earliestCheckTime == Double.POSITIVE_INFINITY
+				|| (!Double.isNaN(this.deferredCheckTime) && this.deferredCheckTime <= earliestCheckTime)) {
+			return;
+		}
+		if (this.deferredCheckEvent == null) {
+			this.deferredCheckEvent = new DeferredCheckEvent(this.model);
+		} else if (!Double.isNaN(this.deferredCheckTime)) {
+			this.deferredCheckEvent.removeEvent();
+		}
+		this.deferredCheckTime = earliestCheckTime;
+		this.deferredCheckEvent.schedule(this.deferredCheckEvent.entity, earliestCheckTime - currentSimulationTime);
+	}
+
+	private void runDeferredCheck() {
+		final double checkTime = this.deferredCheckTime;
+		this.deferredCheckTime = Double.NaN;
+		// the simulation clock might not hit the scheduled time exactly
+		final double currentSimulationTime = this.model.getSimulationControl().getCurrentSimulationTime();
+		for (final Map.Entry<IReconfigurationEngine, Double> nextCheckTime : this.nextCheckTimes.entrySet()) {
+			if (nextCheckTime.getValue() <= checkTime) {
+				nextCheckTime.setValue(Math.min(nextCheckTime.getValue(), currentSimulationTime));
+			}
+		}
+		this.triggerReconfigurations(true);
+	}
+
+	/**
+	 * Triggers the check of the engines whose checks have been deferred.
+	 */
+	private final class DeferredCheckEvent extends AbstractSimEventDelegator<SimuComEntity> {
+
+		private final SimuComEntity entity;
+
+		private DeferredCheckEvent(final SimuComModel model) {
+			super(model, "DeferredReconfigurationCheckEvent");
+			this.entity = new SimuComEntity(model, "Reconfigurator") {
+			};
+		}
+
+		@Override
+		public void eventRoutine(final SimuComEntity who) {
+			Reconfigurator.this.runDeferredCheck();
+		}
+	}
+
+	/**
+	 * Gets the reconfigurators that shall check for potential reconfigurations
+	 * at the given simulation time, i.e., the ones whose inputs changed and
+	 * whose minimum check interval has passed. The pending changes of the
+	 * returned reconfigurators are considered to be processed. A check of the
+	 * remaining reconfigurators with pending changes is scheduled for the time
+	 * their intervals have passed.
+	 *
+	 * @param engines
+	 *            The reconfigurators to consider.
+	 * @param currentSimulationTime
+	 *            The current simulation time.
+	 * @return The reconfigurators to check, in the given order.
+	 */
+	List<IReconfigurationEngine> pollEnginesToCheck(final Iterable<IReconfigurationEngine> engines,
+			final double currentSimulationTime) {
+		final List<IReconfigurationEngine> enginesToCheck = new ArrayList<>();
+		for (final IReconfigurationEngine engine : engines) {
+			if (this.isCheckDue(engine, currentSimulationTime)) {
+				this.enginesWithPendingChanges.remove(engine);
+				this.nextCheckTimes.put(engine, currentSimulationTime + engine.getMinimumCheckInterval());
+				this.lastCheckTimes.put(engine, currentSimulationTime);
+				enginesToCheck.add(engine);
+			}
 		}
+		this.scheduleDeferredCheck(currentSimulationTime);
+		return enginesToCheck;
+	}
+
+	/**
+	 * Indicates whether the engine shall be checked at the given simulation
+	 * time, i.e., its inputs changed, it has not been checked at this time yet
+	 * and its minimum check interval has passed.
+	 */
+	private boolean isCheckDue(final IReconfigurationEngine engine, final double currentSimulationTime) {
+		if (!this.enginesWithPendingChanges.contains(engine)) {
+			return false;
+		}
+		final Double lastCheckTime = this.lastCheckTimes.get(engine);
+		if (lastCheckTime != null && currentSimulationTime <= lastCheckTime) {
+			return false;
+		}
+		final Double nextCheckTime = this.nextCheckTimes.get(engine);
+		return nextCheckTime == null || currentSimulationTime >= nextCheckTime;
 	}
 
 	/**
@@ -217,6 +380,21 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 		}
 	}
 
+	/**
+	 * Retrieve the changed {@link RuntimeMeasurement} from the
+	 * RuntimeMeasurement change event.
+	 *
+	 * @param notification
+	 *            The RuntimeMeasurment change event.
+	 * @return The added or changed measurement, or <code>null</code> if it
+	 *         cannot be determined.
+	 */
+	private RuntimeMeasurement getChangedMeasurement(final Notification notification) {
+		final Object changedObject = notification.getEventType() == Notification.ADD ? notification.getNewValue()
+				: notification.getNotifier();
+		return changedObject instanceof RuntimeMeasurement ? (RuntimeMeasurement) changedObject : null;
+	}
+
 	/**
 	 * Gets the current reconfiguration process.
 	 *
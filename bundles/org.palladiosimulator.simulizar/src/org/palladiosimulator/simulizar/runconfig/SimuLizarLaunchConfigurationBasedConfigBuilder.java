@@ -37,6 +37,15 @@ public class SimuLizarLaunchConfigurationBasedConfigBuilder extends SimuComLaunc
         config.setServiceLevelObjectivesFile(
                 this.getStringAttribute(SimulizarConstants.SERVICELEVELOBJECTIVEREPOSITORY_FILE));
         config.setUsageEvolutionFile(this.getStringAttribute(SimulizarConstants.USAGEEVOLUTION_FILE));
+        // optional, as launch configurations of former versions do not contain it
+        if (this.properties.containsKey(SimulizarConstants.RECONFIGURATION_CHECK_INTERVAL)) {
+            config.setReconfigurationCheckInterval(
+                    Double.parseDouble(this.getStringAttribute(SimulizarConstants.RECONFIGURATION_CHECK_INTERVAL)));
+        }
+        if (this.properties.containsKey(SimulizarConstants.STOP_CHECK_AFTER_RECONFIGURATION)) {
+            config.setStopCheckAfterReconfiguration(
+                    this.getBooleanAttribute(SimulizarConstants.STOP_CHECK_AFTER_RECONFIGURATION));
+        }
 
         final SimuComConfig simuComConfig = new SimuComConfig(this.properties, config.isDebug());
 
@@ -3,6 +3,7 @@ package org.palladiosimulator.simulizar.runconfig;
 import java.util.Map;
 
 import org.apache.log4j.Logger;
+import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
 
 import de.uka.ipd.sdq.codegen.simucontroller.runconfig.SimuComWorkflowConfiguration;
 
@@ -15,6 +16,8 @@ public class SimuLizarWorkflowConfiguration extends SimuComWorkflowConfiguration
     protected String reconfigurationRulesFolder;
     protected String usageEvolutionFile;
     protected String serviceLevelObjectivesFile;
+    protected double reconfigurationCheckInterval = SimulizarConstants.DEFAULT_RECONFIGURATION_CHECK_INTERVAL;
+    protected boolean stopCheckAfterReconfiguration = SimulizarConstants.DEFAULT_STOP_CHECK_AFTER_RECONFIGURATION;
 
     public SimuLizarWorkflowConfiguration(final Map<String, Object> attributes) {
         super(attributes);
@@ -52,6 +55,33 @@ public class SimuLizarWorkflowConfiguration extends SimuComWorkflowConfiguration
         this.serviceLevelObjectivesFile = serviceLevelObjectivesFile;
     }
 
+    /**
+     * @return The minimum simulation time that has to pass between two checks of a reconfiguration
+     *         engine.
+     */
+    public double getReconfigurationCheckInterval() {
+        return this.reconfigurationCheckInterval;
+    }
+
+    public void setReconfigurationCheckInterval(final double reconfigurationCheckInterval) {
+        if (reconfigurationCheckInterval < 0) {
+            throw new IllegalArgumentException("The reconfiguration check interval must not be negative.");
+        }
+        this.reconfigurationCheckInterval = reconfigurationCheckInterval;
+    }
+
+    /**
+     * @return Whether a check of a reconfiguration engine stops as soon as one of its rules
+     *         reconfigured the system. The remaining rules are checked with the next check then.
+     */
+    public boolean isStopCheckAfterReconfiguration() {
+        return this.stopCheckAfterReconfiguration;
+    }
+
+    public void setStopCheckAfterReconfiguration(final boolean stopCheckAfterReconfiguration) {
+        this.stopCheckAfterReconfiguration = stopCheckAfterReconfiguration;
+    }
+
     @Override
     public void setDefaults() {
         throw new RuntimeException("Not implemented. No defaults defined.");
@@ -63,6 +93,8 @@ public class SimuLizarWorkflowConfiguration extends SimuComWorkflowConfiguration
         config.monitorRepositoryFile = this.monitorRepositoryFile;
         config.reconfigurationRulesFolder = this.reconfigurationRulesFolder;
         config.usageEvolutionFile = this.usageEvolutionFile;
+        config.reconfigurationCheckInterval = this.reconfigurationCheckInterval;
+        config.stopCheckAfterReconfiguration = this.stopCheckAfterReconfiguration;
         return config;
     }
 
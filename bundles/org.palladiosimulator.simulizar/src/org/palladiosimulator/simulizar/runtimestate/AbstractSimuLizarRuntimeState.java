@@ -24,6 +24,7 @@ import org.palladiosimulator.simulizar.interpreter.listener.EndReconfigurationEv
 import org.palladiosimulator.simulizar.interpreter.listener.EventResult;
 import org.palladiosimulator.simulizar.interpreter.listener.ReconfigurationExecutedEvent;
 import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
+import org.palladiosimulator.simulizar.metrics.PRMUpdateBatcher;
 import org.palladiosimulator.simulizar.modelobserver.IModelObserver;
 import org.palladiosimulator.simulizar.reconfiguration.IReconfigurationEngine;
 import org.palladiosimulator.simulizar.reconfiguration.IReconfigurationListener;
@@ -62,6 +63,7 @@ public abstract class AbstractSimuLizarRuntimeState {
     private final SimulatedUsageModels usageModels;
     private final ModelAccess modelAccess;
     private final Reconfigurator reconfigurator;
+    private final PRMUpdateBatcher prmUpdateBatcher;
     private final List<IModelObserver> modelObservers;
     protected final SimulationCancelationDelegate cancelationDelegate;
     protected final UsageEvolverFacade usageEvolverFacade;
@@ -85,6 +87,8 @@ public abstract class AbstractSimuLizarRuntimeState {
         this.usageModels = new SimulatedUsageModels(this.mainContext);
         this.initializeWorkloadDrivers();
 
+        // coalesce the updates of the runtime measurement model per simulation time instant
+        this.prmUpdateBatcher = PRMUpdateBatcher.attach(this.modelAccess.getRuntimeMeasurementModel(), this.model);
         this.reconfigurator = this.initializeReconfiguratorEngines(configuration, this.model.getSimulationControl());
         this.modelObservers = this.initializeModelObservers();
         // ensure to initialize model syncers (in particular
@@ -156,6 +160,8 @@ public abstract class AbstractSimuLizarRuntimeState {
         this.eventHelper.removeAllListener();
         this.reconfigurator.removeAllObserver();
         this.reconfigurator.cleanUp();
+        // apply pending updates so that the runtime measurement model reflects the end of the simulation
+        this.prmUpdateBatcher.detach();
         this.modelAccess.stopObservingPcmChanges();
         this.model.getProbeFrameworkContext().finish();
         this.model.getConfiguration().getRecorderConfigurationFactory().finalizeRecorderConfigurationFactory();
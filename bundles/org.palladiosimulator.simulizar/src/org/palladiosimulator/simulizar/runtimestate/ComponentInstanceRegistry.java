@@ -1,18 +1,33 @@
 package org.palladiosimulator.simulizar.runtimestate;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class ComponentInstanceRegistry {
 
     private final Map<String, SimulatedComponentInstance> componentInstances;
 
+    /**
+     * Instances by the assembly context ids of their fully qualified id, used by the interpreter to
+     * find instances without building the string representation of the id. Only the ids are kept,
+     * so the registry does not hold on to the assembly contexts of old model snapshots.
+     */
+    private final Map<List<String>, SimulatedComponentInstance> componentInstancesByID;
+
+    /** Reverse mapping of {@link #componentInstancesByID}, used to remove instances. */
+    private final Map<SimulatedComponentInstance, List<String>> idsByComponentInstance;
+
     /**
      *
      */
     protected ComponentInstanceRegistry() {
         super();
         this.componentInstances = new HashMap<String, SimulatedComponentInstance>();
+        this.componentInstancesByID = new HashMap<List<String>, SimulatedComponentInstance>();
+        this.idsByComponentInstance = new IdentityHashMap<SimulatedComponentInstance, List<String>>();
     }
 
     public void addComponentInstance(final SimulatedComponentInstance instance) {
@@ -33,28 +48,75 @@ public class ComponentInstanceRegistry {
             throw new IllegalArgumentException("Component Instance must exists");
         }
         this.componentInstances.remove(instance.getFqn());
+        final List<String> ids = this.idsByComponentInstance.remove(instance);
+        if (ids != null) {
+            this.componentInstancesByID.remove(ids);
+        }
     }
 
     public boolean hasComponentInstance(final FQComponentID id) {
         if (id == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        return this.componentInstances.containsKey(id.getFQIDString());
+        return this.lookupComponentInstance(id) != null;
     }
 
     public SimulatedComponentInstance getComponentInstance(final FQComponentID id) {
         if (id == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        String fqid = id.getFQIDString();
-        if (!this.componentInstances.containsKey(fqid)) {
+        final SimulatedComponentInstance instance = this.lookupComponentInstance(id);
+        if (instance == null) {
             throw new IllegalArgumentException("Component Instance must exists");
         }
-        return this.componentInstances.get(fqid);
+        return instance;
     }
-    
+
+    /**
+     * Gets the component instance with the given id. If there is no such instance, it is created
+     * by the given factory and registered.
+     *
+     * @param id
+     *            the fully qualified id of the component instance.
+     * @param instanceFactory
+     *            creates the instance if it does not exist yet.
+     * @return the registered component instance.
+     */
+    public SimulatedComponentInstance getOrCreateComponentInstance(final FQComponentID id,
+            final Function<FQComponentID, ? extends SimulatedComponentInstance> instanceFactory) {
+        if (id == null) {
+            throw new IllegalArgumentException("Null not allowed as component instance");
+        }
+        SimulatedComponentInstance instance = this.lookupComponentInstance(id);
+        if (instance == null) {
+            instance = instanceFactory.apply(id);
+            this.addComponentInstance(instance);
+            this.registerByID(id, instance);
+        }
+        return instance;
+    }
+
     public void cleanUpInstancesAndRegistry() {
     	this.componentInstances.values().forEach(SimulatedComponentInstance::cleanUp);
     	this.componentInstances.clear();
+    	this.componentInstancesByID.clear();
+    	this.idsByComponentInstance.clear();
+    }
+
+    private SimulatedComponentInstance lookupComponentInstance(final FQComponentID id) {
+        SimulatedComponentInstance instance = this.componentInstancesByID.get(id.getAssemblyContextIds());
+        if (instance == null) {
+            // instances registered by addComponentInstance are only known by their string id
+            instance = this.componentInstances.get(id.getFQIDString());
+            if (instance != null) {
+                this.registerByID(id, instance);
+            }
+        }
+        return instance;
+    }
+
+    private void registerByID(final FQComponentID id, final SimulatedComponentInstance instance) {
+        this.componentInstancesByID.put(id.getAssemblyContextIds(), instance);
+        this.idsByComponentInstance.put(instance, id.getAssemblyContextIds());
     }
 }
@@ -9,13 +9,25 @@ import org.palladiosimulator.pcm.core.entity.NamedElement;
 
 import de.uka.ipd.sdq.identifier.Identifier;
 
+/**
+ * Fully qualified id of a component instance, i.e., the path of assembly contexts leading to the
+ * instance. Two ids are equal if the ids of their assembly contexts are equal. The ids and the
+ * hash code are computed once on creation, so the id can be used as hash key without rebuilding its
+ * string representation.
+ */
 public class FQComponentID {
 
     private final List<AssemblyContext> assembyContextPath;
+    private final List<String> assemblyContextIds;
+    private final int hashCode;
+    private String fqIDString;
 
     public FQComponentID(final List<AssemblyContext> assemblyContextPath) {
         super();
         this.assembyContextPath = Collections.unmodifiableList(assemblyContextPath);
+        this.assemblyContextIds = Collections
+                .unmodifiableList(assemblyContextPath.stream().map(Identifier::getId).collect(Collectors.toList()));
+        this.hashCode = this.assemblyContextIds.hashCode();
     }
 
     /**
@@ -25,6 +37,14 @@ public class FQComponentID {
         return this.assembyContextPath;
     }
 
+    /**
+     * @return the ids of the assembly contexts on the path. Unlike the path itself, the ids do not
+     *         refer to the model, so they can be kept beyond the lifetime of a model snapshot.
+     */
+    public final List<String> getAssemblyContextIds() {
+        return this.assemblyContextIds;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -32,12 +52,7 @@ public class FQComponentID {
      */
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        for (final AssemblyContext ctx : this.assembyContextPath) {
-            result = prime * result + ctx.getId().hashCode();
-        }
-        return result;
+        return this.hashCode;
     }
 
     /*
@@ -57,26 +72,16 @@ public class FQComponentID {
             return false;
         }
         final FQComponentID other = (FQComponentID) obj;
-        if (this.assembyContextPath == null) {
-            if (other.assembyContextPath != null) {
-                return false;
-            }
-        } else {
-            if (this.assembyContextPath.size() != other.assembyContextPath.size()) {
-                return false;
-            }
-            for (int i = 0; i < this.assembyContextPath.size(); i++) {
-                if (!this.assembyContextPath.get(i).getId().equals(other.assembyContextPath.get(i).getId())) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return this.hashCode == other.hashCode && this.assemblyContextIds.equals(other.assemblyContextIds);
     }
     
     public String getFQIDString() {
-    	return this.assembyContextPath.stream().map(Identifier::getId)
-        		.collect(Collectors.joining("::"));
+        String result = this.fqIDString;
+        if (result == null) {
+            result = String.join("::", this.assemblyContextIds);
+            this.fqIDString = result;
+        }
+        return result;
     }
     /*
      * (non-Javadoc)
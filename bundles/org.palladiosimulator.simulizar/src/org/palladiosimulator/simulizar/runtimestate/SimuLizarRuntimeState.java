@@ -35,7 +35,9 @@ public class SimuLizarRuntimeState extends AbstractSimuLizarRuntimeState {
 
     protected void initializeInterpreterListeners(final Reconfigurator reconfigurator) {
         LOGGER.debug("Adding Debug and monitoring interpreter listeners");
-        this.eventHelper.addObserver(new LogDebugListener());
+        if (LogDebugListener.isDebugEnabled()) {
+            this.eventHelper.addObserver(new LogDebugListener());
+        }
         this.eventHelper.addObserver(new ProbeFrameworkListener(this.getModelAccess(), this.getModel(), reconfigurator));
     }
 
@@ -7,6 +7,7 @@ import java.util.Queue;
 
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.MonitorRepository;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.repository.PassiveResource;
 import org.palladiosimulator.simulizar.interpreter.InterpreterDefaultContext;
@@ -29,6 +30,8 @@ public class SimulatedBasicComponentInstance extends SimulatedComponentInstance
 
         this.passiveResourcesMap = new HashMap<String, IPassiveResource>();
         final AssemblyContext myAssCtx = fqID.getAssembyContextPath().get(fqID.getAssembyContextPath().size() - 1);
+        final MonitorRepository monitorRepository = context.getRuntimeState().getModelAccess()
+                .getMonitorRepositoryModel();
         for (final PassiveResource passiveResource : passiveResources) {
             final long initialCount = (long) StackContext.evaluateStatic(
                     passiveResource.getCapacity_PassiveResource().getSpecification(), Long.class,
@@ -37,23 +40,20 @@ public class SimulatedBasicComponentInstance extends SimulatedComponentInstance
                     this.getRuntimeState().getModel(), initialCount);
             this.passiveResourcesMap.put(passiveResource.getId(), simulatedResource);
 
-            MeasurementSpecification measurementSpecification = MonitorRepositoryUtil.isMonitored(
-                    context.getRuntimeState().getModelAccess().getMonitorRepositoryModel(), passiveResource,
-                    MetricDescriptionConstants.STATE_OF_PASSIVE_RESOURCE_METRIC);
+            MeasurementSpecification measurementSpecification = MonitorRepositoryUtil.isMonitored(monitorRepository,
+                    passiveResource, MetricDescriptionConstants.STATE_OF_PASSIVE_RESOURCE_METRIC);
             if (this.isMonitored(measurementSpecification)) {
                 CalculatorHelper.setupPassiveResourceStateCalculator(simulatedResource,
                         this.getRuntimeState().getModel());
             }
 
-            measurementSpecification = MonitorRepositoryUtil.isMonitored(
-                    context.getRuntimeState().getModelAccess().getMonitorRepositoryModel(), passiveResource,
+            measurementSpecification = MonitorRepositoryUtil.isMonitored(monitorRepository, passiveResource,
                     MetricDescriptionConstants.WAITING_TIME_METRIC);
             if (this.isMonitored(measurementSpecification)) {
                 CalculatorHelper.setupWaitingTimeCalculator(simulatedResource, this.getRuntimeState().getModel());
             }
 
-            measurementSpecification = MonitorRepositoryUtil.isMonitored(
-                    context.getRuntimeState().getModelAccess().getMonitorRepositoryModel(), passiveResource,
+            measurementSpecification = MonitorRepositoryUtil.isMonitored(monitorRepository, passiveResource,
                     MetricDescriptionConstants.HOLDING_TIME_METRIC);
             if (this.isMonitored(measurementSpecification)) {
                 CalculatorHelper.setupHoldTimeCalculator(simulatedResource, this.getRuntimeState().getModel());
@@ -5,13 +5,14 @@ import java.util.Map;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
 import org.palladiosimulator.pcm.usagemodel.ClosedWorkload;
 import org.palladiosimulator.pcm.usagemodel.OpenWorkload;
-import org.palladiosimulator.pcm.usagemodel.UsageModel;
 import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
 import org.palladiosimulator.pcm.usagemodel.Workload;
 import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
+import org.palladiosimulator.simulizar.access.IModelAccess;
 import org.palladiosimulator.simulizar.interpreter.InterpreterDefaultContext;
 import org.palladiosimulator.simulizar.interpreter.UsageScenarioSwitch;
 
@@ -29,6 +30,7 @@ public class SimulatedUsageModels {
     private final InterpreterDefaultContext rootContext;
     private final Map<ClosedWorkload, de.uka.ipd.sdq.simucomframework.usage.ClosedWorkload> closedWorkloads = new HashMap<ClosedWorkload, de.uka.ipd.sdq.simucomframework.usage.ClosedWorkload>();
     private final Map<OpenWorkload, de.uka.ipd.sdq.simucomframework.usage.OpenWorkload> openWorkloads = new HashMap<OpenWorkload, de.uka.ipd.sdq.simucomframework.usage.OpenWorkload>();
+    private ModelView currentModelView;
 
     public SimulatedUsageModels(final InterpreterDefaultContext rootContext) {
         super();
@@ -115,22 +117,62 @@ public class SimulatedUsageModels {
 
             @Override
             public void scenarioRunner(final SimuComSimProcess thread) {
-                final InterpreterDefaultContext newContext = new InterpreterDefaultContext(
-                        SimulatedUsageModels.this.rootContext, thread);
-                final UsageModel usageModel = newContext.getModelAccess().getLocalPCMModel().getUsageModel();
-                
+                final ModelView modelView = SimulatedUsageModels.this.getCurrentModelView();
+
                 // If the UsageScenario is not contained in the UsageModel (e.g. it has
-                // been removed after the workload scheduled the new user, and before the 
+                // been removed after the workload scheduled the new user, and before the
                 // user starts execution) simply exit without processing the scenario.
-                usageModel.getUsageScenario_UsageModel().stream()
-                	.filter(sc -> sc.getId().equals(scenario.getId()))
-                	.findAny().ifPresent(sc -> {
-                	    new UsageScenarioSwitch<Object>(newContext).doSwitch(sc);
-                	});
+                final UsageScenario localScenario = modelView.usageScenarios.get(scenario.getId());
+                if (localScenario != null) {
+                    final InterpreterDefaultContext newContext = new InterpreterDefaultContext(
+                            SimulatedUsageModels.this.rootContext, thread, modelView.modelAccess,
+                            modelView.localPCMModel);
+                    new UsageScenarioSwitch<Object>(newContext).doSwitch(localScenario);
+                }
             }
         };
     }
 
+    /**
+     * Gets the view on the current local PCM model copy. The view is shared by all users started
+     * while the copy is current, and is only recreated once the global model changed and a new
+     * copy has been taken.
+     *
+     * @return the current model view.
+     */
+    private ModelView getCurrentModelView() {
+        final PCMResourceSetPartition localPCMModel = this.rootContext.getModelAccess().getLocalPCMModel();
+        if (this.currentModelView == null || this.currentModelView.localPCMModel != localPCMModel) {
+            final IModelAccess modelAccess = this.rootContext.getRuntimeState().getModelAccess().clone();
+            final ModelView modelView = new ModelView(modelAccess, modelAccess.getLocalPCMModel());
+            if (modelView.localPCMModel != localPCMModel) {
+                // the clone does not refer to the same copy, so it must not be shared
+                return modelView;
+            }
+            this.currentModelView = modelView;
+        }
+        return this.currentModelView;
+    }
+
+    /**
+     * Read-only view of a local PCM model copy, which holds a model access pinned to the copy and
+     * the usage scenarios of the copy by their id.
+     */
+    private static final class ModelView {
+
+        private final IModelAccess modelAccess;
+        private final PCMResourceSetPartition localPCMModel;
+        private final Map<String, UsageScenario> usageScenarios = new HashMap<String, UsageScenario>();
+
+        private ModelView(final IModelAccess modelAccess, final PCMResourceSetPartition localPCMModel) {
+            this.modelAccess = modelAccess;
+            this.localPCMModel = localPCMModel;
+            for (final UsageScenario usageScenario : localPCMModel.getUsageModel().getUsageScenario_UsageModel()) {
+                this.usageScenarios.put(usageScenario.getId(), usageScenario);
+            }
+        }
+    }
+
     public ICancellableWorkloadDriver getWorkloadDriver(final Workload workload) {
         return (new UsagemodelSwitch<ICancellableWorkloadDriver>() {
             @Override
@@ -0,0 +1,89 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+
+/**
+ * Attaches adapters which cache data derived from a model element, e.g., indices or compiled
+ * expressions, to the model element on their first use.
+ *
+ * All these adapters follow the same policy with respect to concurrent use:
+ * <ul>
+ * <li>The adapter is looked up and attached by {@link #getOrAttach(Notifier, Class, Supplier)},
+ * which synchronizes on the model element when attaching, so that at most one adapter is attached
+ * per model element.</li>
+ * <li>The cached data is immutable and published through a volatile field, which is reset whenever
+ * the model element changes. Parts of the data may be computed on first use, if they are
+ * published through volatile fields as well. Threads computing data concurrently compute equal
+ * data, so it does not matter which of them publishes its result.</li>
+ * <li>Anything else an adapter changes when being used, e.g., buffered values or observed model
+ * elements, is guarded by the adapter's own monitor.</li>
+ * </ul>
+ * As EMF models are not thread-safe, a model element must not change while another thread uses an
+ * adapter of it.
+ */
+public final class AdapterUtil {
+
+    private AdapterUtil() {
+    }
+
+    /**
+     * Returns the adapter of the given type attached to the notifier, creating and attaching it if
+     * necessary.
+     *
+     * @param notifier
+     *            the model element.
+     * @param type
+     *            the class of the adapter.
+     * @param factory
+     *            creates the adapter if none is attached yet.
+     * @return the attached adapter.
+     */
+    public static <T extends Adapter> T getOrAttach(final Notifier notifier, final Class<T> type,
+            final Supplier<T> factory) {
+        return getOrAttach(notifier, type, adapter -> true, factory);
+    }
+
+    /**
+     * Returns the adapter of the given type attached to the notifier which matches the given
+     * condition, creating and attaching it if necessary. This allows several adapters of the same
+     * type per notifier, e.g., one per structural feature.
+     *
+     * @param notifier
+     *            the model element.
+     * @param type
+     *            the class of the adapter.
+     * @param condition
+     *            the condition the adapter has to match.
+     * @param factory
+     *            creates the adapter if no matching adapter is attached yet.
+     * @return the attached adapter.
+     */
+    public static <T extends Adapter> T getOrAttach(final Notifier notifier, final Class<T> type,
+            final Predicate<? super T> condition, final Supplier<T> factory) {
+        T adapter = getExistingAdapter(notifier, type, condition);
+        if (adapter == null) {
+            synchronized (notifier) {
+                adapter = getExistingAdapter(notifier, type, condition);
+                if (adapter == null) {
+                    adapter = factory.get();
+                    notifier.eAdapters().add(adapter);
+                }
+            }
+        }
+        return adapter;
+    }
+
+    private static <T extends Adapter> T getExistingAdapter(final Notifier notifier, final Class<T> type,
+            final Predicate<? super T> condition) {
+        for (final Adapter adapter : notifier.eAdapters()) {
+            if (type.isInstance(adapter) && condition.test(type.cast(adapter))) {
+                return type.cast(adapter);
+            }
+        }
+        return null;
+    }
+}
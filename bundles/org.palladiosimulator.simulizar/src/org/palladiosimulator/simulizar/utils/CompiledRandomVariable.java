@@ -0,0 +1,279 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.Iterator;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+
+import de.uka.ipd.sdq.simucomframework.variables.StackContext;
+import de.uka.ipd.sdq.simucomframework.variables.cache.StoExCache;
+import de.uka.ipd.sdq.simucomframework.variables.exceptions.ValueNotInFrameException;
+import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
+import de.uka.ipd.sdq.stoex.Expression;
+import de.uka.ipd.sdq.stoex.StoexPackage;
+import de.uka.ipd.sdq.stoex.Variable;
+import de.uka.ipd.sdq.stoex.analyser.visitors.StoExPrettyPrintVisitor;
+
+/**
+ * Compiled form of a {@link PCMRandomVariable} used on the hot path of the interpreter. A random
+ * variable whose specification is changed, e.g., by a reconfiguration, is compiled again on its
+ * next evaluation.
+ *
+ * Expressions are classified once when they are first evaluated:
+ * <ul>
+ * <li>Expressions without variables and random functions are folded into a constant. The constant
+ * is computed by {@link StackContext}, so results are identical to an evaluation on every
+ * use.</li>
+ * <li>Expressions consisting of a single variable reference are resolved by a direct lookup of the
+ * precomputed stack frame id. Only values which already have the requested type are taken
+ * directly, everything else is evaluated by {@link StackContext}.</li>
+ * <li>All other expressions are evaluated by {@link StackContext}.</li>
+ * </ul>
+ */
+public final class CompiledRandomVariable extends AdapterImpl {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledRandomVariable.class);
+
+    private enum Kind {
+        CONSTANT, VARIABLE, GENERIC
+    }
+
+    private volatile Compilation compilation;
+
+    private CompiledRandomVariable() {
+        super();
+    }
+
+    /**
+     * Returns the compiled form of the given random variable, compiling it if necessary.
+     *
+     * @param randomVariable
+     *            the random variable to evaluate.
+     * @return the compiled random variable.
+     */
+    public static CompiledRandomVariable of(final PCMRandomVariable randomVariable) {
+        return AdapterUtil.getOrAttach(randomVariable, CompiledRandomVariable.class, CompiledRandomVariable::new);
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == CompiledRandomVariable.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        if (!notification.isTouch()) {
+            this.compilation = null;
+        }
+    }
+
+    /**
+     * Evaluates the random variable.
+     *
+     * @param frame
+     *            the stack frame to evaluate in, may be {@code null}.
+     * @return the evaluated value.
+     */
+    public Object evaluate(final SimulatedStackframe<Object> frame) {
+        final Compilation compiled = this.getCompilation();
+        switch (compiled.kind) {
+        case CONSTANT:
+            Object constantValue = compiled.constantValue;
+            if (constantValue == null) {
+                constantValue = StackContext.evaluateStatic(compiled.specification,
+                        new SimulatedStackframe<Object>());
+                compiled.constantValue = constantValue;
+            }
+            return constantValue;
+        case VARIABLE:
+            final Object value = compiled.lookupVariable(frame);
+            if (value instanceof Integer || value instanceof Double || value instanceof Boolean
+                    || value instanceof String) {
+                return value;
+            }
+            break;
+        default:
+            break;
+        }
+        return StackContext.evaluateStatic(compiled.specification, frame);
+    }
+
+    /**
+     * Evaluates the random variable to a double value.
+     *
+     * @param frame
+     *            the stack frame to evaluate in, may be {@code null}.
+     * @return the evaluated value.
+     */
+    public double evaluateDouble(final SimulatedStackframe<Object> frame) {
+        final Compilation compiled = this.getCompilation();
+        switch (compiled.kind) {
+        case CONSTANT:
+            Double constantDouble = compiled.constantDouble;
+            if (constantDouble == null) {
+                constantDouble = StackContext.evaluateStatic(compiled.specification, Double.class);
+                compiled.constantDouble = constantDouble;
+            }
+            return constantDouble;
+        case VARIABLE:
+            final Object value = compiled.lookupVariable(frame);
+            if (value instanceof Double) {
+                return (Double) value;
+            }
+            break;
+        default:
+            break;
+        }
+        return compiled.evaluateStatic(Double.class, frame);
+    }
+
+    /**
+     * Evaluates the random variable to an integer value.
+     *
+     * @param frame
+     *            the stack frame to evaluate in, may be {@code null}.
+     * @return the evaluated value.
+     */
+    public int evaluateInt(final SimulatedStackframe<Object> frame) {
+        final Compilation compiled = this.getCompilation();
+        switch (compiled.kind) {
+        case CONSTANT:
+            Integer constantInt = compiled.constantInt;
+            if (constantInt == null) {
+                constantInt = StackContext.evaluateStatic(compiled.specification, Integer.class);
+                compiled.constantInt = constantInt;
+            }
+            return constantInt;
+        case VARIABLE:
+            final Object value = compiled.lookupVariable(frame);
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+            break;
+        default:
+            break;
+        }
+        return compiled.evaluateStatic(Integer.class, frame);
+    }
+
+    /**
+     * Evaluates the random variable to a boolean value.
+     *
+     * @param frame
+     *            the stack frame to evaluate in, may be {@code null}.
+     * @return the evaluated value.
+     */
+    public boolean evaluateBoolean(final SimulatedStackframe<Object> frame) {
+        final Compilation compiled = this.getCompilation();
+        switch (compiled.kind) {
+        case CONSTANT:
+            Boolean constantBoolean = compiled.constantBoolean;
+            if (constantBoolean == null) {
+                constantBoolean = StackContext.evaluateStatic(compiled.specification, Boolean.class);
+                compiled.constantBoolean = constantBoolean;
+            }
+            return constantBoolean;
+        case VARIABLE:
+            final Object value = compiled.lookupVariable(frame);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+            break;
+        default:
+            break;
+        }
+        return compiled.evaluateStatic(Boolean.class, frame);
+    }
+
+    private Compilation getCompilation() {
+        Compilation result = this.compilation;
+        if (result == null) {
+            result = compile(((PCMRandomVariable) this.getTarget()).getSpecification());
+            this.compilation = result;
+        }
+        return result;
+    }
+
+    private static Compilation compile(final String specification) {
+        try {
+            final Expression expression = StoExCache.singleton().getEntry(specification).getParsedExpression();
+            if (expression instanceof Variable) {
+                return new Compilation(specification, Kind.VARIABLE, new StoExPrettyPrintVisitor()
+                        .doSwitch(((Variable) expression).getId_Variable()).toString());
+            } else if (isConstant(expression)) {
+                return new Compilation(specification, Kind.CONSTANT, null);
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Could not compile random variable " + specification + ", evaluating it directly", e);
+        }
+        return new Compilation(specification, Kind.GENERIC, null);
+    }
+
+    /**
+     * @return true if the value of the expression neither depends on the stack nor on random
+     *         sampling.
+     */
+    private static boolean isConstant(final Expression expression) {
+        if (!isConstantElement(expression)) {
+            return false;
+        }
+        for (final Iterator<EObject> iterator = expression.eAllContents(); iterator.hasNext();) {
+            if (!isConstantElement(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConstantElement(final EObject element) {
+        final EClass eClass = element.eClass();
+        return !StoexPackage.eINSTANCE.getVariable().isSuperTypeOf(eClass)
+                && !StoexPackage.eINSTANCE.getFunctionLiteral().isSuperTypeOf(eClass)
+                && !StoexPackage.eINSTANCE.getProbabilityFunctionLiteral().isSuperTypeOf(eClass);
+    }
+
+    /**
+     * The classification of one specification. The values of constants are evaluated on first use
+     * per requested type, since, e.g., a boolean constant cannot be evaluated to a double.
+     */
+    private static final class Compilation {
+
+        private final String specification;
+        private final Kind kind;
+        private final String variableId;
+
+        private volatile Object constantValue;
+        private volatile Double constantDouble;
+        private volatile Integer constantInt;
+        private volatile Boolean constantBoolean;
+
+        private Compilation(final String specification, final Kind kind, final String variableId) {
+            this.specification = specification;
+            this.kind = kind;
+            this.variableId = variableId;
+        }
+
+        private <T> T evaluateStatic(final Class<T> expectedType, final SimulatedStackframe<Object> frame) {
+            if (frame == null) {
+                return StackContext.evaluateStatic(this.specification, expectedType);
+            }
+            return StackContext.evaluateStatic(this.specification, expectedType, frame);
+        }
+
+        private Object lookupVariable(final SimulatedStackframe<Object> frame) {
+            if (frame == null) {
+                return null;
+            }
+            try {
+                return frame.getValue(this.variableId);
+            } catch (final ValueNotInFrameException e) {
+                // let the regular evaluation report the missing value
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.pcm.parameter.VariableCharacterisation;
+import org.palladiosimulator.pcm.parameter.VariableUsage;
+
+import de.uka.ipd.sdq.simucomframework.variables.EvaluationProxy;
+import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
+import de.uka.ipd.sdq.stoex.AbstractNamedReference;
+import de.uka.ipd.sdq.stoex.analyser.visitors.StoExPrettyPrintVisitor;
+
+/**
+ * Compiled form of a {@link VariableUsage} used to bind parameters to a stack frame. As the stack
+ * frame ids are derived from the named reference and the characterisation types, the variable
+ * usage is compiled again after any of its characterisations, its named reference or one of
+ * their specifications has changed.
+ *
+ * The stack frame ids of the variable characterisations, their {@link CompiledRandomVariable}s and
+ * whether the variable usage refers to an INNER characterisation (which is evaluated lazily) are
+ * determined once, so that binding the parameters neither prints references nor switches over
+ * them.
+ *
+ * @see SimulatedStackHelper#addParameterToStackFrame(SimulatedStackframe, org.eclipse.emf.common.util.EList,
+ *      SimulatedStackframe)
+ */
+public final class CompiledVariableUsage extends EContentAdapter {
+
+    private final VariableUsage variableUsage;
+    private volatile Compilation compilation;
+
+    private CompiledVariableUsage(final VariableUsage variableUsage) {
+        super();
+        // not taken from getTarget(), which also refers to the contents of the variable usage
+        this.variableUsage = variableUsage;
+    }
+
+    /**
+     * Returns the compiled form of the given variable usage, compiling it if necessary.
+     *
+     * @param variableUsage
+     *            the variable usage to bind.
+     * @return the compiled variable usage.
+     */
+    public static CompiledVariableUsage of(final VariableUsage variableUsage) {
+        return AdapterUtil.getOrAttach(variableUsage, CompiledVariableUsage.class,
+                () -> new CompiledVariableUsage(variableUsage));
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == CompiledVariableUsage.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+            this.compilation = null;
+        }
+    }
+
+    /**
+     * Adds the values of all variable characterisations of the variable usage to the target stack
+     * frame.
+     *
+     * @param contextStackFrame
+     *            the stack frame to evaluate the specifications in, may be {@code null}.
+     * @param targetStackFrame
+     *            the stack frame to add the values to.
+     */
+    public void addToStackFrame(final SimulatedStackframe<Object> contextStackFrame,
+            final SimulatedStackframe<Object> targetStackFrame) {
+        final Compilation compiled = this.getCompilation();
+        for (int i = 0; i < compiled.ids.length; i++) {
+            if (compiled.inner) {
+                targetStackFrame.addValue(compiled.ids[i], new EvaluationProxy(
+                        compiled.randomVariables[i].getSpecification(), contextStackFrame.copyFrame()));
+            } else {
+                targetStackFrame.addValue(compiled.ids[i],
+                        compiled.compiledRandomVariables[i].evaluate(contextStackFrame));
+            }
+        }
+    }
+
+    /**
+     * @return the stack frame ids the values are added for, in the order of the characterisations.
+     */
+    String[] getIds() {
+        return this.getCompilation().ids.clone();
+    }
+
+    private Compilation getCompilation() {
+        Compilation result = this.compilation;
+        if (result == null) {
+            result = new Compilation(this.variableUsage);
+            this.compilation = result;
+        }
+        return result;
+    }
+
+    /**
+     * The stack frame ids and random variables of the characterisations at one point in time.
+     */
+    private static final class Compilation {
+
+        private final String[] ids;
+        private final boolean inner;
+        private final PCMRandomVariable[] randomVariables;
+        private final CompiledRandomVariable[] compiledRandomVariables;
+
+        private Compilation(final VariableUsage variableUsage) {
+            final List<VariableCharacterisation> characterisations = variableUsage
+                    .getVariableCharacterisation_VariableUsage();
+            final AbstractNamedReference namedReference = variableUsage.getNamedReference__VariableUsage();
+            final String referenceId = new StoExPrettyPrintVisitor().doSwitch(namedReference).toString() + ".";
+
+            final int size = characterisations.size();
+            this.ids = new String[size];
+            this.inner = SimulatedStackHelper.isInnerReference(namedReference);
+            this.randomVariables = new PCMRandomVariable[size];
+            this.compiledRandomVariables = new CompiledRandomVariable[size];
+            for (int i = 0; i < size; i++) {
+                final VariableCharacterisation characterisation = characterisations.get(i);
+                this.ids[i] = referenceId + characterisation.getType().getLiteral();
+                this.randomVariables[i] = characterisation.getSpecification_VariableCharacterisation();
+                this.compiledRandomVariables[i] = CompiledRandomVariable.of(this.randomVariables[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Cumulative probabilities of the transitions of a branch, e.g., of a
+ * {@link org.palladiosimulator.pcm.seff.BranchAction} or of a
+ * {@link org.palladiosimulator.pcm.usagemodel.Branch}. The probabilities are attached to the
+ * element owning the transitions as an adapter, so that they are summed up only once, and a
+ * transition is determined by a binary search instead of a linear scan.
+ *
+ * The adapter also observes the transitions themselves. The probabilities are recomputed as soon
+ * as transitions are added or removed, or one of the transitions changes.
+ */
+public final class CumulativeBranchProbabilities extends AdapterImpl {
+
+    private final EObject owner;
+    private final EStructuralFeature transitionsFeature;
+    private final ToDoubleFunction<Object> probability;
+
+    private List<EObject> observedTransitions = Collections.emptyList();
+    private volatile double[] cumulativeProbabilities;
+
+    private CumulativeBranchProbabilities(final EObject owner, final EStructuralFeature transitionsFeature,
+            final ToDoubleFunction<Object> probability) {
+        super();
+        this.owner = owner;
+        this.transitionsFeature = transitionsFeature;
+        this.probability = probability;
+    }
+
+    /**
+     * Returns the cumulative probabilities of the given transitions, creating them if necessary.
+     *
+     * @param transitions
+     *            a setting of the element owning the transitions and the containment feature of the
+     *            transitions.
+     * @param probability
+     *            function extracting the probability of a transition.
+     * @return the cumulative probabilities.
+     */
+    public static CumulativeBranchProbabilities of(final EStructuralFeature.Setting transitions,
+            final ToDoubleFunction<Object> probability) {
+        final EObject owner = transitions.getEObject();
+        final EStructuralFeature transitionsFeature = transitions.getEStructuralFeature();
+        // the adapter is attached to the transitions as well, so check it belongs to the owner
+        return AdapterUtil.getOrAttach(owner, CumulativeBranchProbabilities.class,
+                adapter -> adapter.owner == owner && adapter.transitionsFeature == transitionsFeature,
+                () -> new CumulativeBranchProbabilities(owner, transitionsFeature, probability));
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == CumulativeBranchProbabilities.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return;
+        }
+        if (notification.getNotifier() != this.owner || notification.getFeature() == this.transitionsFeature) {
+            this.cumulativeProbabilities = null;
+        }
+    }
+
+    /**
+     * Determines the index of a transition.
+     *
+     * @param randomNumber
+     *            a uniformly distributed random number in [0, 1).
+     * @return the index of the transition, or -1 if there are no transitions or no index can be
+     *         determined.
+     */
+    public int getRandomIndex(final double randomNumber) {
+        double[] result = this.cumulativeProbabilities;
+        if (result == null) {
+            result = this.compute();
+        }
+        return getRandomIndex(result, randomNumber);
+    }
+
+    /**
+     * Sums up the probabilities of the given transitions. Each element of the result is the sum of
+     * the probabilities of the transitions up to and including the transition at this index.
+     *
+     * @param transitions
+     *            the transitions.
+     * @param probability
+     *            function extracting the probability of a transition.
+     * @return the cumulative probabilities.
+     */
+    public static double[] cumulate(final List<?> transitions, final ToDoubleFunction<Object> probability) {
+        final double[] result = new double[transitions.size()];
+        double currentSum = 0;
+        for (int i = 0; i < result.length; i++) {
+            currentSum = currentSum + probability.applyAsDouble(transitions.get(i));
+            result[i] = currentSum;
+        }
+        return result;
+    }
+
+    /**
+     * Determines the first index whose cumulative probability exceeds the random number scaled to
+     * the total probability.
+     *
+     * @param cumulativeProbabilities
+     *            the cumulative probabilities.
+     * @param randomNumber
+     *            a uniformly distributed random number in [0, 1).
+     * @return the index, or -1 if there are no probabilities or no index can be determined.
+     */
+    public static int getRandomIndex(final double[] cumulativeProbabilities, final double randomNumber) {
+        if (cumulativeProbabilities.length == 0) {
+            return -1;
+        }
+        final double value = cumulativeProbabilities[cumulativeProbabilities.length - 1] * randomNumber;
+        int low = 0;
+        int high = cumulativeProbabilities.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (value < cumulativeProbabilities[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low < cumulativeProbabilities.length ? low : -1;
+    }
+
+    /**
+     * Observes the current transitions and sums up their probabilities. Synchronized, as the
+     * observed transitions are replaced.
+     */
+    private synchronized double[] compute() {
+        for (final EObject transition : this.observedTransitions) {
+            transition.eAdapters().remove(this);
+        }
+        final List<?> transitions = (List<?>) this.owner.eGet(this.transitionsFeature);
+        final List<EObject> newObservedTransitions = new ArrayList<EObject>(transitions.size());
+        for (final Object transition : transitions) {
+            final EObject eTransition = (EObject) transition;
+            eTransition.eAdapters().add(this);
+            newObservedTransitions.add(eTransition);
+        }
+        this.observedTransitions = newObservedTransitions;
+        final double[] result = cumulate(transitions, this.probability);
+        this.cumulativeProbabilities = result;
+        return result;
+    }
+}
@@ -0,0 +1,401 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.edp2.models.measuringpoint.ResourceURIMeasuringPoint;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.Monitor;
+import org.palladiosimulator.monitorrepository.MonitorRepository;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.PassiveResource;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcmmeasuringpoint.ActiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyPassiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.EntryLevelSystemCallMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ExternalCallActionMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceContainerMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceEnvironmentMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.SystemOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.UsageScenarioMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.util.PcmmeasuringpointSwitch;
+
+/**
+ * Index of the {@link Monitor}s of a {@link MonitorRepository}. Monitors are indexed by the model
+ * elements conforming to their measuring points, and the measurement specifications of
+ * <b>active</b> monitors are indexed by the ids of their metric descriptions. This is the query API
+ * for monitors; the corresponding methods of {@link MonitorRepositoryUtil} delegate to it.
+ *
+ * Monitors are re-indexed by the first query after the repository has changed, e.g., after a
+ * monitor has been (de-)activated or has got another measuring point.
+ *
+ * PCM measuring points are matched by keys built from the ids (or the name, in case of resource
+ * environments) that
+ * {@link MonitorRepositoryUtil#elementConformingToMeasuringPoint(EObject, MeasuringPoint)} compares.
+ * All other measuring points, e.g., resource URI measuring points, are still checked one by one.
+ */
+public final class MonitorRepositoryIndex extends EContentAdapter {
+
+    private static final int[] NO_MONITORS = new int[0];
+
+    private static final String PROCESSING_RESOURCE_SPECIFICATION = "ProcessingResourceSpecification#";
+    private static final String RESOURCE_CONTAINER = "ResourceContainer#";
+    private static final String RESOURCE_ENVIRONMENT = "ResourceEnvironment#";
+    private static final String PASSIVE_RESOURCE = "PassiveResource#";
+    private static final String EXTERNAL_CALL_ACTION = "ExternalCallAction#";
+    private static final String EXTERNAL_CALL_OPERATION = "ExternalCallAction.operation#";
+    private static final String ENTRY_LEVEL_SYSTEM_CALL = "EntryLevelSystemCall#";
+    private static final String ENTRY_LEVEL_SYSTEM_CALL_OPERATION = "EntryLevelSystemCall.operation#";
+    private static final String USAGE_SCENARIO = "UsageScenario#";
+
+    /**
+     * Derives the keys of the elements conforming to a measuring point. Returns null if the
+     * measuring point has to be checked against each element, e.g., because it is incomplete.
+     */
+    private static final PcmmeasuringpointSwitch<String[]> MEASURING_POINT_KEYS = new PcmmeasuringpointSwitch<String[]>() {
+
+        @Override
+        public String[] caseActiveResourceMeasuringPoint(final ActiveResourceMeasuringPoint mp) {
+            final ProcessingResourceSpecification activeResource = mp.getActiveResource();
+            if (activeResource == null
+                    || activeResource.getResourceContainer_ProcessingResourceSpecification() == null) {
+                return null;
+            }
+            return new String[] { PROCESSING_RESOURCE_SPECIFICATION + activeResource.getId(), RESOURCE_CONTAINER
+                    + activeResource.getResourceContainer_ProcessingResourceSpecification().getId() };
+        }
+
+        @Override
+        public String[] caseAssemblyOperationMeasuringPoint(final AssemblyOperationMeasuringPoint mp) {
+            return keys(operationKey(EXTERNAL_CALL_OPERATION, mp.getOperationSignature(), mp.getRole()));
+        }
+
+        @Override
+        public String[] caseAssemblyPassiveResourceMeasuringPoint(final AssemblyPassiveResourceMeasuringPoint mp) {
+            return keys(entityKey(PASSIVE_RESOURCE, mp.getPassiveResource()));
+        }
+
+        @Override
+        public String[] caseSystemOperationMeasuringPoint(final SystemOperationMeasuringPoint mp) {
+            return keys(operationKey(ENTRY_LEVEL_SYSTEM_CALL_OPERATION, mp.getOperationSignature(), mp.getRole()));
+        }
+
+        @Override
+        public String[] caseUsageScenarioMeasuringPoint(final UsageScenarioMeasuringPoint mp) {
+            return keys(entityKey(USAGE_SCENARIO, mp.getUsageScenario()));
+        }
+
+        @Override
+        public String[] caseResourceEnvironmentMeasuringPoint(final ResourceEnvironmentMeasuringPoint mp) {
+            return keys(resourceEnvironmentKey(mp.getResourceEnvironment()));
+        }
+
+        @Override
+        public String[] caseResourceContainerMeasuringPoint(final ResourceContainerMeasuringPoint mp) {
+            return keys(entityKey(RESOURCE_CONTAINER, mp.getResourceContainer()));
+        }
+
+        @Override
+        public String[] caseExternalCallActionMeasuringPoint(final ExternalCallActionMeasuringPoint mp) {
+            return keys(entityKey(EXTERNAL_CALL_ACTION, mp.getExternalCall()));
+        }
+
+        @Override
+        public String[] caseEntryLevelSystemCallMeasuringPoint(final EntryLevelSystemCallMeasuringPoint mp) {
+            return keys(entityKey(ENTRY_LEVEL_SYSTEM_CALL, mp.getEntryLevelSystemCall()));
+        }
+
+        private String[] keys(final String key) {
+            return key == null ? null : new String[] { key };
+        }
+    };
+
+    private final MonitorRepository monitorRepository;
+    private volatile Monitors monitors;
+
+    private MonitorRepositoryIndex(final MonitorRepository monitorRepository) {
+        super();
+        this.monitorRepository = monitorRepository;
+    }
+
+    /**
+     * Returns the index of the given monitor repository, creating it if necessary.
+     *
+     * @param monitorRepository
+     *            the monitor repository.
+     * @return the index of the monitor repository.
+     */
+    public static MonitorRepositoryIndex of(final MonitorRepository monitorRepository) {
+        return AdapterUtil.getOrAttach(monitorRepository, MonitorRepositoryIndex.class,
+                () -> new MonitorRepositoryIndex(monitorRepository));
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == MonitorRepositoryIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+            this.monitors = null;
+        }
+    }
+
+    /**
+     * Gets the measurement specifications of active monitors that adhere to the given metric, in
+     * the order of the monitors in the repository.
+     *
+     * @param metricDescription
+     *            the metric description.
+     * @return An UNMODIFIABLE list of the measurement specifications, which might be empty but
+     *         never {@code null}.
+     */
+    public List<MeasurementSpecification> getActiveMeasurementSpecifications(
+            final MetricDescription metricDescription) {
+        final List<MeasurementSpecification> result = this.getMonitors().activeMeasurementSpecifications
+                .get(metricDescription.getId());
+        return result == null ? Collections.<MeasurementSpecification> emptyList() : result;
+    }
+
+    /**
+     * Gets the first measurement specification with the given metric of the monitors of the given
+     * element, regardless of whether the monitors are active.
+     *
+     * @param element
+     *            the element to be checked.
+     * @param metricDescription
+     *            the metric description.
+     * @return the measurement specification, or null if the element is not monitored with the
+     *         given metric.
+     * @see MonitorRepositoryUtil#isMonitored(MonitorRepository, EObject, MetricDescription)
+     */
+    public MeasurementSpecification getMeasurementSpecification(final EObject element,
+            final MetricDescription metricDescription) {
+        final Monitors currentMonitors = this.getMonitors();
+        for (final int monitorIndex : currentMonitors.getMonitorIndices(element, false)) {
+            for (final MeasurementSpecification measurementSpecification : currentMonitors.monitors.get(monitorIndex)
+                    .getMeasurementSpecifications()) {
+                if (measurementSpecification.getMetricDescription().getId().equals(metricDescription.getId())) {
+                    return measurementSpecification;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the active monitors whose measuring points the given element conforms to, in the order
+     * of the monitors in the repository.
+     *
+     * @param element
+     *            the element.
+     * @return a new list of the monitors.
+     */
+    public List<Monitor> getActiveMonitors(final EObject element) {
+        final Monitors currentMonitors = this.getMonitors();
+        final int[] monitorIndices = currentMonitors.getMonitorIndices(element, true);
+        final List<Monitor> result = new ArrayList<Monitor>(monitorIndices.length);
+        for (final int monitorIndex : monitorIndices) {
+            final Monitor monitor = currentMonitors.monitors.get(monitorIndex);
+            if (monitor.isActivated()) {
+                result.add(monitor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the measurement specifications of the active monitors whose measuring points the given
+     * element conforms to, in the order of the monitors in the repository.
+     *
+     * @param element
+     *            the element.
+     * @return a new list of the measurement specifications.
+     */
+    public List<MeasurementSpecification> getActiveMeasurementSpecifications(final EObject element) {
+        final List<MeasurementSpecification> result = new ArrayList<MeasurementSpecification>();
+        for (final Monitor monitor : this.getActiveMonitors(element)) {
+            result.addAll(monitor.getMeasurementSpecifications());
+        }
+        return result;
+    }
+
+    private Monitors getMonitors() {
+        Monitors result = this.monitors;
+        if (result == null) {
+            result = new Monitors(this.monitorRepository.getMonitors());
+            this.monitors = result;
+        }
+        return result;
+    }
+
+    private static String entityKey(final String prefix, final Entity entity) {
+        return entity == null ? null : prefix + entity.getId();
+    }
+
+    private static String resourceEnvironmentKey(final ResourceEnvironment resourceEnvironment) {
+        return resourceEnvironment == null ? null : RESOURCE_ENVIRONMENT + resourceEnvironment.getEntityName();
+    }
+
+    private static String operationKey(final String prefix, final Entity signature, final Entity role) {
+        return signature == null || role == null ? null : prefix + signature.getId() + '#' + role.getId();
+    }
+
+    /**
+     * Derives the keys of the given element, which equal the keys of the measuring points the
+     * element conforms to. Elements of other types do not have keys.
+     */
+    private static String[] getElementKeys(final EObject element) {
+        if (element instanceof ProcessingResourceSpecification) {
+            return new String[] { entityKey(PROCESSING_RESOURCE_SPECIFICATION, (Entity) element) };
+        } else if (element instanceof ResourceContainer) {
+            return new String[] { entityKey(RESOURCE_CONTAINER, (Entity) element) };
+        } else if (element instanceof ResourceEnvironment) {
+            return new String[] { resourceEnvironmentKey((ResourceEnvironment) element) };
+        } else if (element instanceof PassiveResource) {
+            return new String[] { entityKey(PASSIVE_RESOURCE, (Entity) element) };
+        } else if (element instanceof UsageScenario) {
+            return new String[] { entityKey(USAGE_SCENARIO, (Entity) element) };
+        } else if (element instanceof ExternalCallAction) {
+            final ExternalCallAction externalCallAction = (ExternalCallAction) element;
+            return new String[] { entityKey(EXTERNAL_CALL_ACTION, externalCallAction),
+                    operationKey(EXTERNAL_CALL_OPERATION, externalCallAction.getCalledService_ExternalService(),
+                            externalCallAction.getRole_ExternalService()) };
+        } else if (element instanceof EntryLevelSystemCall) {
+            final EntryLevelSystemCall entryLevelSystemCall = (EntryLevelSystemCall) element;
+            return new String[] { entityKey(ENTRY_LEVEL_SYSTEM_CALL, entryLevelSystemCall),
+                    operationKey(ENTRY_LEVEL_SYSTEM_CALL_OPERATION,
+                            entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(),
+                            entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall()) };
+        }
+        return new String[0];
+    }
+
+    /**
+     * The monitors of the repository, indexed at one point in time.
+     */
+    private static final class Monitors {
+
+        private final List<Monitor> monitors;
+        private final Map<String, int[]> monitorIndicesByKey = new HashMap<String, int[]>();
+        private final int[] unkeyedMonitorIndices;
+        private final Map<String, List<MeasurementSpecification>> activeMeasurementSpecifications = new HashMap<>();
+
+        private Monitors(final List<Monitor> monitors) {
+            this.monitors = new ArrayList<Monitor>(monitors);
+            final Map<String, List<Integer>> indicesByKey = new HashMap<String, List<Integer>>();
+            final List<Integer> unkeyedIndices = new ArrayList<Integer>();
+            for (int i = 0; i < this.monitors.size(); i++) {
+                final Monitor monitor = this.monitors.get(i);
+                final MeasuringPoint measuringPoint = monitor.getMeasuringPoint();
+                // resource URI measuring points take precedence, like in MonitorRepositoryUtil
+                final String[] keys = measuringPoint == null || measuringPoint instanceof ResourceURIMeasuringPoint
+                        ? null : MEASURING_POINT_KEYS.doSwitch(measuringPoint);
+                if (keys == null) {
+                    unkeyedIndices.add(i);
+                } else {
+                    for (final String key : keys) {
+                        List<Integer> indices = indicesByKey.get(key);
+                        if (indices == null) {
+                            indices = new ArrayList<Integer>(1);
+                            indicesByKey.put(key, indices);
+                        }
+                        indices.add(i);
+                    }
+                }
+                if (monitor.isActivated()) {
+                    this.addActiveMeasurementSpecifications(monitor);
+                }
+            }
+            for (final Map.Entry<String, List<Integer>> entry : indicesByKey.entrySet()) {
+                this.monitorIndicesByKey.put(entry.getKey(), toArray(entry.getValue()));
+            }
+            this.unkeyedMonitorIndices = toArray(unkeyedIndices);
+            for (final Map.Entry<String, List<MeasurementSpecification>> entry : this.activeMeasurementSpecifications
+                    .entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+        }
+
+        private void addActiveMeasurementSpecifications(final Monitor monitor) {
+            for (final MeasurementSpecification measurementSpecification : monitor.getMeasurementSpecifications()) {
+                final String metricDescriptionId = measurementSpecification.getMetricDescription().getId();
+                List<MeasurementSpecification> measurementSpecifications = this.activeMeasurementSpecifications
+                        .get(metricDescriptionId);
+                if (measurementSpecifications == null) {
+                    measurementSpecifications = new ArrayList<MeasurementSpecification>();
+                    this.activeMeasurementSpecifications.put(metricDescriptionId, measurementSpecifications);
+                }
+                measurementSpecifications.add(measurementSpecification);
+            }
+        }
+
+        /**
+         * @param activeOnly
+         *            whether only active monitors are of interest. Inactive monitors with measuring
+         *            points that have to be checked one by one are skipped then, as their measuring
+         *            points might not be supported, whereas keyed inactive monitors are still
+         *            returned.
+         * @return the ascending indices of the monitors whose measuring points the given element
+         *         conforms to.
+         */
+        private int[] getMonitorIndices(final EObject element, final boolean activeOnly) {
+            int[] result = NO_MONITORS;
+            for (final String key : getElementKeys(element)) {
+                final int[] indices = key == null ? null : this.monitorIndicesByKey.get(key);
+                if (indices != null) {
+                    result = merge(result, indices);
+                }
+            }
+            if (this.unkeyedMonitorIndices.length > 0) {
+                final List<Integer> conformingIndices = new ArrayList<Integer>();
+                for (final int monitorIndex : this.unkeyedMonitorIndices) {
+                    final Monitor monitor = this.monitors.get(monitorIndex);
+                    if ((!activeOnly || monitor.isActivated()) && MonitorRepositoryUtil
+                            .elementConformingToMeasuringPoint(element, monitor.getMeasuringPoint())) {
+                        conformingIndices.add(monitorIndex);
+                    }
+                }
+                if (!conformingIndices.isEmpty()) {
+                    result = merge(result, toArray(conformingIndices));
+                }
+            }
+            return result;
+        }
+
+        private static int[] merge(final int[] first, final int[] second) {
+            if (first.length == 0) {
+                return second;
+            }
+            final int[] result = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, result, first.length, second.length);
+            Arrays.sort(result);
+            return result;
+        }
+
+        private static int[] toArray(final List<Integer> indices) {
+            final int[] result = new int[indices.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = indices.get(i);
+            }
+            return result;
+        }
+    }
+}
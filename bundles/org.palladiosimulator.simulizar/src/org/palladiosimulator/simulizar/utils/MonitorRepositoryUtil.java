@@ -1,8 +1,7 @@
 package org.palladiosimulator.simulizar.utils;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.commons.emfutils.EMFLoadHelper;
@@ -10,7 +9,6 @@ import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
 import org.palladiosimulator.edp2.models.measuringpoint.ResourceURIMeasuringPoint;
 import org.palladiosimulator.edp2.models.measuringpoint.StringMeasuringPoint;
 import org.palladiosimulator.edp2.models.measuringpoint.util.MeasuringpointSwitch;
-import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
 import org.palladiosimulator.metricspec.MetricDescription;
 import org.palladiosimulator.monitorrepository.MeasurementSpecification;
 import org.palladiosimulator.monitorrepository.Monitor;
@@ -62,16 +60,13 @@ public final class MonitorRepositoryUtil {
      *            the performance metric.
      * @return the MeasurementSpecification, if element should be monitored according to given
      *         performance metric, otherwise null
+     * @see MonitorRepositoryIndex#getMeasurementSpecification(EObject, MetricDescription)
      */
     public static MeasurementSpecification isMonitored(final MonitorRepository monitorRepositoryModel,
             final EObject element, final MetricDescription metricDescription) {
         if (monitorRepositoryModel != null) {
-            return monitorRepositoryModel.getMonitors().stream()
-                    .filter(monitor -> elementConformingToMeasuringPoint(element, monitor.getMeasuringPoint()))
-                    .flatMap(monitor -> monitor.getMeasurementSpecifications().stream())
-                    .filter(m -> MetricDescriptionUtility.metricDescriptionIdsEqual(m.getMetricDescription(),
-                            metricDescription))
-                    .findFirst().orElse(null);
+            return MonitorRepositoryIndex.of(monitorRepositoryModel).getMeasurementSpecification(element,
+                    metricDescription);
         }
         return null;
     }
@@ -188,24 +183,26 @@ public final class MonitorRepositoryUtil {
         }.doSwitch(measuringPoint);
     }
 
+    /**
+     * @see MonitorRepositoryIndex#getActiveMonitors(EObject)
+     */
     public static List<Monitor> getActiveMonitorsForElement(final MonitorRepository monitorRepository,
             final EObject element) {
-        final List<Monitor> result = new LinkedList<Monitor>();
-
         if (monitorRepository == null) {
-            return result;
+            return new ArrayList<Monitor>();
         }
-        return monitorRepository.getMonitors().stream()
-                .filter(m -> m.isActivated()
-                        && MonitorRepositoryUtil.elementConformingToMeasuringPoint(element, m.getMeasuringPoint()))
-                .collect(Collectors.toList());
+        return MonitorRepositoryIndex.of(monitorRepository).getActiveMonitors(element);
     }
 
+    /**
+     * @see MonitorRepositoryIndex#getActiveMeasurementSpecifications(EObject)
+     */
     public static List<MeasurementSpecification> getMeasurementSpecificationsForElement(
             final MonitorRepository monitorRepository, final EObject element) {
-
-        return getActiveMonitorsForElement(monitorRepository, element).stream()
-                .flatMap(monitor -> monitor.getMeasurementSpecifications().stream()).collect(Collectors.toList());
+        if (monitorRepository == null) {
+            return new ArrayList<MeasurementSpecification>();
+        }
+        return MonitorRepositoryIndex.of(monitorRepository).getActiveMeasurementSpecifications(element);
     }
 
     public static boolean elementConformingToMeasuringPoint(final EObject element,
@@ -0,0 +1,411 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Chronologically ordered buffer of measurements which stores the point in time (in seconds) and
+ * the value (in the default unit of the expected metric) of each measurement in parallel
+ * {@code double} arrays that are used in a circular way. Hence, units are converted only once per
+ * measurement, and adding as well as evicting measurements is done in amortized constant time.
+ * <br>
+ * The buffer maintains the sum required for the arithmetic mean of its measurements
+ * incrementally, see {@link #getArithmeticMean(double, double)}. For metrics with a continuous
+ * scope of validity (e.g., the state of a resource), each value is valid until the next
+ * measurement, so the sum of the values weighted by the length of these intervals is kept. The sum
+ * is maintained by compensated (Kahan-Babuska) summation, so the rounding errors of the additions
+ * and subtractions do not accumulate. Additionally, the sum is recomputed from the stored values
+ * once as many elements have been evicted as are stored, which bounds the number of summands to
+ * three times the number of stored elements. Hence, the relative error of the sum is at most about
+ * {@code 2 * Math.ulp(1d)} times the ratio of the sum of the absolute summands to the absolute sum,
+ * independently of how many elements have passed the buffer. For non-negative values, e.g., times
+ * or resource states, the mean thus agrees with a recomputation over the stored elements up to a
+ * few units in the last place.<br>
+ * For other statistical characterizations, {@link #asMeasurements()} recreates the measurements
+ * from the stored values. Only if the metric of the measurements comprises more than the point in
+ * time and the expected metric, the measurements themselves are retained for this purpose.<br>
+ * The buffer is used by the measurement driven aggregators as well as by the sliding window
+ * aggregators computing arithmetic means.
+ */
+public final class PrimitiveMeasurementBuffer {
+
+    private final NumericalBaseMetricDescription expectedMetric;
+    private final boolean continuous;
+    private final boolean growable;
+
+    private double[] pointsInTime;
+    private double[] values;
+    private MeasuringValue[] retainedMeasurements;
+    private MetricSetDescription measurementsMetric;
+
+    // pointer to the least recent element, used as base "address" for all data accesses
+    private int eldestElementPointer = 0;
+    private int currentElementCount = 0;
+
+    // discrete scope: sum of all values
+    // continuous scope: sum of value[i] * (pointInTime[i + 1] - pointInTime[i]) over all but the
+    // newest element
+    private double sum = 0d;
+    // the low-order bits lost when updating the sum, see addToSum(double)
+    private double sumCompensation = 0d;
+    private int evictionsSinceResummation = 0;
+
+    /**
+     * Initializes a new instance of the {@link PrimitiveMeasurementBuffer} class with the given
+     * parameters.
+     *
+     * @param expectedMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to store.
+     * @param capacity
+     *            The initial capacity of the buffer.
+     * @param growable
+     *            If {@code true}, the capacity is increased when the buffer is full. Otherwise, the
+     *            eldest element is overwritten when an element is added to a full buffer.
+     */
+    public PrimitiveMeasurementBuffer(final NumericalBaseMetricDescription expectedMetric, final int capacity,
+            final boolean growable) {
+        assert expectedMetric != null && capacity > 0;
+
+        this.expectedMetric = expectedMetric;
+        this.growable = growable;
+        this.pointsInTime = new double[capacity];
+        this.values = new double[capacity];
+        switch (expectedMetric.getScopeOfValidity()) {
+        case CONTINUOUS:
+            this.continuous = true;
+            break;
+        case DISCRETE:
+            this.continuous = false;
+            break;
+        default:
+            throw new AssertionError("Should not be reached!");
+        }
+    }
+
+    public int size() {
+        return this.currentElementCount;
+    }
+
+    public int capacity() {
+        return this.values.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean isFull() {
+        return size() == capacity();
+    }
+
+    /**
+     * Adds the given measurement, which is assumed to be more recent than the ones added before.
+     *
+     * @param measurement
+     *            The {@link MeasuringValue} to add.
+     */
+    public void add(final MeasuringValue measurement) {
+        assert measurement != null;
+
+        if (this.measurementsMetric == null && this.retainedMeasurements == null) {
+            this.initializeMeasurementsMetric(measurement);
+        }
+        if (isFull()) {
+            if (this.growable) {
+                grow();
+            } else {
+                removeFirst();
+            }
+        }
+        final Measure<Double, Duration> pointInTimeMeasure = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        final Measure<Double, Quantity> valueMeasure = measurement.getMeasureForMetric(this.expectedMetric);
+        final double pointInTime = pointInTimeMeasure.doubleValue(SI.SECOND);
+        final double value = valueMeasure.doubleValue(this.expectedMetric.getDefaultUnit());
+
+        if (this.continuous) {
+            if (!isEmpty()) {
+                addToSum(getValue(size() - 1) * (pointInTime - getPointInTime(size() - 1)));
+            }
+        } else {
+            addToSum(value);
+        }
+        final int index = index(size());
+        this.pointsInTime[index] = pointInTime;
+        this.values[index] = value;
+        if (this.retainedMeasurements != null) {
+            this.retainedMeasurements[index] = measurement;
+        }
+        this.currentElementCount++;
+    }
+
+    /**
+     * Removes the eldest element.
+     */
+    public void removeFirst() {
+        assert !isEmpty();
+
+        if (this.continuous) {
+            if (size() > 1) {
+                addToSum(-getValue(0) * (getPointInTime(1) - getPointInTime(0)));
+            }
+        } else {
+            addToSum(-getValue(0));
+        }
+        if (this.retainedMeasurements != null) {
+            this.retainedMeasurements[this.eldestElementPointer] = null;
+        }
+        this.eldestElementPointer = index(1);
+        this.currentElementCount--;
+        if (++this.evictionsSinceResummation >= size()) {
+            resum();
+        }
+    }
+
+    /**
+     * Evicts the elements prior to the given lower bound in the same way as the move on strategy
+     * of a sliding window for the scope of validity of the expected metric: discrete elements prior
+     * to the lower bound are discarded, of the continuous ones prior to the lower bound only the
+     * last one is kept.
+     *
+     * @param lowerBound
+     *            The lower bound, in seconds.
+     */
+    public void evictPriorTo(final double lowerBound) {
+        if (this.continuous) {
+            while (size() > 1 && getPointInTime(1) < lowerBound) {
+                removeFirst();
+            }
+        } else {
+            while (!isEmpty() && getEldestPointInTime() < lowerBound) {
+                removeFirst();
+            }
+        }
+    }
+
+    public void clear() {
+        if (this.retainedMeasurements != null) {
+            Arrays.fill(this.retainedMeasurements, null);
+        }
+        this.eldestElementPointer = this.currentElementCount = 0;
+        this.sum = this.sumCompensation = 0d;
+        this.evictionsSinceResummation = 0;
+    }
+
+    /**
+     * @param offset
+     *            The position of the element, counted from the eldest one.
+     * @return The point in time of the element, in seconds.
+     */
+    public double getPointInTime(final int offset) {
+        assert offset >= 0 && offset < size();
+        return this.pointsInTime[index(offset)];
+    }
+
+    /**
+     * @return The point in time of the eldest element, in seconds.
+     */
+    public double getEldestPointInTime() {
+        return getPointInTime(0);
+    }
+
+    /**
+     * @return The point in time of the newest element, in seconds.
+     */
+    public double getNewestPointInTime() {
+        return getPointInTime(size() - 1);
+    }
+
+    /**
+     * Indicates whether {@link #getArithmeticMean(double, double)} can be used for the given
+     * interval. For a continuous scope of validity, a value has to be defined for the whole
+     * interval, i.e., only the eldest element may be prior to the interval start and no element
+     * may be after its end.
+     *
+     * @param intervalStart
+     *            The start of the interval, in seconds.
+     * @param intervalEnd
+     *            The end of the interval, in seconds.
+     * @return {@code true} if the arithmetic mean can be computed incrementally.
+     */
+    public boolean canComputeArithmeticMean(final double intervalStart, final double intervalEnd) {
+        if (isEmpty()) {
+            return false;
+        }
+        if (!this.continuous) {
+            return true;
+        }
+        return intervalEnd > intervalStart && getEldestPointInTime() <= intervalStart
+                && (size() == 1 || getPointInTime(1) >= intervalStart) && getNewestPointInTime() <= intervalEnd;
+    }
+
+    /**
+     * Gets the arithmetic mean of the values in constant time. For a continuous scope of validity,
+     * each value is weighted by the time until the next measurement (or the interval end,
+     * respectively).
+     *
+     * @param intervalStart
+     *            The start of the interval, in seconds.
+     * @param intervalEnd
+     *            The end of the interval, in seconds.
+     * @return The arithmetic mean, expressed in the default unit of the expected metric.
+     * @see #canComputeArithmeticMean(double, double)
+     */
+    public double getArithmeticMean(final double intervalStart, final double intervalEnd) {
+        assert canComputeArithmeticMean(intervalStart, intervalEnd);
+
+        final double currentSum = this.sum + this.sumCompensation;
+        if (!this.continuous) {
+            return currentSum / size();
+        }
+        final double weightedSum = currentSum - getValue(0) * (intervalStart - getEldestPointInTime())
+                + getValue(size() - 1) * (intervalEnd - getNewestPointInTime());
+        return weightedSum / (intervalEnd - intervalStart);
+    }
+
+    /**
+     * Gets the stored measurements in chronological order. Unless retained, the measurements are
+     * recreated from the stored values on the fly.
+     *
+     * @return An {@link Iterable} over the measurements.
+     */
+    public Iterable<MeasuringValue> asMeasurements() {
+        return new Iterable<MeasuringValue>() {
+
+            @Override
+            public Iterator<MeasuringValue> iterator() {
+                return new Iterator<MeasuringValue>() {
+
+                    private int offset = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.offset < size();
+                    }
+
+                    @Override
+                    public MeasuringValue next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return getMeasurement(this.offset++);
+                    }
+                };
+            }
+        };
+    }
+
+    private MeasuringValue getMeasurement(final int offset) {
+        if (this.retainedMeasurements != null) {
+            return this.retainedMeasurements[index(offset)];
+        }
+        final List<MetricDescription> subsumedMetrics = this.measurementsMetric.getSubsumedMetrics();
+        final Measure<?, ?>[] measures = new Measure<?, ?>[subsumedMetrics.size()];
+        for (int i = 0; i < measures.length; i++) {
+            if (isPointInTimeMetric(subsumedMetrics.get(i))) {
+                measures[i] = Measure.valueOf(getPointInTime(offset), SI.SECOND);
+            } else {
+                measures[i] = Measure.valueOf(getValue(offset), this.expectedMetric.getDefaultUnit());
+            }
+        }
+        return new TupleMeasurement(this.measurementsMetric, measures);
+    }
+
+    private double getValue(final int offset) {
+        return this.values[index(offset)];
+    }
+
+    /**
+     * Determines whether the measurements can be recreated from the stored values, i.e., whether
+     * their metric consists of the point in time and the expected metric only. Otherwise, the
+     * measurements are retained.
+     */
+    private void initializeMeasurementsMetric(final MeasuringValue measurement) {
+        final MetricDescription metric = measurement.getMetricDesciption();
+        boolean recreatable = metric instanceof MetricSetDescription;
+        if (recreatable) {
+            for (final MetricDescription subsumedMetric : ((MetricSetDescription) metric).getSubsumedMetrics()) {
+                recreatable &= isPointInTimeMetric(subsumedMetric)
+                        || MetricDescriptionUtility.metricDescriptionIdsEqual(subsumedMetric, this.expectedMetric);
+            }
+        }
+        if (recreatable) {
+            this.measurementsMetric = (MetricSetDescription) metric;
+        } else {
+            this.retainedMeasurements = new MeasuringValue[capacity()];
+        }
+    }
+
+    private static boolean isPointInTimeMetric(final MetricDescription metric) {
+        return MetricDescriptionUtility.metricDescriptionIdsEqual(metric,
+                MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+    }
+
+    private void resum() {
+        this.sum = this.sumCompensation = 0d;
+        for (int i = 0; i < size(); i++) {
+            if (!this.continuous) {
+                addToSum(getValue(i));
+            } else if (i < size() - 1) {
+                addToSum(getValue(i) * (getPointInTime(i + 1) - getPointInTime(i)));
+            }
+        }
+        this.evictionsSinceResummation = 0;
+    }
+
+    /**
+     * Adds the summand to the sum by Neumaier's variant of the Kahan summation, which also
+     * compensates the error if the summand is larger than the sum, e.g., when the sum drops due to
+     * an eviction.
+     */
+    private void addToSum(final double summand) {
+        final double newSum = this.sum + summand;
+        if (Math.abs(this.sum) >= Math.abs(summand)) {
+            this.sumCompensation += (this.sum - newSum) + summand;
+        } else {
+            this.sumCompensation += (summand - newSum) + this.sum;
+        }
+        this.sum = newSum;
+    }
+
+    private void grow() {
+        final int newCapacity = capacity() * 2;
+        this.pointsInTime = copyChronologically(this.pointsInTime, newCapacity);
+        this.values = copyChronologically(this.values, newCapacity);
+        if (this.retainedMeasurements != null) {
+            final MeasuringValue[] newMeasurements = new MeasuringValue[newCapacity];
+            for (int i = 0; i < size(); i++) {
+                newMeasurements[i] = this.retainedMeasurements[index(i)];
+            }
+            this.retainedMeasurements = newMeasurements;
+        }
+        this.eldestElementPointer = 0;
+    }
+
+    private double[] copyChronologically(final double[] data, final int newCapacity) {
+        final double[] result = new double[newCapacity];
+        for (int i = 0; i < size(); i++) {
+            result[i] = data[index(i)];
+        }
+        return result;
+    }
+
+    private int index(final int offset) {
+        return (this.eldestElementPointer + offset) % capacity();
+    }
+}
@@ -2,19 +2,14 @@ package org.palladiosimulator.simulizar.utils;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
-import org.palladiosimulator.pcm.core.PCMRandomVariable;
-import org.palladiosimulator.pcm.parameter.VariableCharacterisation;
 import org.palladiosimulator.pcm.parameter.VariableUsage;
 
-import de.uka.ipd.sdq.simucomframework.variables.EvaluationProxy;
-import de.uka.ipd.sdq.simucomframework.variables.StackContext;
 import de.uka.ipd.sdq.simucomframework.variables.exceptions.ValueNotInFrameException;
 import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStack;
 import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
 import de.uka.ipd.sdq.stoex.AbstractNamedReference;
 import de.uka.ipd.sdq.stoex.NamespaceReference;
 import de.uka.ipd.sdq.stoex.VariableReference;
-import de.uka.ipd.sdq.stoex.analyser.visitors.StoExPrettyPrintVisitor;
 import de.uka.ipd.sdq.stoex.util.StoexSwitch;
 
 /**
@@ -27,6 +22,25 @@ public final class SimulatedStackHelper {
 
     private static final Logger LOGGER = Logger.getLogger(SimulatedStackHelper.class);
 
+    /**
+     * Stateless switch determining whether a reference belongs to an INNER variable
+     * characterisation.
+     */
+    private static final StoexSwitch<Boolean> INNER_REFERENCE_SWITCH = new StoexSwitch<Boolean>() {
+
+        @Override
+        public Boolean caseVariableReference(final VariableReference object) {
+            return object.getReferenceName().equals("INNER");
+        }
+
+        @Override
+        public Boolean caseNamespaceReference(final NamespaceReference object) {
+            return object.getReferenceName().equals("INNER")
+                    || this.doSwitch(object.getInnerReference_NamespaceReference());
+        }
+
+    };
+
     /**
      * Adds parameters to given stack frame.
      *
@@ -38,27 +52,11 @@ public final class SimulatedStackHelper {
     public static final void addParameterToStackFrame(final SimulatedStackframe<Object> contextStackFrame,
             final EList<VariableUsage> parameter, final SimulatedStackframe<Object> targetStackFrame) {
         for (final VariableUsage variableUsage : parameter) {
-            for (final VariableCharacterisation variableCharacterisation : variableUsage
-                    .getVariableCharacterisation_VariableUsage()) {
-
-                final PCMRandomVariable randomVariable = variableCharacterisation
-                        .getSpecification_VariableCharacterisation();
-
-                final AbstractNamedReference namedReference = variableCharacterisation
-                        .getVariableUsage_VariableCharacterisation().getNamedReference__VariableUsage();
+            final CompiledVariableUsage compiledVariableUsage = CompiledVariableUsage.of(variableUsage);
+            compiledVariableUsage.addToStackFrame(contextStackFrame, targetStackFrame);
 
-                final String id = new StoExPrettyPrintVisitor().doSwitch(namedReference).toString() + "."
-                        + variableCharacterisation.getType().getLiteral();
-                ;
-                if (SimulatedStackHelper.isInnerReference(namedReference)) {
-                    targetStackFrame.addValue(id,
-                            new EvaluationProxy(randomVariable.getSpecification(), contextStackFrame.copyFrame()));
-                } else {
-                    targetStackFrame.addValue(id,
-                            StackContext.evaluateStatic(randomVariable.getSpecification(), contextStackFrame));
-                }
-
-                if (LOGGER.isDebugEnabled()) {
+            if (LOGGER.isDebugEnabled()) {
+                for (final String id : compiledVariableUsage.getIds()) {
                     try {
                         LOGGER.debug("Added value " + targetStackFrame.getValue(id) + " for id " + id
                                 + " to stackframe " + targetStackFrame);
@@ -70,6 +68,32 @@ public final class SimulatedStackHelper {
         }
     }
 
+    /**
+     * Adds the results of synchronously forked behaviours to the given stack frame. The output
+     * parameter usages of the synchronisation point are evaluated in a stack frame containing the
+     * result stack frames of the forked behaviours, in their order, on top of the target stack
+     * frame. Only the variables of the output parameter usages are added to the target stack frame,
+     * all other variables of the forked behaviours remain local to them.
+     *
+     * @param forkResultFrames
+     *            the result stack frames of the synchronously forked behaviours, entries may be
+     *            null.
+     * @param outputParameterUsages
+     *            the output parameter usages of the synchronisation point.
+     * @param targetStackFrame
+     *            the stack frame of the fork action.
+     */
+    public static final void addForkResultsToStackFrame(final SimulatedStackframe<Object>[] forkResultFrames,
+            final EList<VariableUsage> outputParameterUsages, final SimulatedStackframe<Object> targetStackFrame) {
+        final SimulatedStackframe<Object> resultsFrame = new SimulatedStackframe<Object>(targetStackFrame);
+        for (final SimulatedStackframe<Object> forkResultFrame : forkResultFrames) {
+            if (forkResultFrame != null) {
+                resultsFrame.addVariables(forkResultFrame);
+            }
+        }
+        addParameterToStackFrame(resultsFrame, outputParameterUsages, targetStackFrame);
+    }
+
     /**
      * Returns whether the specified reference belongs to an INNER variable characterisation.
      *
@@ -78,20 +102,7 @@ public final class SimulatedStackHelper {
      * @return true, if the reference's name is "INNER"; false else.
      */
     public static boolean isInnerReference(final AbstractNamedReference reference) {
-        return new StoexSwitch<Boolean>() {
-
-            @Override
-            public Boolean caseVariableReference(final VariableReference object) {
-                return object.getReferenceName().equals("INNER");
-            }
-
-            @Override
-            public Boolean caseNamespaceReference(final NamespaceReference object) {
-                return object.getReferenceName().equals("INNER")
-                        || this.doSwitch(object.getInnerReference_NamespaceReference());
-            }
-
-        }.doSwitch(reference);
+        return INNER_REFERENCE_SWITCH.doSwitch(reference);
     }
 
     /**
@@ -2,9 +2,11 @@ package org.palladiosimulator.simulizar.utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.palladiosimulator.pcm.core.PCMRandomVariable;
 import org.palladiosimulator.pcm.seff.AbstractBranchTransition;
 import org.palladiosimulator.pcm.seff.GuardedBranchTransition;
@@ -13,7 +15,6 @@ import org.palladiosimulator.pcm.usagemodel.BranchTransition;
 import org.palladiosimulator.simulizar.interpreter.InterpreterDefaultContext;
 
 import de.uka.ipd.sdq.simucomframework.SimuComConfig;
-import de.uka.ipd.sdq.simucomframework.variables.StackContext;
 
 /**
  *
@@ -26,6 +27,11 @@ public class TransitionDeterminer {
 
     protected static final Logger LOGGER = Logger.getLogger(TransitionDeterminer.class.getName());
 
+    private static final ToDoubleFunction<Object> RDSEFF_PROBABILITY = transition ->
+            ((ProbabilisticBranchTransition) transition).getBranchProbability();
+    private static final ToDoubleFunction<Object> USAGE_MODEL_PROBABILITY = transition ->
+            ((BranchTransition) transition).getBranchProbability();
+
     private final SimuComConfig config;
     private final InterpreterDefaultContext context;
 
@@ -51,8 +57,7 @@ public class TransitionDeterminer {
      * @return true if holds, otherwise false.
      */
     private boolean conditionHolds(final PCMRandomVariable condition) {
-        return StackContext.evaluateStatic(condition.getSpecification(), Boolean.class,
-                this.context.getStack().currentStackFrame());
+        return CompiledRandomVariable.of(condition).evaluateBoolean(this.context.getStack().currentStackFrame());
     }
 
     /**
@@ -66,7 +71,10 @@ public class TransitionDeterminer {
      * @param branchProbabilities
      *            a list with branch probabilities.
      * @return the summed probability list.
+     * @deprecated The transitions are determined by means of {@link CumulativeBranchProbabilities},
+     *             which caches the summed probabilities per branch.
      */
+    @Deprecated
     protected List<Double> createSummedProbabilityList(final List<Double> branchProbabilities) {
         double currentSum = 0;
         final List<Double> summedProbabilityList = new ArrayList<Double>();
@@ -85,10 +93,7 @@ public class TransitionDeterminer {
      * @return a branch transition.
      */
     public BranchTransition determineBranchTransition(final EList<BranchTransition> branchTransitions) {
-        final List<Double> summedProbabilityList = this
-                .createSummedProbabilityList(this.extractProbabiltiesUsageModel(branchTransitions));
-
-        final int transitionIndex = this.getRandomIndex(summedProbabilityList, this.config);
+        final int transitionIndex = this.getRandomIndex(branchTransitions, USAGE_MODEL_PROBABILITY);
 
         final BranchTransition branchTransition = branchTransitions.get(transitionIndex);
         if (LOGGER.isDebugEnabled()) {
@@ -147,10 +152,7 @@ public class TransitionDeterminer {
      */
     public ProbabilisticBranchTransition determineProbabilisticBranchTransition(
             final EList<AbstractBranchTransition> probabilisticBranchTransitions) {
-        final List<Double> summedProbabilityList = this
-                .createSummedProbabilityList(this.extractProbabiltiesRDSEFF(probabilisticBranchTransitions));
-
-        final int transitionIndex = this.getRandomIndex(summedProbabilityList, this.config);
+        final int transitionIndex = this.getRandomIndex(probabilisticBranchTransitions, RDSEFF_PROBABILITY);
 
         final ProbabilisticBranchTransition branchTransition = (ProbabilisticBranchTransition) probabilisticBranchTransitions
                 .get(transitionIndex);
@@ -191,12 +193,15 @@ public class TransitionDeterminer {
      * @param probabilisticBranchTransitions
      *            the list of ProbabilisticBranchTransition.
      * @return a list only containing the probabilities.
+     * @deprecated The transitions are determined by means of {@link CumulativeBranchProbabilities},
+     *             which extracts the probabilities itself.
      */
+    @Deprecated
     protected List<Double> extractProbabiltiesRDSEFF(
             final EList<AbstractBranchTransition> probabilisticBranchTransitions) {
         final List<Double> probabilityList = new ArrayList<Double>();
         for (final AbstractBranchTransition probabilisticBranchTransition : probabilisticBranchTransitions) {
-            probabilityList.add(((ProbabilisticBranchTransition) probabilisticBranchTransition).getBranchProbability());
+            probabilityList.add(RDSEFF_PROBABILITY.applyAsDouble(probabilisticBranchTransition));
         }
         return probabilityList;
     }
@@ -207,42 +212,39 @@ public class TransitionDeterminer {
      * @param branchTransitions
      *            the list of BranchTransition.
      * @return a list only containing the probabilities.
+     * @deprecated The transitions are determined by means of {@link CumulativeBranchProbabilities},
+     *             which extracts the probabilities itself.
      */
+    @Deprecated
     protected List<Double> extractProbabiltiesUsageModel(final EList<BranchTransition> branchTransitions) {
         final List<Double> probabilityList = new ArrayList<Double>();
         for (final BranchTransition branchTransition : branchTransitions) {
-            probabilityList.add(branchTransition.getBranchProbability());
+            probabilityList.add(USAGE_MODEL_PROBABILITY.applyAsDouble(branchTransition));
         }
         return probabilityList;
     }
 
     /**
-     * Method calculates a random index for the given list of summed probabilities.
+     * Method calculates a random index for the given list of transitions, with respect to their
+     * probabilities. The cumulative probabilities are cached at the element owning the transitions.
      *
-     * @param summedProbabilityList
-     *            a list of summed probabilities.
-     * @param simuComConfig
-     *            the SimuCom config.
-     * @return a random index, or -1 if summedProbabilityList is empty, or no index can be
-     *         determined.
+     * @param transitions
+     *            the list of transitions.
+     * @param probability
+     *            function extracting the probability of a transition.
+     * @return a random index, or -1 if the list is empty, or no index can be determined.
      */
-    private int getRandomIndex(final List<Double> summedProbabilityList, final SimuComConfig simuComConfig) {
-        if (summedProbabilityList.size() == 0) {
+    private int getRandomIndex(final List<?> transitions, final ToDoubleFunction<Object> probability) {
+        if (transitions.isEmpty()) {
             return -1;
         }
-
-        final double lastSum = summedProbabilityList.get(summedProbabilityList.size() - 1);
-        final double randomNumer = simuComConfig.getRandomGenerator().random();
-
-        // get branch
-        int i = 0;
-        for (final Double sum : summedProbabilityList) {
-            if (lastSum * randomNumer < sum) {
-                return i;
-            }
-            i++;
+        final double randomNumber = this.config.getRandomGenerator().random();
+        if (transitions instanceof EStructuralFeature.Setting) {
+            return CumulativeBranchProbabilities.of((EStructuralFeature.Setting) transitions, probability)
+                    .getRandomIndex(randomNumber);
         }
-        return -1;
+        return CumulativeBranchProbabilities.getRandomIndex(CumulativeBranchProbabilities.cumulate(transitions,
+                probability), randomNumber);
     }
 
 }
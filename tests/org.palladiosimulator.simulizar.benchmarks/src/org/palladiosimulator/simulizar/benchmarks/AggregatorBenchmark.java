@@ -0,0 +1,169 @@
+package org.palladiosimulator.simulizar.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringpointFactory;
+import org.palladiosimulator.edp2.models.measuringpoint.StringMeasuringPoint;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.monitorrepository.FixedSizeAggregation;
+import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.Monitor;
+import org.palladiosimulator.monitorrepository.MonitorRepositoryFactory;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementFactory;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.simulizar.slidingwindow.aggregators.SlidingWindowStatisticalCharacterizationAggregator;
+import org.palladiosimulizar.aggregation.aggregators.FixedSizeMeasurementsAggregator;
+
+/**
+ * Benchmarks of the aggregators which condense response time measurements for the runtime
+ * measurement model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class AggregatorBenchmark {
+
+    private static final NumericalBaseMetricDescription RESPONSE_TIME_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC;
+
+    /**
+     * A sliding window filled with response time measurements. Every invocation slides the window
+     * by one fresh measurement, as a simulation does, so that incrementally maintained results
+     * cannot be reused.
+     */
+    @State(Scope.Thread)
+    public static class SlidingWindowState {
+
+        @Param({ "10", "100", "1000" })
+        public int windowSize;
+
+        Deque<MeasuringValue> windowData;
+        Measure<Double, Duration> windowLeftBound;
+        Measure<Double, Duration> windowLength;
+        SlidingWindowStatisticalCharacterizationAggregator aggregator;
+        Random random;
+        double nextPointInTime;
+
+        @Setup
+        public void setUp() {
+            this.random = new Random(42);
+            this.windowData = new ArrayDeque<MeasuringValue>(this.windowSize);
+            this.windowLeftBound = Measure.valueOf(0d, SI.SECOND);
+            this.windowLength = Measure.valueOf((double) this.windowSize, SI.SECOND);
+            this.aggregator = new SlidingWindowStatisticalCharacterizationAggregator(
+                    new ArithmeticMeanAggregator(RESPONSE_TIME_METRIC));
+            for (int i = 0; i < this.windowSize; i++) {
+                this.addMeasurement();
+            }
+        }
+
+        void slide() {
+            this.windowData.removeFirst();
+            this.addMeasurement();
+            this.windowLeftBound = Measure.valueOf(this.nextPointInTime - this.windowSize, SI.SECOND);
+        }
+
+        private void addMeasurement() {
+            final MeasuringValue measurement = createResponseTime(this.nextPointInTime, this.random);
+            this.windowData.addLast(measurement);
+            // the aggregator observes the measurement source of the window
+            this.aggregator.newMeasurementAvailable(measurement);
+            this.nextPointInTime++;
+        }
+    }
+
+    /**
+     * A fixed size aggregator attached to a runtime measurement model.
+     */
+    @State(Scope.Thread)
+    public static class FixedSizeState {
+
+        @Param({ "10", "100", "1000" })
+        public int numberOfMeasurements;
+
+        @Param({ "1", "10" })
+        public int frequency;
+
+        MeasuringValue[] measurements;
+        FixedSizeMeasurementsAggregator aggregator;
+        int next;
+
+        @Setup
+        public void setUp() {
+            final StringMeasuringPoint measuringPoint = MeasuringpointFactory.eINSTANCE.createStringMeasuringPoint();
+            measuringPoint.setMeasuringPoint("Benchmark");
+            final Monitor monitor = MonitorRepositoryFactory.eINSTANCE.createMonitor();
+            monitor.setMeasuringPoint(measuringPoint);
+
+            final FixedSizeAggregation aggregation = MonitorRepositoryFactory.eINSTANCE.createFixedSizeAggregation();
+            aggregation.setNumberOfMeasurements(this.numberOfMeasurements);
+            aggregation.setFrequency(this.frequency);
+            aggregation.setStatisticalCharacterization(MonitorRepositoryFactory.eINSTANCE.createArithmeticMean());
+
+            final MeasurementSpecification specification = MonitorRepositoryFactory.eINSTANCE
+                    .createMeasurementSpecification();
+            specification.setMetricDescription(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE);
+            specification.setTriggersSelfAdaptations(true);
+            specification.setProcessingType(aggregation);
+            monitor.getMeasurementSpecifications().add(specification);
+
+            final RuntimeMeasurementModel runtimeMeasurementModel = RuntimeMeasurementFactory.eINSTANCE
+                    .createRuntimeMeasurementModel();
+            this.aggregator = new FixedSizeMeasurementsAggregator(RESPONSE_TIME_METRIC, runtimeMeasurementModel,
+                    aggregation);
+            this.measurements = createResponseTimes(4 * this.numberOfMeasurements).toArray(new MeasuringValue[0]);
+        }
+
+        MeasuringValue nextMeasurement() {
+            final MeasuringValue measurement = this.measurements[this.next];
+            this.next = (this.next + 1) % this.measurements.length;
+            return measurement;
+        }
+    }
+
+    @Benchmark
+    public void slidingWindowFull(final SlidingWindowState state) {
+        state.slide();
+        state.aggregator.onSlidingWindowFull(state.windowData, state.windowLeftBound, state.windowLength);
+    }
+
+    @Benchmark
+    public void fixedSizeNewMeasurement(final FixedSizeState state) {
+        state.aggregator.newMeasurementAvailable(state.nextMeasurement());
+    }
+
+    private static Deque<MeasuringValue> createResponseTimes(final int count) {
+        final Random random = new Random(42);
+        final Deque<MeasuringValue> measurements = new ArrayDeque<MeasuringValue>(count);
+        for (int i = 0; i < count; i++) {
+            measurements.addLast(createResponseTime(i, random));
+        }
+        return measurements;
+    }
+
+    private static MeasuringValue createResponseTime(final double pointInTime, final Random random) {
+        return new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(random.nextDouble() * 10d, SI.SECOND));
+    }
+}
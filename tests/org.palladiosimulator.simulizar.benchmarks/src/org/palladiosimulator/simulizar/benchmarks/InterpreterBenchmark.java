@@ -0,0 +1,158 @@
+package org.palladiosimulator.simulizar.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.edp2.impl.RepositoryManager;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.edp2.repository.local.LocalDirectoryRepositoryHelper;
+import org.palladiosimulator.simulizar.benchmarks.models.SyntheticPCMModel;
+import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
+import org.palladiosimulator.simulizar.launcher.jobs.LoadSimuLizarModelsIntoBlackboardJob;
+import org.palladiosimulator.simulizar.launcher.jobs.PCMStartInterpretationJob;
+import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
+
+import de.uka.ipd.sdq.simucomframework.SimuComConfig;
+import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Benchmarks complete simulation runs of a {@link SyntheticPCMModel}. The interpreter switches
+ * (usage scenarios, RDSEFFs, external call resolution, resource demands) need a running simulation
+ * to be exercised, so each invocation loads the models and simulates them for the configured
+ * simulation time. With {@code monitored == true}, all external calls and the usage scenario are
+ * monitored, which adds the cost of the probe framework listener and the EDP2 recorders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class InterpreterBenchmark {
+
+    @Param({ "5", "20" })
+    public int components;
+
+    @Param({ "5" })
+    public int actionsPerSeff;
+
+    @Param({ "10" })
+    public int population;
+
+    @Param({ "1000" })
+    public String simulationTime;
+
+    @Param({ "false", "true" })
+    public boolean monitored;
+
+    private File modelFolder;
+    private URI allocationUri;
+    private URI usageModelUri;
+    private URI monitorRepositoryUri;
+    private Repository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (!Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
+                .containsKey(Resource.Factory.Registry.DEFAULT_EXTENSION)) {
+            Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
+                    .put(Resource.Factory.Registry.DEFAULT_EXTENSION, new XMIResourceFactoryImpl());
+        }
+
+        this.modelFolder = Files.createTempDirectory("simulizar-benchmark").toFile();
+        final URI baseUri = URI.createFileURI(this.modelFolder.getAbsolutePath());
+        final SyntheticPCMModel model = SyntheticPCMModel.generate(new ResourceSetImpl(), baseUri, this.components,
+                this.actionsPerSeff, this.population);
+        this.allocationUri = model.getAllocation().eResource().getURI();
+        this.usageModelUri = model.getUsageModel().eResource().getURI();
+        this.monitorRepositoryUri = this.monitored ? model.createResponseTimeMonitors().eResource().getURI() : null;
+        model.save();
+
+        this.repository = LocalDirectoryRepositoryHelper
+                .initializeLocalDirectoryRepository(new File(this.modelFolder, "edp2"));
+        RepositoryManager.addRepository(RepositoryManager.getCentralRepository(), this.repository);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RepositoryManager.removeRepository(RepositoryManager.getCentralRepository(), this.repository);
+        deleteRecursively(this.modelFolder);
+    }
+
+    @Benchmark
+    public void simulate() throws Exception {
+        this.createSimulationJob().execute(new NullProgressMonitor());
+    }
+
+    private SequentialBlackboardInteractingJob<MDSDBlackboard> createSimulationJob() {
+        final Map<String, Object> properties = this.createSimulationProperties();
+        final SimuLizarWorkflowConfiguration configuration = new SimuLizarWorkflowConfiguration(properties);
+        configuration.setAllocationFiles(Arrays.asList(this.allocationUri.toString()));
+        configuration.setUsageModelFile(this.usageModelUri.toString());
+        configuration.setMonitorRepositoryFile(this.monitorRepositoryUri != null
+                ? this.monitorRepositoryUri.toString() : SimulizarConstants.DEFAULT_MONITOR_REPOSITORY_FILE);
+        configuration.setServiceLevelObjectivesFile(SimulizarConstants.DEFAULT_SERVICELEVELOBJECTIVE_FILE);
+        configuration.setUsageEvolutionFile(SimulizarConstants.DEFAULT_USAGEEVOLUTION_FILE);
+        configuration.setSimuComConfiguration(new SimuComConfig(properties, false));
+
+        final SequentialBlackboardInteractingJob<MDSDBlackboard> job = new SequentialBlackboardInteractingJob<MDSDBlackboard>(
+                false);
+        job.setBlackboard(new MDSDBlackboard());
+        // do not look for registered extensions, only the plain interpreter is measured
+        job.addJob(new LoadSimuLizarModelsIntoBlackboardJob(configuration, false));
+        job.addJob(new PCMStartInterpretationJob(configuration));
+        return job;
+    }
+
+    private Map<String, Object> createSimulationProperties() {
+        final Map<String, Object> properties = new HashMap<String, Object>();
+
+        properties.put(SimuComConfig.SIMULATE_FAILURES, false);
+        properties.put(SimuComConfig.SIMULATE_LINKING_RESOURCES, false);
+        properties.put(SimuComConfig.USE_FIXED_SEED, false);
+        properties.put(SimuComConfig.PERSISTENCE_RECORDER_NAME,
+                org.palladiosimulator.recorderframework.edp2.Activator.EDP2_ID);
+        properties.put("EDP2RepositoryID", this.repository.getId());
+        properties.put(SimuComConfig.SIMULATOR_ID, "de.uka.ipd.sdq.codegen.simucontroller.simulizar");
+        properties.put(SimuComConfig.EXPERIMENT_RUN, SimuComConfig.DEFAULT_EXPERIMENT_RUN);
+        properties.put(SimuComConfig.SIMULATION_TIME, this.simulationTime);
+        properties.put(SimuComConfig.MAXIMUM_MEASUREMENT_COUNT, SimuComConfig.DEFAULT_MAXIMUM_MEASUREMENT_COUNT);
+        properties.put(SimuComConfig.VERBOSE_LOGGING, false);
+        properties.put(SimuComConfig.VARIATION_ID, SimuComConfig.DEFAULT_VARIATION_NAME);
+        properties.put(SimulizarConstants.RECONFIGURATION_RULES_FOLDER,
+                SimulizarConstants.DEFAULT_RECONFIGURATION_RULES_FOLDER);
+
+        return properties;
+    }
+
+    private static void deleteRecursively(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
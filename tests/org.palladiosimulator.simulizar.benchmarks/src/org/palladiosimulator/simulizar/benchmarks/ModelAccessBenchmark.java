@@ -0,0 +1,88 @@
+package org.palladiosimulator.simulizar.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.simulizar.access.ModelAccess;
+import org.palladiosimulator.simulizar.benchmarks.models.SyntheticPCMModel;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Benchmarks of {@link ModelAccess#getLocalPCMModel()}, i.e., the local model copies taken for
+ * simulated users, with and without changes of the global model in between.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class ModelAccessBenchmark {
+
+    @Param({ "10", "100" })
+    public int components;
+
+    @Param({ "5" })
+    public int actionsPerSeff;
+
+    private ModelAccess modelAccess;
+    private PCMRandomVariable thinkTime;
+    private PCMRandomVariable resourceDemand;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        final PCMResourceSetPartition partition = new PCMResourceSetPartition();
+        final SyntheticPCMModel model = SyntheticPCMModel.generate(partition.getResourceSet(),
+                URI.createURI("benchmark://model"), this.components, Math.max(1, this.actionsPerSeff), 1);
+        this.thinkTime = model.getWorkload().getThinkTime_ClosedWorkload();
+        this.resourceDemand = model.getInternalActions().get(0).getResourceDemand_Action().get(0)
+                .getSpecification_ParametericResourceDemand();
+
+        final MDSDBlackboard blackboard = new MDSDBlackboard();
+        blackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, partition);
+        this.modelAccess = new ModelAccess(blackboard);
+        this.modelAccess.startObservingPcmChanges();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.modelAccess.stopObservingPcmChanges();
+    }
+
+    @Benchmark
+    public PCMResourceSetPartition unchanged() {
+        return this.modelAccess.getLocalPCMModel();
+    }
+
+    @Benchmark
+    public PCMResourceSetPartition afterUsageModelChange() {
+        this.thinkTime.setSpecification(this.nextSpecification());
+        return this.modelAccess.getLocalPCMModel();
+    }
+
+    @Benchmark
+    public PCMResourceSetPartition afterRepositoryChange() {
+        this.resourceDemand.setSpecification(this.nextSpecification());
+        return this.modelAccess.getLocalPCMModel();
+    }
+
+    private String nextSpecification() {
+        this.toggle = !this.toggle;
+        return this.toggle ? "2.0" : "1.0";
+    }
+}
@@ -0,0 +1,56 @@
+package org.palladiosimulator.simulizar.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.simulizar.utils.CompiledRandomVariable;
+
+import de.uka.ipd.sdq.simucomframework.variables.StackContext;
+import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
+
+/**
+ * Compares the evaluation of random variables by {@link StackContext} with the evaluation through
+ * their {@link CompiledRandomVariable} form as done by the interpreter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class RandomVariableBenchmark {
+
+    @Param({ "42.0", "(3.0 * 4.0) + 1.0", "x.VALUE", "x.VALUE * 2.0" })
+    public String specification;
+
+    private PCMRandomVariable randomVariable;
+    private SimulatedStackframe<Object> stackFrame;
+
+    @Setup
+    public void setUp() {
+        this.randomVariable = CoreFactory.eINSTANCE.createPCMRandomVariable();
+        this.randomVariable.setSpecification(this.specification);
+        this.stackFrame = new SimulatedStackframe<Object>();
+        this.stackFrame.addValue("x.VALUE", 5.0d);
+    }
+
+    @Benchmark
+    public double stackContext() {
+        return StackContext.evaluateStatic(this.specification, Double.class, this.stackFrame);
+    }
+
+    @Benchmark
+    public double compiled() {
+        return CompiledRandomVariable.of(this.randomVariable).evaluateDouble(this.stackFrame);
+    }
+}
@@ -0,0 +1,57 @@
+package org.palladiosimulator.simulizar.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point running the JMH benchmarks of this bundle inside the OSGi test runtime.
+ *
+ * The benchmarks are executed without forking, as forked JVMs would not have access to the OSGi
+ * bundles the benchmarks depend on. The following system properties control the run:
+ * <ul>
+ * <li>{@code simulizar.benchmarks.include}: regular expression selecting the benchmarks to
+ * run.</li>
+ * <li>{@code simulizar.benchmarks.params}: parameter overrides in the form
+ * {@code name=value1,value2;name2=value}, e.g. to change the size of the generated models.</li>
+ * <li>{@code simulizar.benchmarks.result}: file the JSON results are written to.</li>
+ * </ul>
+ */
+public class SimuLizarBenchmarks {
+
+    private static final String INCLUDE_PROPERTY = "simulizar.benchmarks.include";
+    private static final String PARAMS_PROPERTY = "simulizar.benchmarks.params";
+    private static final String RESULT_PROPERTY = "simulizar.benchmarks.result";
+
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(System.getProperty(INCLUDE_PROPERTY, ".*"))
+                .forks(0)
+                .shouldFailOnError(true);
+
+        final String params = System.getProperty(PARAMS_PROPERTY, "");
+        for (final String param : params.split(";")) {
+            final int separator = param.indexOf('=');
+            if (separator > 0) {
+                options.param(param.substring(0, separator).trim(), param.substring(separator + 1).trim().split(","));
+            }
+        }
+
+        final String resultFile = System.getProperty(RESULT_PROPERTY);
+        if (resultFile != null && !resultFile.isEmpty()) {
+            options.resultFormat(ResultFormatType.JSON).result(resultFile);
+        }
+
+        final Collection<RunResult> results = new Runner(options.build()).run();
+        assertFalse("No benchmark matched " + System.getProperty(INCLUDE_PROPERTY, ".*"), results.isEmpty());
+    }
+}
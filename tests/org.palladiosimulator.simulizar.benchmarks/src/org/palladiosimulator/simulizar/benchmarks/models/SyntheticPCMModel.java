@@ -0,0 +1,429 @@
+package org.palladiosimulator.simulizar.benchmarks.models;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPointRepository;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringpointFactory;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.Monitor;
+import org.palladiosimulator.monitorrepository.MonitorRepository;
+import org.palladiosimulator.monitorrepository.MonitorRepositoryFactory;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.allocation.AllocationFactory;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.CompositionFactory;
+import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.OperationInterface;
+import org.palladiosimulator.pcm.repository.OperationProvidedRole;
+import org.palladiosimulator.pcm.repository.OperationRequiredRole;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.pcm.resourcetype.ProcessingResourceType;
+import org.palladiosimulator.pcm.resourcetype.ResourceRepository;
+import org.palladiosimulator.pcm.resourcetype.ResourceType;
+import org.palladiosimulator.pcm.resourcetype.SchedulingPolicy;
+import org.palladiosimulator.pcm.seff.AbstractAction;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.InternalAction;
+import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.pcm.seff.seff_performance.ParametricResourceDemand;
+import org.palladiosimulator.pcm.seff.seff_performance.SeffPerformanceFactory;
+import org.palladiosimulator.pcm.system.System;
+import org.palladiosimulator.pcm.system.SystemFactory;
+import org.palladiosimulator.pcm.usagemodel.AbstractUserAction;
+import org.palladiosimulator.pcm.usagemodel.ClosedWorkload;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.ScenarioBehaviour;
+import org.palladiosimulator.pcm.usagemodel.UsageModel;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelFactory;
+import org.palladiosimulator.pcmmeasuringpoint.ExternalCallActionMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.PcmmeasuringpointFactory;
+import org.palladiosimulator.pcmmeasuringpoint.UsageScenarioMeasuringPoint;
+
+/**
+ * Synthetic PCM model of configurable size used by the benchmarks.
+ *
+ * The model consists of a chain of basic components. The SEFF of each component executes a
+ * configurable number of internal actions demanding CPU time and then calls the next component of
+ * the chain. All components are deployed on a single resource container. The usage model contains
+ * a closed workload calling the first component of the chain.
+ */
+public final class SyntheticPCMModel {
+
+    private static final String PALLADIO_RESOURCETYPES_PATHMAP = "pathmap://PCM_MODELS/Palladio.resourcetype";
+    private static final String PALLADIO_RESOURCETYPES_PATHMAP_TARGET = "platform:/plugin/org.palladiosimulator.pcm.resources/defaultModels/Palladio.resourcetype";
+    private static final String CPU_RESOURCE_TYPE_NAME = "CPU";
+    private static final String PROCESSOR_SHARING_POLICY_ID = "ProcessorSharing";
+
+    private final ResourceSet resourceSet;
+    private final URI baseUri;
+    private final List<ExternalCallAction> externalCalls = new ArrayList<ExternalCallAction>();
+    private final List<InternalAction> internalActions = new ArrayList<InternalAction>();
+
+    private Repository repository;
+    private System system;
+    private ResourceEnvironment resourceEnvironment;
+    private Allocation allocation;
+    private UsageModel usageModel;
+    private ClosedWorkload workload;
+
+    private SyntheticPCMModel(final ResourceSet resourceSet, final URI baseUri) {
+        this.resourceSet = resourceSet;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Generates a new synthetic model.
+     *
+     * @param resourceSet
+     *            the resource set the model resources are created in.
+     * @param baseUri
+     *            the folder the model resources are located in.
+     * @param numberOfComponents
+     *            the length of the component chain.
+     * @param internalActionsPerSeff
+     *            the number of internal actions executed by each SEFF.
+     * @param population
+     *            the population of the closed workload.
+     * @return the generated model.
+     */
+    public static SyntheticPCMModel generate(final ResourceSet resourceSet, final URI baseUri,
+            final int numberOfComponents, final int internalActionsPerSeff, final int population) {
+        if (numberOfComponents < 1 || internalActionsPerSeff < 0 || population < 1) {
+            throw new IllegalArgumentException("Invalid model size");
+        }
+        final SyntheticPCMModel model = new SyntheticPCMModel(resourceSet, baseUri);
+        model.generateModel(numberOfComponents, internalActionsPerSeff, population);
+        return model;
+    }
+
+    public Repository getRepository() {
+        return this.repository;
+    }
+
+    public System getSystem() {
+        return this.system;
+    }
+
+    public ResourceEnvironment getResourceEnvironment() {
+        return this.resourceEnvironment;
+    }
+
+    public Allocation getAllocation() {
+        return this.allocation;
+    }
+
+    public UsageModel getUsageModel() {
+        return this.usageModel;
+    }
+
+    public ClosedWorkload getWorkload() {
+        return this.workload;
+    }
+
+    public List<InternalAction> getInternalActions() {
+        return Collections.unmodifiableList(this.internalActions);
+    }
+
+    public List<ExternalCallAction> getExternalCalls() {
+        return Collections.unmodifiableList(this.externalCalls);
+    }
+
+    /**
+     * Creates a monitor repository measuring the response time of the usage scenario and of all
+     * external calls of the model.
+     *
+     * @return the monitor repository, contained in a new resource next to the model.
+     */
+    public MonitorRepository createResponseTimeMonitors() {
+        final MeasuringPointRepository measuringPointRepository = MeasuringpointFactory.eINSTANCE
+                .createMeasuringPointRepository();
+        final MonitorRepository monitorRepository = MonitorRepositoryFactory.eINSTANCE.createMonitorRepository();
+
+        final UsageScenario scenario = this.usageModel.getUsageScenario_UsageModel().get(0);
+        final UsageScenarioMeasuringPoint scenarioMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createUsageScenarioMeasuringPoint();
+        scenarioMeasuringPoint.setUsageScenario(scenario);
+        addResponseTimeMonitor(monitorRepository, measuringPointRepository, scenarioMeasuringPoint,
+                scenario.getEntityName());
+
+        for (final ExternalCallAction externalCall : this.externalCalls) {
+            final ExternalCallActionMeasuringPoint callMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                    .createExternalCallActionMeasuringPoint();
+            callMeasuringPoint.setExternalCall(externalCall);
+            addResponseTimeMonitor(monitorRepository, measuringPointRepository, callMeasuringPoint,
+                    externalCall.getEntityName());
+        }
+
+        this.createResource("benchmark.measuringpoint", measuringPointRepository);
+        this.createResource("benchmark.monitorrepository", monitorRepository);
+        return monitorRepository;
+    }
+
+    /**
+     * Saves all resources of the model which are located in the model folder.
+     *
+     * @throws IOException
+     *             if a resource could not be saved.
+     */
+    public void save() throws IOException {
+        final String base = this.baseUri.toString();
+        for (final Resource resource : new ArrayList<Resource>(this.resourceSet.getResources())) {
+            if (resource.getURI().toString().startsWith(base)) {
+                resource.save(Collections.emptyMap());
+            }
+        }
+    }
+
+    private static void addResponseTimeMonitor(final MonitorRepository monitorRepository,
+            final MeasuringPointRepository measuringPointRepository, final MeasuringPoint measuringPoint,
+            final String name) {
+        measuringPoint.setStringRepresentation(name);
+        measuringPointRepository.getMeasuringPoints().add(measuringPoint);
+
+        final Monitor monitor = MonitorRepositoryFactory.eINSTANCE.createMonitor();
+        monitor.setEntityName("Response time of " + name);
+        monitor.setActivated(true);
+        monitor.setMeasuringPoint(measuringPoint);
+
+        final MeasurementSpecification specification = MonitorRepositoryFactory.eINSTANCE
+                .createMeasurementSpecification();
+        specification.setMetricDescription(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE);
+        specification.setProcessingType(MonitorRepositoryFactory.eINSTANCE.createFeedThrough());
+        monitor.getMeasurementSpecifications().add(specification);
+
+        monitorRepository.getMonitors().add(monitor);
+    }
+
+    private void generateModel(final int numberOfComponents, final int internalActionsPerSeff,
+            final int population) {
+        final ResourceRepository resourceTypes = this.loadResourceTypes();
+        final ProcessingResourceType cpu = findCpu(resourceTypes);
+
+        this.repository = RepositoryFactory.eINSTANCE.createRepository();
+        this.repository.setEntityName("BenchmarkRepository");
+        final List<BasicComponent> components = new ArrayList<BasicComponent>(numberOfComponents);
+        final List<OperationProvidedRole> providedRoles = new ArrayList<OperationProvidedRole>(numberOfComponents);
+        final List<OperationRequiredRole> requiredRoles = new ArrayList<OperationRequiredRole>(numberOfComponents);
+        final List<OperationSignature> signatures = new ArrayList<OperationSignature>(numberOfComponents);
+        for (int i = 0; i < numberOfComponents; i++) {
+            final OperationInterface operationInterface = RepositoryFactory.eINSTANCE.createOperationInterface();
+            operationInterface.setEntityName("IComponent" + i);
+            final OperationSignature signature = RepositoryFactory.eINSTANCE.createOperationSignature();
+            signature.setEntityName("operation" + i);
+            operationInterface.getSignatures__OperationInterface().add(signature);
+            this.repository.getInterfaces__Repository().add(operationInterface);
+            signatures.add(signature);
+
+            final BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+            component.setEntityName("Component" + i);
+            final OperationProvidedRole providedRole = RepositoryFactory.eINSTANCE.createOperationProvidedRole();
+            providedRole.setEntityName("Provided_IComponent" + i);
+            providedRole.setProvidedInterface__OperationProvidedRole(operationInterface);
+            component.getProvidedRoles_InterfaceProvidingEntity().add(providedRole);
+            this.repository.getComponents__Repository().add(component);
+            components.add(component);
+            providedRoles.add(providedRole);
+        }
+        for (int i = 0; i < numberOfComponents; i++) {
+            OperationRequiredRole requiredRole = null;
+            if (i + 1 < numberOfComponents) {
+                requiredRole = RepositoryFactory.eINSTANCE.createOperationRequiredRole();
+                requiredRole.setEntityName("Required_IComponent" + (i + 1));
+                requiredRole.setRequiredInterface__OperationRequiredRole(
+                        providedRoles.get(i + 1).getProvidedInterface__OperationProvidedRole());
+                components.get(i).getRequiredRoles_InterfaceRequiringEntity().add(requiredRole);
+            }
+            requiredRoles.add(requiredRole);
+            components.get(i).getServiceEffectSpecifications__BasicComponent()
+                    .add(this.createSeff(i, signatures.get(i), requiredRole,
+                            requiredRole == null ? null : signatures.get(i + 1), internalActionsPerSeff, cpu));
+        }
+        this.createResource("benchmark.repository", this.repository);
+
+        this.system = SystemFactory.eINSTANCE.createSystem();
+        this.system.setEntityName("BenchmarkSystem");
+        final List<AssemblyContext> assemblyContexts = new ArrayList<AssemblyContext>(numberOfComponents);
+        for (final BasicComponent component : components) {
+            final AssemblyContext assemblyContext = CompositionFactory.eINSTANCE.createAssemblyContext();
+            assemblyContext.setEntityName("Assembly_" + component.getEntityName());
+            assemblyContext.setEncapsulatedComponent__AssemblyContext(component);
+            this.system.getAssemblyContexts__ComposedStructure().add(assemblyContext);
+            assemblyContexts.add(assemblyContext);
+        }
+        for (int i = 0; i + 1 < numberOfComponents; i++) {
+            final AssemblyConnector connector = CompositionFactory.eINSTANCE.createAssemblyConnector();
+            connector.setEntityName("Connector" + i);
+            connector.setRequiringAssemblyContext_AssemblyConnector(assemblyContexts.get(i));
+            connector.setRequiredRole_AssemblyConnector(requiredRoles.get(i));
+            connector.setProvidingAssemblyContext_AssemblyConnector(assemblyContexts.get(i + 1));
+            connector.setProvidedRole_AssemblyConnector(providedRoles.get(i + 1));
+            this.system.getConnectors__ComposedStructure().add(connector);
+        }
+        final OperationProvidedRole systemProvidedRole = RepositoryFactory.eINSTANCE.createOperationProvidedRole();
+        systemProvidedRole.setEntityName("Provided_System");
+        systemProvidedRole.setProvidedInterface__OperationProvidedRole(
+                providedRoles.get(0).getProvidedInterface__OperationProvidedRole());
+        this.system.getProvidedRoles_InterfaceProvidingEntity().add(systemProvidedRole);
+        final ProvidedDelegationConnector delegationConnector = CompositionFactory.eINSTANCE
+                .createProvidedDelegationConnector();
+        delegationConnector.setEntityName("SystemDelegation");
+        delegationConnector.setOuterProvidedRole_ProvidedDelegationConnector(systemProvidedRole);
+        delegationConnector.setInnerProvidedRole_ProvidedDelegationConnector(providedRoles.get(0));
+        delegationConnector.setAssemblyContext_ProvidedDelegationConnector(assemblyContexts.get(0));
+        this.system.getConnectors__ComposedStructure().add(delegationConnector);
+        this.createResource("benchmark.system", this.system);
+
+        this.resourceEnvironment = ResourceenvironmentFactory.eINSTANCE.createResourceEnvironment();
+        this.resourceEnvironment.setEntityName("BenchmarkResourceEnvironment");
+        final ResourceContainer container = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+        container.setEntityName("Server");
+        final ProcessingResourceSpecification cpuSpecification = ResourceenvironmentFactory.eINSTANCE
+                .createProcessingResourceSpecification();
+        cpuSpecification.setActiveResourceType_ActiveResourceSpecification(cpu);
+        cpuSpecification.setSchedulingPolicy(findProcessorSharing(resourceTypes));
+        cpuSpecification.setNumberOfReplicas(1);
+        cpuSpecification.setProcessingRate_ProcessingResourceSpecification(createRandomVariable("1000"));
+        container.getActiveResourceSpecifications_ResourceContainer().add(cpuSpecification);
+        this.resourceEnvironment.getResourceContainer_ResourceEnvironment().add(container);
+        this.createResource("benchmark.resourceenvironment", this.resourceEnvironment);
+
+        this.allocation = AllocationFactory.eINSTANCE.createAllocation();
+        this.allocation.setEntityName("BenchmarkAllocation");
+        this.allocation.setSystem_Allocation(this.system);
+        this.allocation.setTargetResourceEnvironment_Allocation(this.resourceEnvironment);
+        for (final AssemblyContext assemblyContext : assemblyContexts) {
+            final AllocationContext allocationContext = AllocationFactory.eINSTANCE.createAllocationContext();
+            allocationContext.setEntityName("Allocation_" + assemblyContext.getEntityName());
+            allocationContext.setAssemblyContext_AllocationContext(assemblyContext);
+            allocationContext.setResourceContainer_AllocationContext(container);
+            this.allocation.getAllocationContexts_Allocation().add(allocationContext);
+        }
+        this.createResource("benchmark.allocation", this.allocation);
+
+        this.usageModel = UsagemodelFactory.eINSTANCE.createUsageModel();
+        final UsageScenario scenario = UsagemodelFactory.eINSTANCE.createUsageScenario();
+        scenario.setEntityName("BenchmarkScenario");
+        this.workload = UsagemodelFactory.eINSTANCE.createClosedWorkload();
+        this.workload.setPopulation(population);
+        this.workload.setThinkTime_ClosedWorkload(createRandomVariable("1.0"));
+        scenario.setWorkload_UsageScenario(this.workload);
+        final ScenarioBehaviour behaviour = UsagemodelFactory.eINSTANCE.createScenarioBehaviour();
+        final EntryLevelSystemCall systemCall = UsagemodelFactory.eINSTANCE.createEntryLevelSystemCall();
+        systemCall.setEntityName("CallSystem");
+        systemCall.setProvidedRole_EntryLevelSystemCall(systemProvidedRole);
+        systemCall.setOperationSignature__EntryLevelSystemCall(signatures.get(0));
+        addUserActions(behaviour, UsagemodelFactory.eINSTANCE.createStart(), systemCall,
+                UsagemodelFactory.eINSTANCE.createStop());
+        scenario.setScenarioBehaviour_UsageScenario(behaviour);
+        this.usageModel.getUsageScenario_UsageModel().add(scenario);
+        this.createResource("benchmark.usagemodel", this.usageModel);
+    }
+
+    private ResourceDemandingSEFF createSeff(final int index, final OperationSignature describedService,
+            final OperationRequiredRole requiredRole, final OperationSignature calledService,
+            final int internalActionsPerSeff, final ProcessingResourceType cpu) {
+        final ResourceDemandingSEFF seff = SeffFactory.eINSTANCE.createResourceDemandingSEFF();
+        seff.setDescribedService__SEFF(describedService);
+
+        final List<AbstractAction> actions = new ArrayList<AbstractAction>();
+        actions.add(SeffFactory.eINSTANCE.createStartAction());
+        for (int i = 0; i < internalActionsPerSeff; i++) {
+            final InternalAction internalAction = SeffFactory.eINSTANCE.createInternalAction();
+            internalAction.setEntityName("Compute" + index + "_" + i);
+            final ParametricResourceDemand demand = SeffPerformanceFactory.eINSTANCE.createParametricResourceDemand();
+            demand.setRequiredResource_ParametricResourceDemand(cpu);
+            demand.setSpecification_ParametericResourceDemand(createRandomVariable("0.001"));
+            internalAction.getResourceDemand_Action().add(demand);
+            actions.add(internalAction);
+            this.internalActions.add(internalAction);
+        }
+        if (requiredRole != null) {
+            final ExternalCallAction externalCall = SeffFactory.eINSTANCE.createExternalCallAction();
+            externalCall.setEntityName("Call" + index);
+            externalCall.setRole_ExternalService(requiredRole);
+            externalCall.setCalledService_ExternalService(calledService);
+            actions.add(externalCall);
+            this.externalCalls.add(externalCall);
+        }
+        actions.add(SeffFactory.eINSTANCE.createStopAction());
+
+        for (int i = 0; i < actions.size(); i++) {
+            seff.getSteps_Behaviour().add(actions.get(i));
+            if (i > 0) {
+                actions.get(i - 1).setSuccessor_AbstractAction(actions.get(i));
+            }
+        }
+        return seff;
+    }
+
+    private static void addUserActions(final ScenarioBehaviour behaviour, final AbstractUserAction... actions) {
+        for (int i = 0; i < actions.length; i++) {
+            behaviour.getActions_ScenarioBehaviour().add(actions[i]);
+            if (i > 0) {
+                actions[i - 1].setSuccessor(actions[i]);
+            }
+        }
+    }
+
+    private static PCMRandomVariable createRandomVariable(final String specification) {
+        final PCMRandomVariable randomVariable = CoreFactory.eINSTANCE.createPCMRandomVariable();
+        randomVariable.setSpecification(specification);
+        return randomVariable;
+    }
+
+    private Resource createResource(final String fileName, final EObject root) {
+        final Resource resource = this.resourceSet.createResource(this.baseUri.appendSegment(fileName));
+        resource.getContents().add(root);
+        return resource;
+    }
+
+    private ResourceRepository loadResourceTypes() {
+        final URI pathmap = URI.createURI(PALLADIO_RESOURCETYPES_PATHMAP);
+        if (!URIConverter.URI_MAP.containsKey(pathmap)) {
+            URIConverter.URI_MAP.put(pathmap, URI.createURI(PALLADIO_RESOURCETYPES_PATHMAP_TARGET));
+        }
+        return (ResourceRepository) this.resourceSet.getResource(pathmap, true).getContents().get(0);
+    }
+
+    private static ProcessingResourceType findCpu(final ResourceRepository resourceTypes) {
+        for (final ResourceType resourceType : resourceTypes.getAvailableResourceTypes_ResourceRepository()) {
+            if (resourceType instanceof ProcessingResourceType
+                    && CPU_RESOURCE_TYPE_NAME.equals(resourceType.getEntityName())) {
+                return (ProcessingResourceType) resourceType;
+            }
+        }
+        throw new IllegalStateException("Palladio resource types do not define a CPU");
+    }
+
+    private static SchedulingPolicy findProcessorSharing(final ResourceRepository resourceTypes) {
+        for (final SchedulingPolicy policy : resourceTypes.getSchedulingPolicies__ResourceRepository()) {
+            if (PROCESSOR_SHARING_POLICY_ID.equals(policy.getId())) {
+                return policy;
+            }
+        }
+        throw new IllegalStateException("Palladio resource types do not define processor sharing");
+    }
+}
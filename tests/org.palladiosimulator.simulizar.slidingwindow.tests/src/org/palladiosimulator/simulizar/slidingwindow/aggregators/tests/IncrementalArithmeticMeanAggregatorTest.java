@@ -0,0 +1,178 @@
+package org.palladiosimulator.simulizar.slidingwindow.aggregators.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Test;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
+import org.palladiosimulator.recorderframework.IRecorder;
+import org.palladiosimulator.recorderframework.config.IRecorderConfiguration;
+import org.palladiosimulator.simulizar.slidingwindow.aggregators.SlidingWindowStatisticalCharacterizationAggregator;
+
+/**
+ * Checks that the incrementally maintained arithmetic mean of the
+ * {@link SlidingWindowStatisticalCharacterizationAggregator} matches the arithmetic mean computed
+ * over the complete window data, for many consecutive, overlapping window positions.
+ */
+public class IncrementalArithmeticMeanAggregatorTest {
+
+    private static final double WINDOW_LENGTH = 10d;
+    private static final double WINDOW_INCREMENT = 5d;
+    private static final int NUMBER_OF_WINDOWS = 200;
+
+    // relative deviation caused by the different order of floating point operations: the
+    // incremental mean is compensated, the full recomputation sums up at most a few hundred values
+    private static final double RELATIVE_DELTA = Math.pow(10, -12);
+
+    @Test
+    public void testDiscreteMetricObserved() {
+        assertMatchesFullRecomputation(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, SI.SECOND, false,
+                true);
+    }
+
+    @Test
+    public void testDiscreteMetricNotObserved() {
+        assertMatchesFullRecomputation(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, SI.SECOND, false,
+                false);
+    }
+
+    @Test
+    public void testContinuousMetricObserved() {
+        assertMatchesFullRecomputation(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC,
+                Unit.ONE, true, true);
+    }
+
+    @Test
+    public void testContinuousMetricNotObserved() {
+        assertMatchesFullRecomputation(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC,
+                Unit.ONE, true, false);
+    }
+
+    /**
+     * Moves a window over randomly generated measurements and compares the results of an
+     * aggregator using the incremental mean with the results of one that aggregates the complete
+     * window data.
+     *
+     * @param observed
+     *            whether the aggregator under test is informed about new measurements, or has to
+     *            take them from the window data.
+     */
+    private static void assertMatchesFullRecomputation(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription dataMetric, final Unit<? extends Quantity> unit,
+            final boolean keepLastPriorToLowerBound, final boolean observed) {
+        final LastMeasurementRecorder incrementalRecorder = new LastMeasurementRecorder();
+        final LastMeasurementRecorder referenceRecorder = new LastMeasurementRecorder();
+        final SlidingWindowStatisticalCharacterizationAggregator incrementalAggregator = new SlidingWindowStatisticalCharacterizationAggregator(
+                incrementalRecorder, new ArithmeticMeanAggregator(dataMetric));
+        // the incremental mean is only used for the arithmetic mean aggregator itself
+        final SlidingWindowStatisticalCharacterizationAggregator referenceAggregator = new SlidingWindowStatisticalCharacterizationAggregator(
+                referenceRecorder, new ArithmeticMeanAggregator(dataMetric) {
+                });
+
+        final Random random = new Random(4711);
+        final Deque<MeasuringValue> data = new ArrayDeque<MeasuringValue>();
+        double pointInTime = 0d;
+        for (int i = 0; i < NUMBER_OF_WINDOWS; i++) {
+            final double lowerBound = i * WINDOW_INCREMENT;
+            final double upperBound = lowerBound + WINDOW_LENGTH;
+
+            // bursts and idle phases, so that the number of measurements per window varies
+            final double meanInterarrivalTime = random.nextBoolean() ? 0.05 : 2d;
+            while (pointInTime <= upperBound) {
+                final double value = keepLastPriorToLowerBound ? random.nextInt(6) : random.nextDouble() * 100d;
+                final MeasuringValue measurement = new TupleMeasurement(windowDataMetric,
+                        Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(value, unit));
+                data.addLast(measurement);
+                if (observed) {
+                    incrementalAggregator.newMeasurementAvailable(measurement);
+                }
+                pointInTime += random.nextDouble() * 2d * meanInterarrivalTime;
+            }
+
+            final Measure<Double, Duration> lowerBoundMeasure = Measure.valueOf(lowerBound, SI.SECOND);
+            final Measure<Double, Duration> lengthMeasure = Measure.valueOf(WINDOW_LENGTH, SI.SECOND);
+            incrementalAggregator.onSlidingWindowFull(data, lowerBoundMeasure, lengthMeasure);
+            referenceAggregator.onSlidingWindowFull(data, lowerBoundMeasure, lengthMeasure);
+
+            final double expected = referenceRecorder.getLastValue(dataMetric);
+            assertEquals("Window " + i, expected, incrementalRecorder.getLastValue(dataMetric),
+                    RELATIVE_DELTA * Math.max(1d, Math.abs(expected)));
+            // the incremental result is built directly, so it has to look like the aggregated one
+            assertEquals("Window " + i, referenceRecorder.lastMeasurement.getMetricDesciption().getId(),
+                    incrementalRecorder.lastMeasurement.getMetricDesciption().getId());
+            assertEquals("Window " + i, getPointInTime(referenceRecorder.lastMeasurement),
+                    getPointInTime(incrementalRecorder.lastMeasurement), 0d);
+
+            moveOn(data, lowerBound + WINDOW_INCREMENT, keepLastPriorToLowerBound);
+        }
+    }
+
+    private static void moveOn(final Deque<MeasuringValue> data, final double newLowerBound,
+            final boolean keepLastPriorToLowerBound) {
+        MeasuringValue lastPolled = null;
+        while (!data.isEmpty() && getPointInTime(data.peekFirst()) < newLowerBound) {
+            lastPolled = data.pollFirst();
+        }
+        if (keepLastPriorToLowerBound && lastPolled != null) {
+            data.addFirst(lastPolled);
+        }
+    }
+
+    private static double getPointInTime(final MeasuringValue measurement) {
+        final Measure<Double, Duration> pointInTime = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.doubleValue(SI.SECOND);
+    }
+
+    private static final class LastMeasurementRecorder implements IRecorder {
+
+        private MeasuringValue lastMeasurement;
+
+        double getLastValue(final NumericalBaseMetricDescription dataMetric) {
+            assertNotNull(this.lastMeasurement);
+            final Measure<Double, Quantity> measure = this.lastMeasurement.getMeasureForMetric(dataMetric);
+            return measure.doubleValue(dataMetric.getDefaultUnit());
+        }
+
+        @Override
+        public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        }
+
+        @Override
+        public void writeData(final MeasuringValue measurement) {
+            this.lastMeasurement = measurement;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+            this.writeData(newMeasurement);
+        }
+
+        @Override
+        public void preUnregister() {
+        }
+    }
+}
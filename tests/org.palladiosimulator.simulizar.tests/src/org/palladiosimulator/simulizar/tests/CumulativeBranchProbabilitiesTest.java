@@ -0,0 +1,169 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.junit.Test;
+import org.palladiosimulator.pcm.seff.BranchAction;
+import org.palladiosimulator.pcm.seff.ProbabilisticBranchTransition;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.simulizar.utils.CumulativeBranchProbabilities;
+
+public class CumulativeBranchProbabilitiesTest {
+
+    @Test
+    public void testEmptyBranch() {
+        assertEquals(-1, CumulativeBranchProbabilities.getRandomIndex(new double[0], 0.5));
+    }
+
+    @Test
+    public void testBinarySearchMatchesLinearScanAtBoundaries() {
+        assertSameIndices(0.25, 0.25, 0.5);
+        assertSameIndices(0.3, 0.4, 0.3);
+        assertSameIndices(1d / 3d, 1d / 3d, 1d / 3d);
+        assertSameIndices(1d);
+    }
+
+    @Test
+    public void testBinarySearchMatchesLinearScanWithZeroProbabilities() {
+        assertSameIndices(0d, 1d);
+        assertSameIndices(1d, 0d);
+        assertSameIndices(0.3, 0d, 0d, 0.7);
+        assertSameIndices(0d, 0.5, 0d, 0.5, 0d);
+        assertSameIndices(0d, 0d);
+    }
+
+    @Test
+    public void testBinarySearchMatchesLinearScanForUnnormalizedProbabilities() {
+        assertSameIndices(0.2, 0.2);
+        assertSameIndices(2d, 1d, 1d);
+    }
+
+    @Test
+    public void testBinarySearchMatchesLinearScanForRandomNumbers() {
+        final Random random = new Random(42);
+        final double[] probabilities = new double[] { 0.1, 0d, 0.25, 0.05, 0.35, 0d, 0.25 };
+        final double[] cumulativeProbabilities = cumulate(probabilities);
+        for (int i = 0; i < 10000; i++) {
+            final double randomNumber = random.nextDouble();
+            assertEquals(linearScan(cumulativeProbabilities, randomNumber),
+                    CumulativeBranchProbabilities.getRandomIndex(cumulativeProbabilities, randomNumber));
+        }
+    }
+
+    @Test
+    public void testProbabilitiesAreRecomputedAfterProbabilityChange() {
+        final BranchAction branchAction = branchAction(0.5, 0.5);
+        assertEquals(0, getRandomIndex(branchAction, 0.25));
+
+        transition(branchAction, 0).setBranchProbability(0d);
+        assertEquals(1, getRandomIndex(branchAction, 0.25));
+    }
+
+    @Test
+    public void testProbabilitiesAreRecomputedAfterTransitionIsAdded() {
+        final BranchAction branchAction = branchAction(1d);
+        assertEquals(0, getRandomIndex(branchAction, 0.75));
+
+        branchAction.getBranches_Action().add(transition(3d));
+        assertEquals(1, getRandomIndex(branchAction, 0.75));
+    }
+
+    @Test
+    public void testProbabilitiesAreRecomputedAfterTransitionIsRemoved() {
+        final BranchAction branchAction = branchAction(1d, 1d, 2d);
+        assertEquals(1, getRandomIndex(branchAction, 0.3));
+
+        final ProbabilisticBranchTransition removedTransition = transition(branchAction, 0);
+        branchAction.getBranches_Action().remove(0);
+        assertEquals(0, getRandomIndex(branchAction, 0.3));
+
+        // the removed transition no longer contributes to the probabilities
+        removedTransition.setBranchProbability(100d);
+        assertEquals(0, getRandomIndex(branchAction, 0.3));
+    }
+
+    private static BranchAction branchAction(final double... probabilities) {
+        final BranchAction branchAction = SeffFactory.eINSTANCE.createBranchAction();
+        for (final double probability : probabilities) {
+            branchAction.getBranches_Action().add(transition(probability));
+        }
+        return branchAction;
+    }
+
+    private static ProbabilisticBranchTransition transition(final double probability) {
+        final ProbabilisticBranchTransition transition = SeffFactory.eINSTANCE.createProbabilisticBranchTransition();
+        transition.setBranchProbability(probability);
+        return transition;
+    }
+
+    private static ProbabilisticBranchTransition transition(final BranchAction branchAction, final int index) {
+        return (ProbabilisticBranchTransition) branchAction.getBranches_Action().get(index);
+    }
+
+    /**
+     * Determines the index the way the transition determiner does, i.e., by means of the
+     * probabilities attached to the branch action.
+     */
+    private static int getRandomIndex(final BranchAction branchAction, final double randomNumber) {
+        return CumulativeBranchProbabilities
+                .of((EStructuralFeature.Setting) branchAction.getBranches_Action(),
+                        transition -> ((ProbabilisticBranchTransition) transition).getBranchProbability())
+                .getRandomIndex(randomNumber);
+    }
+
+    /**
+     * Compares both searches for the random numbers 0, just below 1 and exactly at, just below and
+     * just above each cumulative probability.
+     */
+    private static void assertSameIndices(final double... probabilities) {
+        final double[] cumulativeProbabilities = cumulate(probabilities);
+        final double lastSum = cumulativeProbabilities[cumulativeProbabilities.length - 1];
+
+        final List<Double> randomNumbers = new ArrayList<>(Arrays.asList(0d, Math.nextDown(1d)));
+        for (final double sum : cumulativeProbabilities) {
+            if (lastSum > 0) {
+                final double boundary = sum / lastSum;
+                randomNumbers.add(boundary);
+                randomNumbers.add(Math.nextDown(boundary));
+                randomNumbers.add(Math.nextUp(boundary));
+            }
+        }
+
+        for (final double randomNumber : randomNumbers) {
+            if (randomNumber < 0 || randomNumber >= 1) {
+                continue;
+            }
+            assertEquals("Random number " + randomNumber + " for " + Arrays.toString(probabilities),
+                    linearScan(cumulativeProbabilities, randomNumber),
+                    CumulativeBranchProbabilities.getRandomIndex(cumulativeProbabilities, randomNumber));
+        }
+    }
+
+    private static double[] cumulate(final double... probabilities) {
+        final List<Double> transitions = new ArrayList<>();
+        for (final double probability : probabilities) {
+            transitions.add(probability);
+        }
+        return CumulativeBranchProbabilities.cumulate(transitions, transition -> (Double) transition);
+    }
+
+    /**
+     * The linear scan the transition determiner used before the cumulative probabilities were
+     * searched binary.
+     */
+    private static int linearScan(final double[] cumulativeProbabilities, final double randomNumber) {
+        final double lastSum = cumulativeProbabilities[cumulativeProbabilities.length - 1];
+        for (int i = 0; i < cumulativeProbabilities.length; i++) {
+            if (lastSum * randomNumber < cumulativeProbabilities[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.junit.Test;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.pcm.parameter.ParameterFactory;
+import org.palladiosimulator.pcm.parameter.VariableCharacterisation;
+import org.palladiosimulator.pcm.parameter.VariableCharacterisationType;
+import org.palladiosimulator.pcm.parameter.VariableUsage;
+import org.palladiosimulator.simulizar.utils.SimulatedStackHelper;
+
+import de.uka.ipd.sdq.simucomframework.variables.exceptions.ValueNotInFrameException;
+import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
+import de.uka.ipd.sdq.stoex.StoexFactory;
+import de.uka.ipd.sdq.stoex.VariableReference;
+
+public class ForkResultsTest {
+
+    @Test
+    public void testSynchronousForkOutputParametersAreVisibleInParent() {
+        final SimulatedStackframe<Object> parentFrame = new SimulatedStackframe<Object>();
+        parentFrame.addValue("input.VALUE", 2);
+
+        // each forked behaviour starts with a copy of the parent's frame and sets its results
+        final SimulatedStackframe<Object> firstForkFrame = parentFrame.copyFrame();
+        final SimulatedStackframe<Object> firstResultFrame = new SimulatedStackframe<Object>();
+        SimulatedStackHelper.addParameterToStackFrame(firstForkFrame,
+                usages(variableUsage("first", "input.VALUE + 3")), firstResultFrame);
+        final SimulatedStackframe<Object> secondForkFrame = parentFrame.copyFrame();
+        final SimulatedStackframe<Object> secondResultFrame = new SimulatedStackframe<Object>();
+        SimulatedStackHelper.addParameterToStackFrame(secondForkFrame, usages(variableUsage("second", "4")),
+                secondResultFrame);
+
+        SimulatedStackHelper.addForkResultsToStackFrame(frames(firstResultFrame, secondResultFrame),
+                usages(variableUsage("result", "first.VALUE * second.VALUE + input.VALUE")), parentFrame);
+
+        assertEquals(22, getValue(parentFrame, "result.VALUE"));
+        assertEquals(2, getValue(parentFrame, "input.VALUE"));
+        // only the output parameters of the synchronisation point reach the parent
+        assertNotInFrame(parentFrame, "first.VALUE");
+        assertNotInFrame(parentFrame, "second.VALUE");
+    }
+
+    @Test
+    public void testAsynchronousForksDoNotLeakIntoParent() {
+        final SimulatedStackframe<Object> parentFrame = new SimulatedStackframe<Object>();
+        parentFrame.addValue("input.VALUE", 2);
+
+        final SimulatedStackframe<Object> asyncForkFrame = parentFrame.copyFrame();
+        SimulatedStackHelper.addParameterToStackFrame(asyncForkFrame,
+                usages(variableUsage("async", "input.VALUE * 10"), variableUsage("input", "7")), asyncForkFrame);
+        final SimulatedStackframe<Object> syncForkFrame = parentFrame.copyFrame();
+        final SimulatedStackframe<Object> syncResultFrame = new SimulatedStackframe<Object>();
+        SimulatedStackHelper.addParameterToStackFrame(syncForkFrame, usages(variableUsage("sync", "input.VALUE")),
+                syncResultFrame);
+
+        // the results of asynchronous forks are never joined
+        SimulatedStackHelper.addForkResultsToStackFrame(frames(syncResultFrame),
+                usages(variableUsage("result", "sync.VALUE")), parentFrame);
+
+        assertEquals(20, getValue(asyncForkFrame, "async.VALUE"));
+        assertEquals(2, getValue(parentFrame, "input.VALUE"));
+        assertEquals(2, getValue(parentFrame, "result.VALUE"));
+        assertNotInFrame(parentFrame, "async.VALUE");
+    }
+
+    @Test
+    public void testMissingForkResultsAreSkipped() {
+        final SimulatedStackframe<Object> parentFrame = new SimulatedStackframe<Object>();
+        final SimulatedStackframe<Object> resultFrame = new SimulatedStackframe<Object>();
+        resultFrame.addValue("sync.VALUE", 3);
+
+        SimulatedStackHelper.addForkResultsToStackFrame(frames(null, resultFrame),
+                usages(variableUsage("result", "sync.VALUE")), parentFrame);
+
+        assertEquals(3, getValue(parentFrame, "result.VALUE"));
+    }
+
+    private static VariableUsage variableUsage(final String referenceName, final String specification) {
+        final VariableReference reference = StoexFactory.eINSTANCE.createVariableReference();
+        reference.setReferenceName(referenceName);
+        final PCMRandomVariable randomVariable = CoreFactory.eINSTANCE.createPCMRandomVariable();
+        randomVariable.setSpecification(specification);
+        final VariableCharacterisation characterisation = ParameterFactory.eINSTANCE
+                .createVariableCharacterisation();
+        characterisation.setType(VariableCharacterisationType.VALUE);
+        characterisation.setSpecification_VariableCharacterisation(randomVariable);
+
+        final VariableUsage variableUsage = ParameterFactory.eINSTANCE.createVariableUsage();
+        variableUsage.setNamedReference__VariableUsage(reference);
+        variableUsage.getVariableCharacterisation_VariableUsage().add(characterisation);
+        return variableUsage;
+    }
+
+    private static EList<VariableUsage> usages(final VariableUsage... variableUsages) {
+        final EList<VariableUsage> usages = new BasicEList<VariableUsage>();
+        for (final VariableUsage variableUsage : variableUsages) {
+            usages.add(variableUsage);
+        }
+        return usages;
+    }
+
+    @SafeVarargs
+    private static SimulatedStackframe<Object>[] frames(final SimulatedStackframe<Object>... frames) {
+        return frames;
+    }
+
+    private static Object getValue(final SimulatedStackframe<Object> frame, final String id) {
+        try {
+            return frame.getValue(id);
+        } catch (final ValueNotInFrameException e) {
+            throw new AssertionError("Missing value " + id, e);
+        }
+    }
+
+    private static void assertNotInFrame(final SimulatedStackframe<Object> frame, final String id) {
+        try {
+            frame.getValue(id);
+            fail("Unexpected value " + id);
+        } catch (final ValueNotInFrameException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.repository.RepositoryPackage;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentPackage;
+import org.palladiosimulator.simulizar.access.ModelAccess;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+public class ModelAccessSnapshotTest {
+
+    private static final String OLD_PROCESSING_RATE = "1000";
+    private static final String NEW_PROCESSING_RATE = "2000";
+
+    private PCMRandomVariable processingRate;
+    private ModelAccess modelAccess;
+
+    @Before
+    public void setUp() {
+        final Repository repository = RepositoryFactory.eINSTANCE.createRepository();
+        repository.getComponents__Repository().add(RepositoryFactory.eINSTANCE.createBasicComponent());
+
+        final ResourceEnvironment resourceEnvironment = ResourceenvironmentFactory.eINSTANCE
+                .createResourceEnvironment();
+        final ResourceContainer resourceContainer = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+        final ProcessingResourceSpecification processingResource = ResourceenvironmentFactory.eINSTANCE
+                .createProcessingResourceSpecification();
+        this.processingRate = CoreFactory.eINSTANCE.createPCMRandomVariable();
+        this.processingRate.setSpecification(OLD_PROCESSING_RATE);
+        processingResource.setProcessingRate_ProcessingResourceSpecification(this.processingRate);
+        resourceContainer.getActiveResourceSpecifications_ResourceContainer().add(processingResource);
+        resourceEnvironment.getResourceContainer_ResourceEnvironment().add(resourceContainer);
+
+        final PCMResourceSetPartition pcmPartition = new PCMResourceSetPartition();
+        addResource(pcmPartition, "test.repository").getContents().add(repository);
+        addResource(pcmPartition, "test.resourceenvironment").getContents().add(resourceEnvironment);
+
+        final MDSDBlackboard blackboard = new MDSDBlackboard();
+        blackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, pcmPartition);
+        this.modelAccess = new ModelAccess(blackboard);
+        this.modelAccess.startObservingPcmChanges();
+    }
+
+    @Test
+    public void testOldSnapshotKeepsSharedResources() {
+        final PCMResourceSetPartition oldSnapshot = this.modelAccess.getLocalPCMModel();
+        assertEquals(2, oldSnapshot.getResourceSet().getResources().size());
+        final Resource oldRepositoryResource = getResourceOf(oldSnapshot, RepositoryPackage.Literals.REPOSITORY);
+        final Resource oldResourceEnvironmentResource = getResourceOf(oldSnapshot,
+                ResourceenvironmentPackage.Literals.RESOURCE_ENVIRONMENT);
+
+        this.processingRate.setSpecification(NEW_PROCESSING_RATE);
+        final PCMResourceSetPartition newSnapshot = this.modelAccess.getLocalPCMModel();
+        assertNotSame(oldSnapshot, newSnapshot);
+
+        // the unchanged repository is shared, the changed resource environment is copied again
+        assertSame(oldRepositoryResource, getResourceOf(newSnapshot, RepositoryPackage.Literals.REPOSITORY));
+        assertNotSame(oldResourceEnvironmentResource,
+                getResourceOf(newSnapshot, ResourceenvironmentPackage.Literals.RESOURCE_ENVIRONMENT));
+
+        // the old snapshot still lists and resolves all of its resources
+        assertEquals(2, oldSnapshot.getResourceSet().getResources().size());
+        assertSame(oldRepositoryResource, getResourceOf(oldSnapshot, RepositoryPackage.Literals.REPOSITORY));
+        assertSame(oldResourceEnvironmentResource,
+                getResourceOf(oldSnapshot, ResourceenvironmentPackage.Literals.RESOURCE_ENVIRONMENT));
+        assertEquals(OLD_PROCESSING_RATE, getProcessingRate(oldSnapshot));
+        assertEquals(NEW_PROCESSING_RATE, getProcessingRate(newSnapshot));
+        assertEquals(2, newSnapshot.getResourceSet().getResources().size());
+    }
+
+    private static Resource addResource(final PCMResourceSetPartition partition, final String path) {
+        final Resource resource = new ResourceImpl(URI.createFileURI(path));
+        partition.getResourceSet().getResources().add(resource);
+        return resource;
+    }
+
+    private static Resource getResourceOf(final PCMResourceSetPartition partition, final EClass rootType) {
+        for (final Resource resource : partition.getResourceSet().getResources()) {
+            if (!resource.getContents().isEmpty() && rootType.isInstance(resource.getContents().get(0))) {
+                return resource;
+            }
+        }
+        throw new AssertionError("No resource containing a " + rootType.getName());
+    }
+
+    private static String getProcessingRate(final PCMResourceSetPartition partition) {
+        final ResourceEnvironment resourceEnvironment = partition
+                .<ResourceEnvironment> getElement(ResourceenvironmentPackage.Literals.RESOURCE_ENVIRONMENT).get(0);
+        return resourceEnvironment.getResourceContainer_ResourceEnvironment().get(0)
+                .getActiveResourceSpecifications_ResourceContainer().get(0)
+                .getProcessingRate_ProcessingResourceSpecification().getSpecification();
+    }
+}
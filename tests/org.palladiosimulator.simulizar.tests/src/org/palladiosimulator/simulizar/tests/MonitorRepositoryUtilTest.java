@@ -0,0 +1,240 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.Monitor;
+import org.palladiosimulator.monitorrepository.MonitorRepository;
+import org.palladiosimulator.monitorrepository.MonitorRepositoryFactory;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.OperationProvidedRole;
+import org.palladiosimulator.pcm.repository.OperationRequiredRole;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.PassiveResource;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelFactory;
+import org.palladiosimulator.pcmmeasuringpoint.ActiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyPassiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.EntryLevelSystemCallMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ExternalCallActionMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.PcmmeasuringpointFactory;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceContainerMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceEnvironmentMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.SystemOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.UsageScenarioMeasuringPoint;
+import org.palladiosimulator.simulizar.utils.MonitorRepositoryIndex;
+import org.palladiosimulator.simulizar.utils.MonitorRepositoryUtil;
+
+public class MonitorRepositoryUtilTest {
+
+    private MonitorRepository monitorRepository;
+    private ProcessingResourceSpecification processingResource;
+    private Monitor activeMonitor;
+
+    @Before
+    public void setUp() {
+        final ResourceContainer resourceContainer = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+        resourceContainer.setId("resourceContainer");
+        this.processingResource = ResourceenvironmentFactory.eINSTANCE.createProcessingResourceSpecification();
+        this.processingResource.setId("processingResource");
+        resourceContainer.getActiveResourceSpecifications_ResourceContainer().add(this.processingResource);
+
+        final ActiveResourceMeasuringPoint measuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createActiveResourceMeasuringPoint();
+        measuringPoint.setActiveResource(this.processingResource);
+
+        this.monitorRepository = MonitorRepositoryFactory.eINSTANCE.createMonitorRepository();
+        // inactive monitors are neither checked nor required to have a supported measuring point
+        this.monitorRepository.getMonitors().add(createMonitor(false));
+        this.activeMonitor = createMonitor(true);
+        this.activeMonitor.setMeasuringPoint(measuringPoint);
+        this.monitorRepository.getMonitors().add(this.activeMonitor);
+    }
+
+    @Test
+    public void testInactiveMonitorsWithoutMeasuringPointAreSkipped() {
+        final List<Monitor> monitors = MonitorRepositoryUtil.getActiveMonitorsForElement(this.monitorRepository,
+                this.processingResource);
+        assertEquals(1, monitors.size());
+        assertSame(this.activeMonitor, monitors.get(0));
+
+        final List<MeasurementSpecification> measurementSpecifications = MonitorRepositoryUtil
+                .getMeasurementSpecificationsForElement(this.monitorRepository, this.processingResource);
+        assertEquals(1, measurementSpecifications.size());
+        assertSame(this.activeMonitor, measurementSpecifications.get(0).getMonitor());
+    }
+
+    @Test
+    public void testDeactivatedMonitorIsNotReturned() {
+        this.activeMonitor.setActivated(false);
+
+        assertEquals(0, MonitorRepositoryUtil
+                .getActiveMonitorsForElement(this.monitorRepository, this.processingResource).size());
+        assertEquals(0, MonitorRepositoryUtil
+                .getMeasurementSpecificationsForElement(this.monitorRepository, this.processingResource).size());
+    }
+
+    @Test
+    public void testMissingMonitorRepository() {
+        assertEquals(0, MonitorRepositoryUtil.getActiveMonitorsForElement(null, this.processingResource).size());
+        assertNull(MonitorRepositoryUtil.isMonitored(null, this.processingResource,
+                MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE));
+    }
+
+    /**
+     * The index matches PCM measuring points by keys instead of checking each monitor, so it has
+     * to find exactly the monitors whose measuring points the elements conform to.
+     */
+    @Test
+    public void testIndexAgreesWithMeasuringPointConformance() {
+        final ResourceEnvironment resourceEnvironment = ResourceenvironmentFactory.eINSTANCE
+                .createResourceEnvironment();
+        resourceEnvironment.setEntityName("resourceEnvironment");
+        final ResourceEnvironment otherResourceEnvironment = ResourceenvironmentFactory.eINSTANCE
+                .createResourceEnvironment();
+        otherResourceEnvironment.setEntityName("otherResourceEnvironment");
+        final ProcessingResourceSpecification otherProcessingResource = createProcessingResource("other");
+
+        final PassiveResource passiveResource = entity(RepositoryFactory.eINSTANCE.createPassiveResource(),
+                "passiveResource");
+        final PassiveResource otherPassiveResource = entity(RepositoryFactory.eINSTANCE.createPassiveResource(),
+                "otherPassiveResource");
+        final OperationSignature signature = entity(RepositoryFactory.eINSTANCE.createOperationSignature(),
+                "signature");
+        final OperationSignature otherSignature = entity(RepositoryFactory.eINSTANCE.createOperationSignature(),
+                "otherSignature");
+        final OperationRequiredRole requiredRole = entity(RepositoryFactory.eINSTANCE.createOperationRequiredRole(),
+                "requiredRole");
+        final OperationProvidedRole providedRole = entity(RepositoryFactory.eINSTANCE.createOperationProvidedRole(),
+                "providedRole");
+
+        final ExternalCallAction externalCall = createExternalCall("externalCall", signature, requiredRole);
+        final ExternalCallAction otherExternalCall = createExternalCall("otherExternalCall", otherSignature,
+                requiredRole);
+        final EntryLevelSystemCall systemCall = createSystemCall("systemCall", signature, providedRole);
+        final EntryLevelSystemCall otherSystemCall = createSystemCall("otherSystemCall", otherSignature,
+                providedRole);
+        final UsageScenario usageScenario = entity(UsagemodelFactory.eINSTANCE.createUsageScenario(),
+                "usageScenario");
+        final UsageScenario otherUsageScenario = entity(UsagemodelFactory.eINSTANCE.createUsageScenario(),
+                "otherUsageScenario");
+
+        final AssemblyOperationMeasuringPoint assemblyOperationMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createAssemblyOperationMeasuringPoint();
+        assemblyOperationMeasuringPoint.setOperationSignature(signature);
+        assemblyOperationMeasuringPoint.setRole(requiredRole);
+        final AssemblyPassiveResourceMeasuringPoint passiveResourceMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createAssemblyPassiveResourceMeasuringPoint();
+        passiveResourceMeasuringPoint.setPassiveResource(passiveResource);
+        final SystemOperationMeasuringPoint systemOperationMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createSystemOperationMeasuringPoint();
+        systemOperationMeasuringPoint.setOperationSignature(signature);
+        systemOperationMeasuringPoint.setRole(providedRole);
+        final UsageScenarioMeasuringPoint usageScenarioMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createUsageScenarioMeasuringPoint();
+        usageScenarioMeasuringPoint.setUsageScenario(usageScenario);
+        final ResourceEnvironmentMeasuringPoint resourceEnvironmentMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createResourceEnvironmentMeasuringPoint();
+        resourceEnvironmentMeasuringPoint.setResourceEnvironment(resourceEnvironment);
+        final ResourceContainerMeasuringPoint resourceContainerMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createResourceContainerMeasuringPoint();
+        resourceContainerMeasuringPoint.setResourceContainer(
+                this.processingResource.getResourceContainer_ProcessingResourceSpecification());
+        final ExternalCallActionMeasuringPoint externalCallMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createExternalCallActionMeasuringPoint();
+        externalCallMeasuringPoint.setExternalCall(externalCall);
+        final EntryLevelSystemCallMeasuringPoint systemCallMeasuringPoint = PcmmeasuringpointFactory.eINSTANCE
+                .createEntryLevelSystemCallMeasuringPoint();
+        systemCallMeasuringPoint.setEntryLevelSystemCall(systemCall);
+
+        final List<MeasuringPoint> measuringPoints = Arrays.<MeasuringPoint> asList(
+                this.activeMonitor.getMeasuringPoint(), assemblyOperationMeasuringPoint,
+                passiveResourceMeasuringPoint, systemOperationMeasuringPoint, usageScenarioMeasuringPoint,
+                resourceEnvironmentMeasuringPoint, resourceContainerMeasuringPoint, externalCallMeasuringPoint,
+                systemCallMeasuringPoint);
+        final MonitorRepository repository = MonitorRepositoryFactory.eINSTANCE.createMonitorRepository();
+        for (final MeasuringPoint measuringPoint : measuringPoints) {
+            final Monitor monitor = createMonitor(true);
+            monitor.setMeasuringPoint(measuringPoint);
+            repository.getMonitors().add(monitor);
+        }
+
+        final List<EObject> elements = Arrays.<EObject> asList(this.processingResource,
+                this.processingResource.getResourceContainer_ProcessingResourceSpecification(),
+                otherProcessingResource, otherProcessingResource.getResourceContainer_ProcessingResourceSpecification(),
+                resourceEnvironment, otherResourceEnvironment, passiveResource, otherPassiveResource, externalCall,
+                otherExternalCall, systemCall, otherSystemCall, usageScenario, otherUsageScenario, signature);
+        for (final EObject element : elements) {
+            final List<Monitor> conformingMonitors = new ArrayList<Monitor>();
+            for (final Monitor monitor : repository.getMonitors()) {
+                if (MonitorRepositoryUtil.elementConformingToMeasuringPoint(element, monitor.getMeasuringPoint())) {
+                    conformingMonitors.add(monitor);
+                }
+            }
+            assertEquals("Monitors of " + element, conformingMonitors,
+                    MonitorRepositoryIndex.of(repository).getActiveMonitors(element));
+        }
+    }
+
+    private static ProcessingResourceSpecification createProcessingResource(final String id) {
+        final ResourceContainer resourceContainer = entity(
+                ResourceenvironmentFactory.eINSTANCE.createResourceContainer(), id + "ResourceContainer");
+        final ProcessingResourceSpecification processingResource = ResourceenvironmentFactory.eINSTANCE
+                .createProcessingResourceSpecification();
+        processingResource.setId(id + "ProcessingResource");
+        resourceContainer.getActiveResourceSpecifications_ResourceContainer().add(processingResource);
+        return processingResource;
+    }
+
+    private static ExternalCallAction createExternalCall(final String id, final OperationSignature signature,
+            final OperationRequiredRole role) {
+        final ExternalCallAction externalCall = entity(SeffFactory.eINSTANCE.createExternalCallAction(), id);
+        externalCall.setCalledService_ExternalService(signature);
+        externalCall.setRole_ExternalService(role);
+        return externalCall;
+    }
+
+    private static EntryLevelSystemCall createSystemCall(final String id, final OperationSignature signature,
+            final OperationProvidedRole role) {
+        final EntryLevelSystemCall systemCall = entity(UsagemodelFactory.eINSTANCE.createEntryLevelSystemCall(), id);
+        systemCall.setOperationSignature__EntryLevelSystemCall(signature);
+        systemCall.setProvidedRole_EntryLevelSystemCall(role);
+        return systemCall;
+    }
+
+    private static <T extends Entity> T entity(final T entity, final String id) {
+        entity.setId(id);
+        entity.setEntityName(id);
+        return entity;
+    }
+
+    private static Monitor createMonitor(final boolean activated) {
+        final Monitor monitor = MonitorRepositoryFactory.eINSTANCE.createMonitor();
+        monitor.setActivated(activated);
+        final MeasurementSpecification measurementSpecification = MonitorRepositoryFactory.eINSTANCE
+                .createMeasurementSpecification();
+        measurementSpecification.setMetricDescription(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+        monitor.getMeasurementSpecifications().add(measurementSpecification);
+        return monitor;
+    }
+}
@@ -0,0 +1,166 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.monitorrepository.MeasurementSpecification;
+import org.palladiosimulator.monitorrepository.MonitorRepositoryFactory;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementFactory;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
+import org.palladiosimulator.simulizar.metrics.PRMRecorder;
+import org.palladiosimulator.simulizar.metrics.PRMUpdateBatcher;
+import org.palladiosimulator.simulizar.metrics.PRMUpdateBatcher.FlushScheduler;
+
+public class PRMUpdateBatcherTest {
+
+    private static final double DELTA = Math.pow(10, -9);
+
+    private RuntimeMeasurementModel runtimeMeasurementModel;
+    private ManualFlushScheduler flushScheduler;
+    private List<Notification> notifications;
+    private TestRecorder firstRecorder;
+    private TestRecorder secondRecorder;
+
+    @Before
+    public void setUp() {
+        this.runtimeMeasurementModel = RuntimeMeasurementFactory.eINSTANCE.createRuntimeMeasurementModel();
+        this.flushScheduler = new ManualFlushScheduler();
+        this.firstRecorder = new TestRecorder(this.runtimeMeasurementModel);
+        this.secondRecorder = new TestRecorder(this.runtimeMeasurementModel);
+
+        this.notifications = new ArrayList<>();
+        this.runtimeMeasurementModel.eAdapters().add(new EContentAdapter() {
+            @Override
+            public void notifyChanged(final Notification notification) {
+                super.notifyChanged(notification);
+                if (notification
+                        .getFeature() == RuntimeMeasurementPackage.Literals.RUNTIME_MEASUREMENT__MEASURING_VALUE) {
+                    PRMUpdateBatcherTest.this.notifications.add(notification);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testUpdatesOfOneTimeInstantNotifyOncePerMeasurementWithFinalValue() {
+        final PRMUpdateBatcher batcher = PRMUpdateBatcher.attach(this.runtimeMeasurementModel, this.flushScheduler);
+
+        this.firstRecorder.update(1d);
+        this.secondRecorder.update(5d);
+        this.firstRecorder.update(2d);
+        this.firstRecorder.update(3d);
+
+        // nothing is applied before the end of the time instant
+        assertEquals(1, this.flushScheduler.scheduledFlushes);
+        assertTrue(this.notifications.isEmpty());
+
+        this.flushScheduler.flush();
+
+        assertEquals(2, this.notifications.size());
+        assertSame(this.firstRecorder.getMeasurement(), this.notifications.get(0).getNotifier());
+        assertEquals(3d, this.notifications.get(0).getNewDoubleValue(), DELTA);
+        assertSame(this.secondRecorder.getMeasurement(), this.notifications.get(1).getNotifier());
+        assertEquals(5d, this.notifications.get(1).getNewDoubleValue(), DELTA);
+        assertEquals(3d, this.firstRecorder.getMeasurement().getMeasuringValue(), DELTA);
+        assertEquals(5d, this.secondRecorder.getMeasurement().getMeasuringValue(), DELTA);
+
+        // the next time instant schedules a new flush
+        this.secondRecorder.update(6d);
+        assertEquals(2, this.flushScheduler.scheduledFlushes);
+        batcher.detach();
+        assertEquals(3, this.notifications.size());
+        assertEquals(6d, this.secondRecorder.getMeasurement().getMeasuringValue(), DELTA);
+    }
+
+    @Test
+    public void testUpdatesAreAppliedDirectlyAfterDetach() {
+        final PRMUpdateBatcher batcher = PRMUpdateBatcher.attach(this.runtimeMeasurementModel, this.flushScheduler);
+        this.firstRecorder.update(1d);
+        batcher.detach();
+
+        assertTrue(this.flushScheduler.cancelled);
+        assertEquals(1, this.notifications.size());
+
+        this.firstRecorder.update(2d);
+        assertEquals(2, this.notifications.size());
+        assertEquals(2d, this.firstRecorder.getMeasurement().getMeasuringValue(), DELTA);
+        assertEquals(1, this.flushScheduler.scheduledFlushes);
+    }
+
+    @Test
+    public void testRecordersUseBatcherOfSubsequentRun() {
+        PRMUpdateBatcher.attach(this.runtimeMeasurementModel, this.flushScheduler);
+        this.firstRecorder.update(1d);
+        this.flushScheduler.flush();
+
+        // a subsequent run replaces the batcher the recorders have used so far
+        final ManualFlushScheduler subsequentFlushScheduler = new ManualFlushScheduler();
+        PRMUpdateBatcher.attach(this.runtimeMeasurementModel, subsequentFlushScheduler);
+        this.firstRecorder.update(2d);
+
+        assertEquals(1, this.flushScheduler.scheduledFlushes);
+        assertEquals(1, subsequentFlushScheduler.scheduledFlushes);
+        assertEquals(1, this.notifications.size());
+        subsequentFlushScheduler.flush();
+        assertEquals(2d, this.firstRecorder.getMeasurement().getMeasuringValue(), DELTA);
+    }
+
+    private static final class ManualFlushScheduler implements FlushScheduler {
+
+        private PRMUpdateBatcher batcher;
+        private int scheduledFlushes;
+        private boolean cancelled;
+
+        @Override
+        public void scheduleFlush(final PRMUpdateBatcher batcher) {
+            this.batcher = batcher;
+            this.scheduledFlushes++;
+        }
+
+        @Override
+        public void cancelFlush() {
+            this.cancelled = true;
+            this.batcher = null;
+        }
+
+        private void flush() {
+            assertFalse(this.cancelled);
+            final PRMUpdateBatcher batcher = this.batcher;
+            this.batcher = null;
+            batcher.flush();
+        }
+    }
+
+    private static final class TestRecorder extends PRMRecorder {
+
+        private TestRecorder(final RuntimeMeasurementModel runtimeMeasurementModel) {
+            super(runtimeMeasurementModel, createMeasurementSpecification(), null);
+        }
+
+        private void update(final double value) {
+            updateMeasurementValue(value);
+        }
+
+        private RuntimeMeasurement getMeasurement() {
+            return getPRMMeasurement();
+        }
+
+        private static MeasurementSpecification createMeasurementSpecification() {
+            final MeasurementSpecification measurementSpecification = MonitorRepositoryFactory.eINSTANCE
+                    .createMeasurementSpecification();
+            measurementSpecification.setTriggersSelfAdaptations(true);
+            return measurementSpecification;
+        }
+    }
+}
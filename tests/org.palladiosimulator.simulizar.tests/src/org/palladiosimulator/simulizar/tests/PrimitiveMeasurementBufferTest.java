@@ -0,0 +1,172 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Test;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.simulizar.utils.PrimitiveMeasurementBuffer;
+
+public class PrimitiveMeasurementBufferTest {
+
+    private static final NumericalBaseMetricDescription RESPONSE_TIME_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC;
+    private static final NumericalBaseMetricDescription STATE_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC;
+    private static final double DELTA = Math.pow(10, -9);
+
+    @Test
+    public void testFullBufferIteratesChronologically() {
+        // fixed size aggregators overwrite the eldest element, the former buffer iterated in
+        // storage order after wrapping around
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(RESPONSE_TIME_METRIC, 3, false);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(responseTime(i, 10d * i));
+        }
+
+        assertTrue(buffer.isFull());
+        assertEquals(2d, buffer.getEldestPointInTime(), DELTA);
+        assertEquals(4d, buffer.getNewestPointInTime(), DELTA);
+        final List<MeasuringValue> measurements = toList(buffer.asMeasurements());
+        assertEquals(3, measurements.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2d + i, getPointInTime(measurements.get(i)), DELTA);
+            assertEquals(10d * (2 + i), getValue(measurements.get(i), RESPONSE_TIME_METRIC), DELTA);
+        }
+    }
+
+    @Test
+    public void testGrowableBufferKeepsAllElementsInOrder() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(RESPONSE_TIME_METRIC, 2, true);
+        buffer.add(responseTime(0, 1d));
+        buffer.add(responseTime(1, 2d));
+        buffer.removeFirst();
+        for (int i = 2; i < 6; i++) {
+            buffer.add(responseTime(i, i + 1d));
+        }
+
+        assertEquals(5, buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertEquals(i + 1d, buffer.getPointInTime(i), DELTA);
+        }
+    }
+
+    @Test
+    public void testDiscreteArithmeticMean() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(RESPONSE_TIME_METRIC, 3, false);
+        buffer.add(responseTime(0, 4d));
+        buffer.add(responseTime(1, 2d));
+        buffer.add(responseTime(2, 6d));
+        assertEquals(4d, buffer.getArithmeticMean(0, 2), DELTA);
+
+        buffer.removeFirst();
+        assertEquals(4d, buffer.getArithmeticMean(1, 2), DELTA);
+
+        buffer.add(responseTime(3, 10d));
+        buffer.add(responseTime(4, 5d));
+        // the full buffer evicts the value 2
+        assertEquals(7d, buffer.getArithmeticMean(2, 4), DELTA);
+    }
+
+    @Test
+    public void testContinuousArithmeticMeanIsWeightedByDuration() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(STATE_METRIC, 4, true);
+        buffer.add(state(0, 1));
+        buffer.add(state(2, 3));
+        buffer.add(state(3, 0));
+
+        // value 1 is valid for [1, 2), value 3 for [2, 3) and value 0 for [3, 4)
+        assertTrue(buffer.canComputeArithmeticMean(1, 4));
+        assertEquals(4d / 3d, buffer.getArithmeticMean(1, 4), DELTA);
+        // no value is defined before the eldest element
+        assertFalse(buffer.canComputeArithmeticMean(-1, 4));
+        assertFalse(buffer.canComputeArithmeticMean(1, 2.5));
+    }
+
+    @Test
+    public void testEvictPriorToKeepsLastContinuousValue() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(STATE_METRIC, 4, true);
+        buffer.add(state(0, 1));
+        buffer.add(state(2, 3));
+        buffer.add(state(3, 0));
+
+        buffer.evictPriorTo(2.5);
+
+        assertEquals(2, buffer.size());
+        assertEquals(2d, buffer.getEldestPointInTime(), DELTA);
+        assertEquals(1.5d, buffer.getArithmeticMean(2.5, 3.5), DELTA);
+    }
+
+    @Test
+    public void testEvictPriorToDiscardsDiscreteValues() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(RESPONSE_TIME_METRIC, 4, true);
+        buffer.add(responseTime(0, 1d));
+        buffer.add(responseTime(2, 3d));
+        buffer.add(responseTime(3, 5d));
+
+        buffer.evictPriorTo(2.5);
+
+        assertEquals(1, buffer.size());
+        assertEquals(5d, buffer.getArithmeticMean(2.5, 3.5), DELTA);
+    }
+
+    @Test
+    public void testEvictionOfLargeValueKeepsSmallValues() {
+        final PrimitiveMeasurementBuffer buffer = new PrimitiveMeasurementBuffer(RESPONSE_TIME_METRIC, 16, true);
+        buffer.add(responseTime(0, 1e16));
+        for (int i = 1; i <= 10; i++) {
+            // each of these values is lost when added to the large one without compensation
+            buffer.add(responseTime(i, 1d));
+        }
+
+        buffer.evictPriorTo(0.5);
+
+        assertEquals(10, buffer.size());
+        assertEquals(1d, buffer.getArithmeticMean(1, 10), DELTA);
+    }
+
+    private static MeasuringValue responseTime(final double pointInTime, final double value) {
+        return measurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, pointInTime, value, SI.SECOND);
+    }
+
+    private static MeasuringValue state(final double pointInTime, final double value) {
+        return measurement(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE, pointInTime, value,
+                Unit.ONE);
+    }
+
+    private static MeasuringValue measurement(final MetricSetDescription metric, final double pointInTime,
+            final double value, final Unit<? extends Quantity> unit) {
+        return new TupleMeasurement(metric, Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(value, unit));
+    }
+
+    private static List<MeasuringValue> toList(final Iterable<MeasuringValue> measurements) {
+        final List<MeasuringValue> result = new ArrayList<>();
+        for (final MeasuringValue measurement : measurements) {
+            result.add(measurement);
+        }
+        return result;
+    }
+
+    private static double getPointInTime(final MeasuringValue measurement) {
+        final Measure<Double, Duration> pointInTime = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.doubleValue(SI.SECOND);
+    }
+
+    private static double getValue(final MeasuringValue measurement, final NumericalBaseMetricDescription metric) {
+        final Measure<Double, Quantity> value = measurement.getMeasureForMetric(metric);
+        return value.doubleValue(metric.getDefaultUnit());
+    }
+}